@@ -1,8 +1,14 @@
 package com.gabia.gyebalja;
 
 import com.gabia.gyebalja.common.interceptor.JwtInterceptor;
+import com.gabia.gyebalja.common.interceptor.MetricsAdminInterceptor;
+import com.gabia.gyebalja.common.interceptor.RequestMetricsInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -11,7 +17,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * Author : 이현재
- * Part : addResourceHandlers()
+ * Part : addResourceHandlers(), addInterceptors() - RequestMetricsInterceptor, configureAsyncSupport()
  * Author : 정태균
  * Part : addInterceptors(), addCorsMappings()
  */
@@ -33,11 +39,45 @@ public class WebConfig implements WebMvcConfigurer {
     @Autowired
     private JwtInterceptor jwtInterceptor;
 
+    @Autowired
+    private RequestMetricsInterceptor requestMetricsInterceptor;
+
+    @Autowired
+    private MetricsAdminInterceptor metricsAdminInterceptor;
+
+    @Value("${gyebalja.metrics.enabled:false}")
+    private boolean metricsEnabled;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    // StreamingResponseBody(교육 이력 export 등) 응답 제한 시간
+    @Value("${gyebalja.async.timeout-ms:600000}")
+    private long asyncTimeoutMs;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 인증 실패 요청도 집계하기 위해 JwtInterceptor 보다 먼저 등록
+        if (metricsEnabled) {
+            registry.addInterceptor(requestMetricsInterceptor)
+                    .addPathPatterns("/**");
+        }
+
         registry.addInterceptor(jwtInterceptor)
                 .addPathPatterns("/**")
                 .excludePathPatterns(EXCLUDE_PATHS);
+
+        // 지표 조회/초기화, 교육 일괄 등록/전체 export 는 관리자만
+        registry.addInterceptor(metricsAdminInterceptor)
+                .addPathPatterns("/api/v1/metrics/**", "/api/v1/educations/import", "/api/v1/educations/export");
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // @EnableWebMvc 사용 시 기본값은 요청마다 스레드를 생성하는 SimpleAsyncTaskExecutor 이므로 스레드 풀로 교체
+        configurer.setTaskExecutor(applicationTaskExecutor);
+        configurer.setDefaultTimeout(asyncTimeoutMs);
     }
 
     @Override
@@ -20,6 +20,7 @@ public enum StatusCode {
     // --- 4xx Client Error ---
     BAD_REQUEST("400", "BAD_REQUEST"),
     UNAUTHORIZED("401", "Unauthorized"),
+    FORBIDDEN("403", "FORBIDDEN"),
     NOT_FOUND("404", "NOT_FOUND"),
     METHOD_NOT_ALLOWED("405", "METHOD_NOT_ALLOWED"),
 
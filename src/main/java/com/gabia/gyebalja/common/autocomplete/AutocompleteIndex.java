@@ -0,0 +1,207 @@
+package com.gabia.gyebalja.common.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 접두어 자동완성 인덱스 (메모리 trie)
+ * - 이름 trie 와 초성 trie 두 개를 유지, 검색어에 초성 자모가 있으면 초성 trie 에서 검색 (예 : "ㅈㅂ", "자ㅂ" -> "자바")
+ * - 각 노드는 하위 트리의 상위 MAX_LIMIT 건(점수 내림차순, 이름 오름차순)을 미리 계산해 두므로 검색은 검색어 길이만큼의 탐색으로 끝남
+ * - 등록/수정/삭제 시 해당 키 경로의 노드만 다시 계산
+ * - 이름은 소문자로, 앞의 '#' 은 제거하고 색인
+ * - 한 항목을 여러 키로 색인할 수 있음 (예 : 사용자 이름, 영문 이름, 이메일, 부서명)
+ */
+public class AutocompleteIndex {
+
+    public static final int MAX_LIMIT = 20;
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::getScore).reversed()
+            .thenComparing(Entry::getName)
+            .thenComparingLong(Entry::getId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node nameRoot = new Node();
+    private final Node chosungRoot = new Node();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    /** 등록/수정 (같은 id 가 있으면 교체) */
+    public void put(long id, String name, long score) {
+        put(id, name, score, Collections.singletonList(name));
+    }
+
+    /** 등록/수정 - name 대신 keys 로 색인 (같은 id 가 있으면 교체) */
+    public void put(long id, String name, long score, Collection<String> keys) {
+        Set<String> normalizedKeys = new LinkedHashSet<>();
+        for (String key : keys) {
+            String normalized = normalize(key);
+            if (!normalized.isEmpty()) normalizedKeys.add(normalized);
+        }
+        Entry entry = new Entry(id, name, score, normalizedKeys);
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(id, entry);
+            if (previous != null) removeEntry(previous);
+
+            for (String key : normalizedKeys) {
+                insert(nameRoot, key, entry);
+                if (HangulChosung.containsSyllable(key)) insert(chosungRoot, HangulChosung.toChosung(key), entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(id);
+            if (previous != null) removeEntry(previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 검색 - 접두어가 일치하는 항목 상위 limit 건 (limit 최대 MAX_LIMIT) */
+    public List<Entry> search(String query, int limit) {
+        String key = normalize(query);
+        if (key.isEmpty() || limit <= 0) return Collections.emptyList();
+
+        boolean chosung = HangulChosung.containsChosung(key);
+        Node root = chosung ? chosungRoot : nameRoot;
+        String path = chosung ? HangulChosung.toChosung(key) : key;
+
+        lock.readLock().lock();
+        try {
+            Node node = find(root, path);
+            if (node == null) return Collections.emptyList();
+
+            List<Entry> top = node.top;
+            return new ArrayList<>(top.subList(0, Math.min(limit, top.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) return "";
+        String trimmed = text.trim();
+        int begin = 0;
+        while (begin < trimmed.length() && trimmed.charAt(begin) == '#') begin++;
+        return trimmed.substring(begin).toLowerCase(Locale.ROOT);
+    }
+
+    private void removeEntry(Entry entry) {
+        for (String key : entry.keys) {
+            delete(nameRoot, key, entry);
+            if (HangulChosung.containsSyllable(key)) delete(chosungRoot, HangulChosung.toChosung(key), entry);
+        }
+    }
+
+    private static void insert(Node root, String key, Entry entry) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        path[key.length()].terminals.add(entry);
+        for (int i = key.length(); i >= 0; i--) {
+            path[i].recompute();
+        }
+    }
+
+    private static void delete(Node root, String key, Entry entry) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].children.get(key.charAt(i));
+            if (path[i + 1] == null) return;
+        }
+        path[key.length()].terminals.remove(entry);
+        for (int i = key.length(); i >= 0; i--) {
+            if (i > 0 && path[i].isEmpty()) {
+                path[i - 1].children.remove(key.charAt(i - 1));
+            }
+            path[i].recompute();
+        }
+    }
+
+    private static Node find(Node root, String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Entry> terminals = new ArrayList<>(1);
+        private List<Entry> top = Collections.emptyList();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && terminals.isEmpty();
+        }
+
+        /** 이 노드에서 끝나는 항목과 자식 노드들의 상위 항목을 합쳐 상위 MAX_LIMIT 건 계산 (여러 키로 색인된 항목은 한 번만) */
+        private void recompute() {
+            Set<Entry> merged = new LinkedHashSet<>(terminals);
+            for (Node child : children.values()) {
+                merged.addAll(child.top);
+            }
+            List<Entry> candidates = new ArrayList<>(merged);
+            candidates.sort(RANKING);
+            top = candidates.size() > MAX_LIMIT ? new ArrayList<>(candidates.subList(0, MAX_LIMIT)) : candidates;
+        }
+    }
+
+    public static class Entry {
+        private final long id;
+        private final String name;
+        private final long score;
+        private final Set<String> keys;
+
+        private Entry(long id, String name, long score, Set<String> keys) {
+            this.id = id;
+            this.name = name;
+            this.score = score;
+            this.keys = keys;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.gabia.gyebalja.common.autocomplete;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 한글 초성 변환
+ * - 완성형 음절(가 ~ 힣)은 초성 자모(ㄱ ~ ㅎ)로 바꾸고 나머지 문자는 그대로 둠 (예 : "자바8" -> "ㅈㅂ8")
+ */
+public final class HangulChosung {
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int JUNGSUNG_JONGSUNG_COUNT = 21 * 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulChosung() {
+    }
+
+    public static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(isSyllable(c) ? CHOSUNG[(c - HANGUL_BEGIN) / JUNGSUNG_JONGSUNG_COUNT] : c);
+        }
+        return sb.toString();
+    }
+
+    /** 완성형 한글 음절 포함 여부 */
+    public static boolean containsSyllable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i))) return true;
+        }
+        return false;
+    }
+
+    /** 초성(자음) 자모 포함 여부 - 검색어에 포함되어 있으면 초성 검색 */
+    public static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') return true;
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BEGIN && c <= HANGUL_END;
+    }
+}
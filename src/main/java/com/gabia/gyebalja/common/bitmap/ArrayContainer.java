@@ -0,0 +1,120 @@
+package com.gabia.gyebalja.common.bitmap;
+
+import java.util.Arrays;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/** 정렬된 char 배열 컨테이너 (원소 ARRAY_MAX_SIZE 개 이하) */
+class ArrayContainer extends Container {
+
+    private char[] content;
+    private int cardinality;
+
+    ArrayContainer() {
+        this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] content, int cardinality) {
+        this.content = content;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char x) {
+        int i = Arrays.binarySearch(content, 0, cardinality, x);
+        if (i >= 0) return this;
+        if (cardinality >= ARRAY_MAX_SIZE) return toBitmapContainer().add(x);
+
+        int index = -i - 1;
+        if (cardinality == content.length) content = Arrays.copyOf(content, Math.min(content.length * 2, ARRAY_MAX_SIZE));
+        System.arraycopy(content, index, content, index + 1, cardinality - index);
+        content[index] = x;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    Container remove(char x) {
+        int i = Arrays.binarySearch(content, 0, cardinality, x);
+        if (i < 0) return this;
+
+        System.arraycopy(content, i + 1, content, i, cardinality - i - 1);
+        cardinality--;
+        return this;
+    }
+
+    @Override
+    boolean contains(char x) {
+        return Arrays.binarySearch(content, 0, cardinality, x) >= 0;
+    }
+
+    @Override
+    int getCardinality() {
+        return cardinality;
+    }
+
+    @Override
+    char[] toCharArray() {
+        return Arrays.copyOf(content, cardinality);
+    }
+
+    @Override
+    Container copy() {
+        return new ArrayContainer(Arrays.copyOf(content, Math.max(cardinality, 4)), cardinality);
+    }
+
+    BitmapContainer toBitmapContainer() {
+        BitmapContainer bitmap = new BitmapContainer();
+        for (int i = 0; i < cardinality; i++) {
+            bitmap.set(content[i]);
+        }
+        return bitmap;
+    }
+
+    /** other 에 포함된(include = true) 또는 포함되지 않은(include = false) 값만 남긴 새 컨테이너 */
+    private ArrayContainer filter(Container other, boolean include) {
+        char[] result = new char[Math.max(cardinality, 4)];
+        int n = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (other.contains(content[i]) == include) result[n++] = content[i];
+        }
+        return new ArrayContainer(result, n);
+    }
+
+    @Override
+    Container and(Container other) {
+        return filter(other, true);
+    }
+
+    @Override
+    Container or(Container other) {
+        if (other instanceof BitmapContainer) return other.or(this);
+
+        ArrayContainer o = (ArrayContainer) other;
+        char[] merged = new char[cardinality + o.cardinality];
+        int i = 0, j = 0, n = 0;
+        while (i < cardinality && j < o.cardinality) {
+            if (content[i] < o.content[j]) {
+                merged[n++] = content[i++];
+            } else if (content[i] > o.content[j]) {
+                merged[n++] = o.content[j++];
+            } else {
+                merged[n++] = content[i++];
+                j++;
+            }
+        }
+        while (i < cardinality) merged[n++] = content[i++];
+        while (j < o.cardinality) merged[n++] = o.content[j++];
+
+        ArrayContainer result = new ArrayContainer(merged, n);
+        return n > ARRAY_MAX_SIZE ? result.toBitmapContainer() : result;
+    }
+
+    @Override
+    Container andNot(Container other) {
+        return filter(other, false);
+    }
+}
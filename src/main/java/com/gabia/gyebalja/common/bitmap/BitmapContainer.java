@@ -0,0 +1,130 @@
+package com.gabia.gyebalja.common.bitmap;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/** 65536 비트 비트맵 컨테이너 (원소 ARRAY_MAX_SIZE 개 초과) */
+class BitmapContainer extends Container {
+
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer() {
+        this(new long[1 << 10], 0);
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    void set(char x) {
+        long before = words[x >>> 6];
+        words[x >>> 6] = before | (1L << x);
+        if (before != words[x >>> 6]) cardinality++;
+    }
+
+    @Override
+    Container add(char x) {
+        set(x);
+        return this;
+    }
+
+    @Override
+    Container remove(char x) {
+        long before = words[x >>> 6];
+        words[x >>> 6] = before & ~(1L << x);
+        if (before != words[x >>> 6]) cardinality--;
+        return cardinality <= ARRAY_MAX_SIZE ? toArrayContainer() : this;
+    }
+
+    @Override
+    boolean contains(char x) {
+        return (words[x >>> 6] & (1L << x)) != 0;
+    }
+
+    @Override
+    int getCardinality() {
+        return cardinality;
+    }
+
+    @Override
+    char[] toCharArray() {
+        char[] values = new char[cardinality];
+        int n = 0;
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                values[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return values;
+    }
+
+    @Override
+    Container copy() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    private ArrayContainer toArrayContainer() {
+        return new ArrayContainer(toCharArray(), cardinality);
+    }
+
+    /** 워드 단위 연산 결과가 작으면 배열 컨테이너로 */
+    private static Container of(long[] words) {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        BitmapContainer result = new BitmapContainer(words, cardinality);
+        return cardinality <= ARRAY_MAX_SIZE ? result.toArrayContainer() : result;
+    }
+
+    @Override
+    Container and(Container other) {
+        if (other instanceof ArrayContainer) return other.and(this);
+
+        long[] o = ((BitmapContainer) other).words;
+        long[] result = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            result[i] = words[i] & o[i];
+        }
+        return of(result);
+    }
+
+    @Override
+    Container or(Container other) {
+        BitmapContainer result = new BitmapContainer(words.clone(), cardinality);
+        if (other instanceof ArrayContainer) {
+            for (char x : other.toCharArray()) {
+                result.set(x);
+            }
+            return result;
+        }
+
+        long[] o = ((BitmapContainer) other).words;
+        for (int i = 0; i < words.length; i++) {
+            result.words[i] |= o[i];
+        }
+        return of(result.words);
+    }
+
+    @Override
+    Container andNot(Container other) {
+        long[] result = words.clone();
+        if (other instanceof ArrayContainer) {
+            for (char x : other.toCharArray()) {
+                result[x >>> 6] &= ~(1L << x);
+            }
+        } else {
+            long[] o = ((BitmapContainer) other).words;
+            for (int i = 0; i < words.length; i++) {
+                result[i] &= ~o[i];
+            }
+        }
+        return of(result);
+    }
+}
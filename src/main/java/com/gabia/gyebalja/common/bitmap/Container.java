@@ -0,0 +1,36 @@
+package com.gabia.gyebalja.common.bitmap;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * RoaringBitmap 의 키(상위 16비트) 하나에 해당하는 하위 16비트 값 집합
+ * - add / remove 는 필요하면 다른 종류의 컨테이너로 바꿔서 반환 (반환값을 사용해야 함)
+ * - and / or / andNot 은 입력을 바꾸지 않고 새 컨테이너를 반환
+ */
+abstract class Container {
+
+    /** 배열 컨테이너 최대 원소 수 (넘으면 비트맵 컨테이너, 두 방식의 크기가 8KB 로 같아지는 지점) */
+    static final int ARRAY_MAX_SIZE = 4096;
+
+    abstract Container add(char x);
+
+    abstract Container remove(char x);
+
+    abstract boolean contains(char x);
+
+    abstract int getCardinality();
+
+    /** 오름차순 값 */
+    abstract char[] toCharArray();
+
+    abstract Container copy();
+
+    abstract Container and(Container other);
+
+    abstract Container or(Container other);
+
+    abstract Container andNot(Container other);
+}
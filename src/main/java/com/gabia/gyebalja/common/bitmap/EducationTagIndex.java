@@ -0,0 +1,145 @@
+package com.gabia.gyebalja.common.bitmap;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 교육 역색인 (태그 id / 카테고리 id / 시작 연도 -> 교육 id 비트맵)
+ * - 교육 한 건의 색인 정보를 함께 보관해서 수정/삭제 시 이전 값이 있던 비트맵에서만 지움
+ * - 조회는 AND(모두 포함) -> OR(하나 이상 포함) -> NOT(제외) -> 카테고리/연도 순서로 비트맵 연산
+ */
+public class EducationTagIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byTag = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byYear = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+
+    /** 등록/수정 (같은 교육이 있으면 교체) */
+    public void put(long educationId, Long categoryId, Integer year, Collection<Long> tagIds) {
+        int id = toIndexId(educationId);
+        Document document = new Document(categoryId, year, tagIds == null ? Collections.emptySet() : new HashSet<>(tagIds));
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            if (previous != null) unindex(id, previous);
+
+            all.add(id);
+            for (Long tagId : document.tagIds) {
+                byTag.computeIfAbsent(tagId, k -> new RoaringBitmap()).add(id);
+            }
+            if (categoryId != null) byCategory.computeIfAbsent(categoryId, k -> new RoaringBitmap()).add(id);
+            if (year != null) byYear.computeIfAbsent(year, k -> new RoaringBitmap()).add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long educationId) {
+        int id = toIndexId(educationId);
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) unindex(id, previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조회 - 조건에 맞는 교육 id 비트맵 (반환값은 복사본)
+     * @param allTagIds 모두 포함해야 하는 태그 (비어 있으면 조건 없음)
+     * @param anyTagIds 하나 이상 포함해야 하는 태그 (비어 있으면 조건 없음)
+     * @param notTagIds 하나도 포함하지 않아야 하는 태그
+     */
+    public RoaringBitmap search(Collection<Long> allTagIds, Collection<Long> anyTagIds, Collection<Long> notTagIds, Long categoryId, Integer year) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = null;
+            for (Long tagId : allTagIds) {
+                RoaringBitmap bitmap = byTag.getOrDefault(tagId, EMPTY);
+                result = result == null ? bitmap.copy() : RoaringBitmap.and(result, bitmap);
+                if (result.isEmpty()) return result;
+            }
+            if (!anyTagIds.isEmpty()) {
+                RoaringBitmap any = new RoaringBitmap();
+                for (Long tagId : anyTagIds) {
+                    any = RoaringBitmap.or(any, byTag.getOrDefault(tagId, EMPTY));
+                }
+                result = result == null ? any : RoaringBitmap.and(result, any);
+            }
+            if (result == null) result = all.copy();
+            for (Long tagId : notTagIds) {
+                RoaringBitmap bitmap = byTag.get(tagId);
+                if (bitmap != null) result = RoaringBitmap.andNot(result, bitmap);
+            }
+            if (categoryId != null) result = RoaringBitmap.and(result, byCategory.getOrDefault(categoryId, EMPTY));
+            if (year != null) result = RoaringBitmap.and(result, byYear.getOrDefault(year, EMPTY));
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unindex(int id, Document document) {
+        all.remove(id);
+        for (Long tagId : document.tagIds) {
+            removeFrom(byTag, tagId, id);
+        }
+        if (document.categoryId != null) removeFrom(byCategory, document.categoryId, id);
+        if (document.year != null) removeFrom(byYear, document.year, id);
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap == null) return;
+
+        bitmap.remove(id);
+        if (bitmap.isEmpty()) bitmaps.remove(key);
+    }
+
+    private static int toIndexId(long educationId) {
+        if (educationId < 0 || educationId > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("색인할 수 없는 교육 id 입니다. : " + educationId);
+        return (int) educationId;
+    }
+
+    private static class Document {
+        private final Long categoryId;
+        private final Integer year;
+        private final Set<Long> tagIds;
+
+        private Document(Long categoryId, Integer year, Set<Long> tagIds) {
+            this.categoryId = categoryId;
+            this.year = year;
+            this.tagIds = tagIds;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.gabia.gyebalja.common.bitmap;
+
+import java.util.Arrays;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 압축 비트맵 (Roaring 방식, 0 이상 int 값 집합)
+ * - 값의 상위 16비트를 키로 나누고, 키마다 하위 16비트를 담는 컨테이너를 둠
+ * - 컨테이너는 원소가 4096 개 이하이면 정렬된 char 배열(최대 8KB), 초과하면 65536 비트 비트맵(8KB)
+ * - and / or / andNot 은 키 단위로 컨테이너끼리 계산하므로 id 가 몰려 있을수록 빠름
+ * - 스레드 안전하지 않음 (동시 접근은 사용하는 쪽에서 잠금)
+ */
+public class RoaringBitmap {
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    private static char highBits(int x) {
+        return (char) (x >>> 16);
+    }
+
+    private static char lowBits(int x) {
+        return (char) x;
+    }
+
+    private static void checkValue(int x) {
+        if (x < 0) throw new IllegalArgumentException("0 이상의 값만 저장할 수 있습니다. : " + x);
+    }
+
+    public static RoaringBitmap of(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public void add(int x) {
+        checkValue(x);
+        char high = highBits(x);
+        int i = indexOfKey(high);
+        if (i >= 0) {
+            containers[i] = containers[i].add(lowBits(x));
+        } else {
+            insertContainer(-i - 1, high, new ArrayContainer().add(lowBits(x)));
+        }
+    }
+
+    public void remove(int x) {
+        if (x < 0) return;
+        int i = indexOfKey(highBits(x));
+        if (i < 0) return;
+
+        Container container = containers[i].remove(lowBits(x));
+        if (container.getCardinality() == 0) {
+            removeContainer(i);
+        } else {
+            containers[i] = container;
+        }
+    }
+
+    public boolean contains(int x) {
+        if (x < 0) return false;
+        int i = indexOfKey(highBits(x));
+        return i >= 0 && containers[i].contains(lowBits(x));
+    }
+
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].getCardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public RoaringBitmap copy() {
+        RoaringBitmap copy = new RoaringBitmap();
+        copy.keys = Arrays.copyOf(keys, Math.max(size, 4));
+        copy.containers = new Container[copy.keys.length];
+        for (int i = 0; i < size; i++) {
+            copy.containers[i] = containers[i].copy();
+        }
+        copy.size = size;
+        return copy;
+    }
+
+    /** 교집합 */
+    public static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container container = a.containers[i].and(b.containers[j]);
+                if (container.getCardinality() > 0) result.appendContainer(a.keys[i], container);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /** 합집합 */
+    public static RoaringBitmap or(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0, j = 0;
+        while (i < a.size || j < b.size) {
+            if (j >= b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.appendContainer(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i >= a.size || a.keys[i] > b.keys[j]) {
+                result.appendContainer(b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(a.keys[i], a.containers[i].or(b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /** 차집합 (a - b) */
+    public static RoaringBitmap andNot(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int j = 0;
+        for (int i = 0; i < a.size; i++) {
+            while (j < b.size && b.keys[j] < a.keys[i]) j++;
+
+            Container container = j < b.size && b.keys[j] == a.keys[i] ? a.containers[i].andNot(b.containers[j]) : a.containers[i].copy();
+            if (container.getCardinality() > 0) result.appendContainer(a.keys[i], container);
+        }
+        return result;
+    }
+
+    /** 오름차순 전체 값 */
+    public int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            int high = keys[i] << 16;
+            for (char low : containers[i].toCharArray()) {
+                values[n++] = high | low;
+            }
+        }
+        return values;
+    }
+
+    /** 내림차순으로 offset 건을 건너뛴 뒤 최대 limit 건 (건너뛰는 컨테이너는 원소 수만 확인) */
+    public int[] pageDescending(long offset, int limit) {
+        int[] values = new int[limit];
+        int n = 0;
+        long skip = offset;
+        for (int i = size - 1; i >= 0 && n < limit; i--) {
+            int cardinality = containers[i].getCardinality();
+            if (skip >= cardinality) {
+                skip -= cardinality;
+                continue;
+            }
+            int high = keys[i] << 16;
+            char[] lows = containers[i].toCharArray();
+            for (int k = lows.length - 1 - (int) skip; k >= 0 && n < limit; k--) {
+                values[n++] = high | lows[k];
+            }
+            skip = 0;
+        }
+        return n == limit ? values : Arrays.copyOf(values, n);
+    }
+
+    private int indexOfKey(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void appendContainer(char key, Container container) {
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= keys.length) return;
+        int newCapacity = Math.max(capacity, keys.length * 2);
+        keys = Arrays.copyOf(keys, newCapacity);
+        containers = Arrays.copyOf(containers, newCapacity);
+    }
+}
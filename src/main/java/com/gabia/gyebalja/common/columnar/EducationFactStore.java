@@ -0,0 +1,393 @@
+package com.gabia.gyebalja.common.columnar;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 교육 팩트 컬럼 저장소 (통계용, 교육 한 건 = 한 행)
+ * - 컬럼별 primitive 배열 : 사용자/부서/카테고리 번호(IdDictionary), 시작일(epoch day), 시작 연월(yyyyMM), 교육 시간
+ * - 태그는 tagOffsets[row] ~ tagOffsets[row + 1] 구간의 tagColumn 값 (CSR 방식)
+ * - 수정은 이전 행을 삭제 표시하고 새 행을 뒤에 추가 (삭제 표시된 행은 전체 재생성 시 정리)
+ * - 집계는 조건에 맞는 행을 한 번 훑으며 번호를 인덱스로 하는 배열에 누적 (행마다 객체 생성/박싱 없음)
+ * - 스냅샷 파일은 컬럼 배열을 그대로 기록한 형식이라 시작 시 메모리 매핑 후 배열 단위로 읽어 바로 복원
+ */
+public class EducationFactStore {
+
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final int SNAPSHOT_MAGIC = 0x47594653; // "GYFS"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IdDictionary users = new IdDictionary();
+    private final IdDictionary departments = new IdDictionary();
+    private final IdDictionary categories = new IdDictionary();
+    private final IdDictionary tags = new IdDictionary();
+    private final Map<Long, Integer> rowByEducationId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private int rowCount;
+    private long[] educationIds = new long[1024];
+    private int[] userColumn = new int[1024];
+    private int[] departmentColumn = new int[1024];
+    private int[] categoryColumn = new int[1024];
+    private int[] startDayColumn = new int[1024];
+    private int[] startYearMonthColumn = new int[1024];
+    private int[] hoursColumn = new int[1024];
+    private int[] tagOffsets = new int[1025];
+    private int[] tagColumn = new int[1024];
+    private int minYear = Integer.MAX_VALUE;
+    private int maxYear = Integer.MIN_VALUE;
+
+    /** 추가/수정 (같은 교육이 있으면 이전 행은 삭제 표시) */
+    public void append(long educationId, Long userId, Long departmentId, Long categoryId, LocalDate startDate, int totalHours, Collection<Long> tagIds) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = rowByEducationId.get(educationId);
+            if (previous != null) deleted.set(previous);
+
+            ensureCapacity(rowCount + 1);
+            int row = rowCount++;
+            educationIds[row] = educationId;
+            userColumn[row] = users.encode(userId);
+            departmentColumn[row] = departments.encode(departmentId);
+            categoryColumn[row] = categories.encode(categoryId);
+            hoursColumn[row] = totalHours;
+            if (startDate != null) {
+                startDayColumn[row] = (int) startDate.toEpochDay();
+                startYearMonthColumn[row] = startDate.getYear() * 100 + startDate.getMonthValue();
+                minYear = Math.min(minYear, startDate.getYear());
+                maxYear = Math.max(maxYear, startDate.getYear());
+            } else {
+                startDayColumn[row] = NO_DATE;
+                startYearMonthColumn[row] = 0;
+            }
+
+            int tagStart = tagOffsets[row];
+            if (tagColumn.length < tagStart + tagIds.size()) tagColumn = Arrays.copyOf(tagColumn, Math.max(tagColumn.length * 2, tagStart + tagIds.size()));
+            int n = tagStart;
+            for (Long tagId : tagIds) {
+                tagColumn[n++] = tags.encode(tagId);
+            }
+            tagOffsets[row + 1] = n;
+            rowByEducationId.put(educationId, row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long educationId) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = rowByEducationId.remove(educationId);
+            if (previous != null) deleted.set(previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 저장된 교육 id (복사본) */
+    public Set<Long> educationIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(rowByEducationId.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 삭제 표시되지 않은 행 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowByEducationId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 전체 합계 (key 0) */
+    public FactGroup total(FactFilter filter) {
+        long[] sums = new long[2];
+        scan(filter, row -> {
+            sums[0]++;
+            sums[1] += hoursColumn[row];
+        });
+        return new FactGroup(0, sums[0], sums[1]);
+    }
+
+    /** group by - key 오름차순 (건수 0 인 그룹 제외) */
+    public List<FactGroup> groupBy(FactFilter filter, FactDimension dimension) {
+        lock.readLock().lock();
+        try {
+            Accumulator accumulator = new Accumulator(dimension);
+            scan(filter, accumulator);
+            List<FactGroup> groups = accumulator.toGroups();
+            groups.sort(Comparator.comparingLong(FactGroup::getKey));
+            return groups;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 상위 k 개 그룹 - byHours 이면 교육 시간, 아니면 건수 내림차순 (같으면 key 오름차순) */
+    public List<FactGroup> top(FactFilter filter, FactDimension dimension, int k, boolean byHours) {
+        List<FactGroup> groups = groupBy(filter, dimension);
+        Comparator<FactGroup> metric = byHours ? Comparator.comparingLong(FactGroup::getHours) : Comparator.comparingLong(FactGroup::getCount);
+        groups.sort(metric.reversed().thenComparingLong(FactGroup::getKey));
+        return groups.size() > k ? new ArrayList<>(groups.subList(0, k)) : groups;
+    }
+
+    private interface RowConsumer {
+        void accept(int row);
+    }
+
+    /** 조건에 맞는 행마다 consumer 호출 (조건의 id 가 사전에 없으면 맞는 행이 없음) */
+    private void scan(FactFilter filter, RowConsumer consumer) {
+        lock.readLock().lock();
+        try {
+            int user = filter.getUserId() == null ? IdDictionary.NONE : users.ordinalOf(filter.getUserId());
+            int department = filter.getDepartmentId() == null ? IdDictionary.NONE : departments.ordinalOf(filter.getDepartmentId());
+            int category = filter.getCategoryId() == null ? IdDictionary.NONE : categories.ordinalOf(filter.getCategoryId());
+            int tag = filter.getTagId() == null ? IdDictionary.NONE : tags.ordinalOf(filter.getTagId());
+            if ((filter.getUserId() != null && user == IdDictionary.NONE) || (filter.getDepartmentId() != null && department == IdDictionary.NONE)
+                    || (filter.getCategoryId() != null && category == IdDictionary.NONE) || (filter.getTagId() != null && tag == IdDictionary.NONE)) return;
+
+            boolean dateFilter = filter.getFromDate() != null || filter.getToDate() != null;
+            long fromDay = filter.getFromDate() == null ? Long.MIN_VALUE : filter.getFromDate().toEpochDay();
+            long toDay = filter.getToDate() == null ? Long.MAX_VALUE : filter.getToDate().toEpochDay();
+
+            for (int row = deleted.nextClearBit(0); row < rowCount; row = deleted.nextClearBit(row + 1)) {
+                if (user != IdDictionary.NONE && userColumn[row] != user) continue;
+                if (department != IdDictionary.NONE && departmentColumn[row] != department) continue;
+                if (category != IdDictionary.NONE && categoryColumn[row] != category) continue;
+                if (dateFilter && (startDayColumn[row] == NO_DATE || startDayColumn[row] < fromDay || startDayColumn[row] >= toDay)) continue;
+                if (tag != IdDictionary.NONE && !hasTag(row, tag)) continue;
+
+                consumer.accept(row);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean hasTag(int row, int tag) {
+        for (int i = tagOffsets[row]; i < tagOffsets[row + 1]; i++) {
+            if (tagColumn[i] == tag) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 스냅샷 파일 저장 (삭제 표시된 행은 제외)
+     * 구성 : magic, version, watermark(마지막으로 반영한 변경 시각), 연도 범위, 사전 4 개(번호 순 id), 행 수, 태그 수, 컬럼 배열
+     */
+    public void writeSnapshot(Path path, LocalDateTime watermark) throws IOException {
+        lock.readLock().lock();
+        try {
+            int liveRows = rowByEducationId.size();
+            int liveTags = 0;
+            for (int row = deleted.nextClearBit(0); row < rowCount; row = deleted.nextClearBit(row + 1)) {
+                liveTags += tagOffsets[row + 1] - tagOffsets[row];
+            }
+            IdDictionary[] dictionaries = {users, departments, categories, tags};
+            long size = 4 + 4 + 8 + 4 + 4 + 4 + 4;
+            for (IdDictionary dictionary : dictionaries) {
+                size += 4 + 8L * dictionary.size();
+            }
+            size += 8L * liveRows + 6 * 4L * liveRows + 4L * (liveRows + 1) + 4L * liveTags;
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putLong(watermark.toEpochSecond(ZoneOffset.UTC));
+                buffer.putInt(minYear).putInt(maxYear);
+                for (IdDictionary dictionary : dictionaries) {
+                    buffer.putInt(dictionary.size());
+                    for (int ordinal = 0; ordinal < dictionary.size(); ordinal++) {
+                        buffer.putLong(dictionary.idOf(ordinal));
+                    }
+                }
+                buffer.putInt(liveRows).putInt(liveTags);
+                for (int row = deleted.nextClearBit(0); row < rowCount; row = deleted.nextClearBit(row + 1)) buffer.putLong(educationIds[row]);
+                for (int[] column : new int[][]{userColumn, departmentColumn, categoryColumn, startDayColumn, startYearMonthColumn, hoursColumn}) {
+                    for (int row = deleted.nextClearBit(0); row < rowCount; row = deleted.nextClearBit(row + 1)) buffer.putInt(column[row]);
+                }
+                int offset = 0;
+                buffer.putInt(offset);
+                for (int row = deleted.nextClearBit(0); row < rowCount; row = deleted.nextClearBit(row + 1)) {
+                    offset += tagOffsets[row + 1] - tagOffsets[row];
+                    buffer.putInt(offset);
+                }
+                for (int row = deleted.nextClearBit(0); row < rowCount; row = deleted.nextClearBit(row + 1)) {
+                    for (int i = tagOffsets[row]; i < tagOffsets[row + 1]; i++) buffer.putInt(tagColumn[i]);
+                }
+                buffer.force();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 스냅샷 파일 복원 - 컬럼은 매핑한 파일에서 배열 단위로 복사 (형식이 다르거나 잘린 파일이면 예외) */
+    public static Snapshot readSnapshot(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION)
+                throw new IOException("지원하지 않는 통계 스냅샷 파일입니다.");
+
+            LocalDateTime watermark = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+            EducationFactStore store = new EducationFactStore();
+            store.minYear = buffer.getInt();
+            store.maxYear = buffer.getInt();
+            for (IdDictionary dictionary : new IdDictionary[]{store.users, store.departments, store.categories, store.tags}) {
+                int dictionarySize = buffer.getInt();
+                for (int ordinal = 0; ordinal < dictionarySize; ordinal++) {
+                    dictionary.encode(buffer.getLong());
+                }
+            }
+
+            int rows = buffer.getInt();
+            int tagCount = buffer.getInt();
+            store.ensureCapacity(rows);
+            store.rowCount = rows;
+            buffer.asLongBuffer().get(store.educationIds, 0, rows);
+            buffer.position(buffer.position() + 8 * rows);
+            for (int[] column : new int[][]{store.userColumn, store.departmentColumn, store.categoryColumn, store.startDayColumn, store.startYearMonthColumn, store.hoursColumn}) {
+                buffer.asIntBuffer().get(column, 0, rows);
+                buffer.position(buffer.position() + 4 * rows);
+            }
+            buffer.asIntBuffer().get(store.tagOffsets, 0, rows + 1);
+            buffer.position(buffer.position() + 4 * (rows + 1));
+            store.tagColumn = new int[Math.max(tagCount, 1024)];
+            buffer.asIntBuffer().get(store.tagColumn, 0, tagCount);
+
+            for (int row = 0; row < rows; row++) {
+                store.rowByEducationId.put(store.educationIds[row], row);
+            }
+            return new Snapshot(store, watermark);
+        }
+    }
+
+    /** 스냅샷에서 복원한 저장소와 watermark */
+    @Getter
+    public static class Snapshot {
+        private final EducationFactStore store;
+        private final LocalDateTime watermark;
+
+        private Snapshot(EducationFactStore store, LocalDateTime watermark) {
+            this.store = store;
+            this.watermark = watermark;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= educationIds.length) return;
+        int newCapacity = Math.max(capacity, educationIds.length * 2);
+        educationIds = Arrays.copyOf(educationIds, newCapacity);
+        userColumn = Arrays.copyOf(userColumn, newCapacity);
+        departmentColumn = Arrays.copyOf(departmentColumn, newCapacity);
+        categoryColumn = Arrays.copyOf(categoryColumn, newCapacity);
+        startDayColumn = Arrays.copyOf(startDayColumn, newCapacity);
+        startYearMonthColumn = Arrays.copyOf(startYearMonthColumn, newCapacity);
+        hoursColumn = Arrays.copyOf(hoursColumn, newCapacity);
+        tagOffsets = Arrays.copyOf(tagOffsets, newCapacity + 1);
+    }
+
+    /** 그룹 번호를 인덱스로 하는 건수/시간 누적 배열 (읽기 잠금 안에서만 사용) */
+    private class Accumulator implements RowConsumer {
+        private final FactDimension dimension;
+        private final long[] counts;
+        private final long[] hours;
+
+        private Accumulator(FactDimension dimension) {
+            this.dimension = dimension;
+            int size;
+            switch (dimension) {
+                case YEAR: size = minYear > maxYear ? 0 : maxYear - minYear + 1; break;
+                case MONTH: size = 12; break;
+                case USER: size = users.size(); break;
+                case DEPARTMENT: size = departments.size(); break;
+                case CATEGORY: size = categories.size(); break;
+                default: size = tags.size(); break;
+            }
+            this.counts = new long[size];
+            this.hours = new long[size];
+        }
+
+        @Override
+        public void accept(int row) {
+            switch (dimension) {
+                case YEAR:
+                    if (startYearMonthColumn[row] != 0) add(startYearMonthColumn[row] / 100 - minYear, row);
+                    break;
+                case MONTH:
+                    if (startYearMonthColumn[row] != 0) add(startYearMonthColumn[row] % 100 - 1, row);
+                    break;
+                case USER:
+                    add(userColumn[row], row);
+                    break;
+                case DEPARTMENT:
+                    add(departmentColumn[row], row);
+                    break;
+                case CATEGORY:
+                    add(categoryColumn[row], row);
+                    break;
+                default:
+                    for (int i = tagOffsets[row]; i < tagOffsets[row + 1]; i++) {
+                        add(tagColumn[i], row);
+                    }
+                    break;
+            }
+        }
+
+        private void add(int slot, int row) {
+            if (slot < 0) return;
+            counts[slot]++;
+            hours[slot] += hoursColumn[row];
+        }
+
+        private List<FactGroup> toGroups() {
+            List<FactGroup> groups = new ArrayList<>();
+            for (int slot = 0; slot < counts.length; slot++) {
+                if (counts[slot] > 0) groups.add(new FactGroup(keyOf(slot), counts[slot], hours[slot]));
+            }
+            return groups;
+        }
+
+        private long keyOf(int slot) {
+            switch (dimension) {
+                case YEAR: return minYear + slot;
+                case MONTH: return slot + 1;
+                case USER: return users.idOf(slot);
+                case DEPARTMENT: return departments.idOf(slot);
+                case CATEGORY: return categories.idOf(slot);
+                default: return tags.idOf(slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.gabia.gyebalja.common.columnar;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/** 교육 팩트 group by 기준 (YEAR / MONTH 는 교육 시작일 기준, MONTH 키는 1 ~ 12) */
+public enum FactDimension {
+    YEAR, MONTH, USER, DEPARTMENT, CATEGORY, TAG
+}
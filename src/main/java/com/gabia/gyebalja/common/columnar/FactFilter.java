@@ -0,0 +1,33 @@
+package com.gabia.gyebalja.common.columnar;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 교육 팩트 조회 조건 (null 이면 조건 없음)
+ * - fromDate 이상, toDate 미만 (교육 시작일 기준)
+ */
+@Getter
+@Builder
+public class FactFilter {
+
+    public static final FactFilter ALL = FactFilter.builder().build();
+
+    private final Long userId;
+    private final Long departmentId;
+    private final Long categoryId;
+    private final Long tagId;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+
+    public static FactFilter.FactFilterBuilder year(int year) {
+        return FactFilter.builder().fromDate(LocalDate.of(year, 1, 1)).toDate(LocalDate.of(year + 1, 1, 1));
+    }
+}
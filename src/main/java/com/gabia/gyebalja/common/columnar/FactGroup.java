@@ -0,0 +1,32 @@
+package com.gabia.gyebalja.common.columnar;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/** group by 결과 한 건 (key : 연도, 월 또는 사용자/부서/카테고리/태그 id) */
+public class FactGroup {
+
+    private final long key;
+    private final long count;
+    private final long hours;
+
+    public FactGroup(long key, long count, long hours) {
+        this.key = key;
+        this.count = count;
+        this.hours = hours;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getHours() {
+        return hours;
+    }
+}
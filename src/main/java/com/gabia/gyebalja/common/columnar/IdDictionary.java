@@ -0,0 +1,45 @@
+package com.gabia.gyebalja.common.columnar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/** id <-> 0 부터 시작하는 번호 사전 (컬럼에는 번호를 저장하고 group by 집계 배열의 인덱스로 사용) */
+class IdDictionary {
+
+    static final int NONE = -1;
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] ids = new long[16];
+
+    int encode(Long id) {
+        if (id == null) return NONE;
+
+        Integer ordinal = ordinals.get(id);
+        if (ordinal != null) return ordinal;
+
+        int newOrdinal = ordinals.size();
+        if (newOrdinal == ids.length) ids = Arrays.copyOf(ids, ids.length * 2);
+        ids[newOrdinal] = id;
+        ordinals.put(id, newOrdinal);
+        return newOrdinal;
+    }
+
+    /** 사전에 없으면 NONE */
+    int ordinalOf(long id) {
+        return ordinals.getOrDefault(id, NONE);
+    }
+
+    long idOf(int ordinal) {
+        return ids[ordinal];
+    }
+
+    int size() {
+        return ordinals.size();
+    }
+}
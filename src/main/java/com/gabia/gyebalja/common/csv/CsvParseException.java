@@ -0,0 +1,26 @@
+package com.gabia.gyebalja.common.csv;
+
+import java.io.IOException;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * CSV 형식 오류 (닫히지 않은 따옴표 등)
+ * - lineNumber : 오류가 난 레코드의 시작 줄 번호
+ */
+public class CsvParseException extends IOException {
+
+    private final int lineNumber;
+
+    public CsvParseException(int lineNumber, String message) {
+        super(message + " (line " + lineNumber + ")");
+        this.lineNumber = lineNumber;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+}
@@ -0,0 +1,93 @@
+package com.gabia.gyebalja.common.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * RFC 4180 CSV 스트리밍 파서 (한 레코드씩 읽어 전체 파일을 메모리에 올리지 않음)
+ * - 따옴표로 감싼 값 안의 쉼표, 줄바꿈, "" (따옴표 escape) 지원
+ * - 첫 레코드 앞의 UTF-8 BOM 제거
+ */
+public class CsvReader {
+
+    private final Reader reader;
+    private int lineNumber = 1;
+    private int recordLineNumber;
+    private int peeked = -2;
+    private boolean first = true;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /** 다음 레코드, 더 이상 없으면 null (형식 오류는 CsvParseException) */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (first) {
+            first = false;
+            if (c == '\uFEFF') c = read();
+        }
+        if (c == -1) return null;
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) throw new CsvParseException(recordLineNumber, "닫히지 않은 따옴표가 있습니다.");
+                if (c == '"') {
+                    if (peek() == '"') {
+                        field.append('"');
+                        read();
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') lineNumber++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') read();
+                if (c != -1) lineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /** 마지막으로 읽은 레코드의 시작 줄 번호 (1부터 시작) */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) peeked = reader.read();
+        return peeked;
+    }
+}
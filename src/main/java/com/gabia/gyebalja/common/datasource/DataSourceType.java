@@ -0,0 +1,11 @@
+package com.gabia.gyebalja.common.datasource;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,65 @@
+package com.gabia.gyebalja.common.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * @Transactional(readOnly = true) 트랜잭션은 replica, 그 외(쓰기 트랜잭션, 트랜잭션 없음)는 primary 로 라우팅
+ * - replica 지연(lag)이 허용치를 넘거나 장애인 경우 ReplicaLagMonitor 판단에 따라 primary 사용
+ * - 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부를 알 수 있으므로
+ *   반드시 LazyConnectionDataSourceProxy 로 감싸서 사용
+ * - 트랜잭션 시작 중(readOnly 가 TransactionSynchronizationManager 에 설정되기 전)에 커넥션을 얻는 경우는
+ *   ReadWriteRoutingTransactionManager 가 전달한 readOnly 여부 사용
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> beginningReadOnly = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    /** primary/replica 라우팅 DataSource 를 LazyConnectionDataSourceProxy 로 감싸서 생성 */
+    public static DataSource create(DataSource primaryDataSource, DataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(DataSourceType.PRIMARY, primaryDataSource);
+        targetDataSources.put(DataSourceType.REPLICA, replicaDataSource);
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    static void setBeginningReadOnly(boolean readOnly) {
+        beginningReadOnly.set(readOnly);
+    }
+
+    static void clearBeginningReadOnly() {
+        beginningReadOnly.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Boolean beginning = beginningReadOnly.get();
+        boolean readOnly = beginning != null ? beginning : TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (readOnly && replicaLagMonitor.isAvailable()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
@@ -0,0 +1,27 @@
+package com.gabia.gyebalja.common.datasource;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 트랜잭션 시작(doBegin) 중에 커넥션을 얻는 경우에도 readOnly 여부로 라우팅되도록 하는 JpaTransactionManager
+ * - TransactionSynchronizationManager 의 readOnly 는 doBegin 이후에 설정되므로
+ *   doBegin 동안은 ReadWriteRoutingDataSource 에 readOnly 여부를 직접 전달
+ */
+public class ReadWriteRoutingTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        ReadWriteRoutingDataSource.setBeginningReadOnly(definition.isReadOnly());
+        try {
+            super.doBegin(transaction, definition);
+        } finally {
+            ReadWriteRoutingDataSource.clearBeginningReadOnly();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.gabia.gyebalja.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * replica 지연(lag) 주기 확인, 허용치 초과 또는 조회 실패 시 읽기 트랜잭션을 primary 로 돌림
+ * - lagQuery 가 비어 있으면 연결 여부만 확인 (select 1)
+ * - lagQuery 결과에 Seconds_Behind_Master 컬럼이 있으면 그 값을, 없으면 첫 번째 컬럼 값을 지연(초)으로 사용
+ *   예시 (MySQL) : SHOW SLAVE STATUS
+ * - 결과가 없거나 NULL(복제 중단)이면 사용 불가로 판단
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final String SECONDS_BEHIND_MASTER = "Seconds_Behind_Master";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean available = true;
+    private volatile Long lastLagSeconds;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, String lagQuery, long maxLagSeconds) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.lagQuery = lagQuery == null ? "" : lagQuery.trim();
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${gyebalja.datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        boolean nowAvailable;
+        try {
+            Long lagSeconds = lagQuery.isEmpty() ? checkConnection() : replicaJdbcTemplate.query(lagQuery, this::extractLagSeconds);
+            lastLagSeconds = lagSeconds;
+            nowAvailable = lagSeconds != null && lagSeconds <= maxLagSeconds;
+        } catch (DataAccessException | NumberFormatException e) {
+            lastLagSeconds = null;
+            nowAvailable = false;
+            logger.debug("replica lag check failed - {}", e.toString());
+        }
+
+        if (nowAvailable != available) {
+            if (nowAvailable) logger.info("replica available - lagSeconds={}", lastLagSeconds);
+            else logger.warn("replica unavailable, read-only transactions use primary - lagSeconds={}, maxLagSeconds={}", lastLagSeconds, maxLagSeconds);
+        }
+        available = nowAvailable;
+    }
+
+    private Long checkConnection() {
+        replicaJdbcTemplate.queryForObject("select 1", Integer.class);
+        return 0L;
+    }
+
+    private Long extractLagSeconds(ResultSet rs) throws SQLException {
+        if (!rs.next()) return null;
+
+        int column = 1;
+        ResultSetMetaData metaData = rs.getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (SECONDS_BEHIND_MASTER.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                column = i;
+                break;
+            }
+        }
+
+        Object value = rs.getObject(column);
+        if (value == null) return null;
+        return value instanceof Number ? ((Number) value).longValue() : Long.valueOf(value.toString().trim());
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public Long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+}
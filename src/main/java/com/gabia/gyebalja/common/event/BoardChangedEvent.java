@@ -0,0 +1,32 @@
+package com.gabia.gyebalja.common.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 게시글 등록/수정/삭제 이벤트 (교육 삭제로 함께 삭제된 게시글 포함)
+ * - 트랜잭션 커밋 이후 전문 검색 인덱스에 반영 (FullTextSearchService)
+ */
+public class BoardChangedEvent {
+
+    private final List<Long> boardIds;
+
+    public BoardChangedEvent(Collection<Long> boardIds) {
+        this.boardIds = Collections.unmodifiableList(new ArrayList<>(boardIds));
+    }
+
+    public static BoardChangedEvent of(Long boardId) {
+        return new BoardChangedEvent(Collections.singletonList(boardId));
+    }
+
+    public List<Long> getBoardIds() {
+        return boardIds;
+    }
+}
@@ -0,0 +1,79 @@
+package com.gabia.gyebalja.common.event;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 전체 재생성 중 들어온 변경 이벤트의 id 기록
+ * - 메모리 인덱스는 새로 만든 뒤 교체하므로 재생성 도중 기존 인덱스에 반영된 부분 갱신은 교체와 함께 사라짐
+ * - 재생성 시작(start) ~ 교체 후(stop) 사이에 기록된 id 를 교체된 인덱스에 다시 반영 (부분 갱신은 id 로 다시 조회하므로 중복 반영해도 같은 결과)
+ * - 부분 갱신은 인덱스에 반영하기 전에 record 호출 (교체 직전에 기존 인덱스에 반영된 변경도 다시 반영되도록)
+ * - 부분 갱신과 다시 반영은 커밋 직후의 변경을 읽으므로 replica 가 아닌 primary 에서 조회 (readOnly 트랜잭션 사용하지 않음)
+ *   replica 에서 읽으면 복제 지연 중에는 변경 이전 값을 다시 반영해서 다음 재생성까지 변경이 보이지 않음
+ */
+public class ChangedIdRecorder {
+
+    private Set<Long> recorded;
+    private int recording;
+
+    /** 기록 시작 (재생성 시작 전) */
+    public synchronized void start() {
+        if (recording++ == 0) recorded = new HashSet<>();
+    }
+
+    /** 재생성 중이면 기록 */
+    public synchronized void record(Collection<Long> ids) {
+        if (recording > 0) recorded.addAll(ids);
+    }
+
+    /** 기록 종료 (인덱스 교체 후) - 시작 이후 기록된 id 반환 */
+    public synchronized Set<Long> stop() {
+        if (recording == 0) return Collections.emptySet();
+
+        Set<Long> ids = new HashSet<>(recorded);
+        if (--recording == 0) recorded = null;
+        return ids;
+    }
+
+    /**
+     * 재생성 - build 로 새 인덱스를 만들고 swap 으로 교체한 뒤, 재생성 중 기록된 id 를 replay 로 다시 반영
+     * - build 가 실패하면 기록만 종료하고 예외 전달 (기존 인덱스 유지)
+     * - replay 는 새 트랜잭션(REQUIRES_NEW, readOnly 아님 - primary)에서 실행, 기록된 id 가 없으면 실행하지 않음
+     * @return 교체한 새 인덱스
+     */
+    public <T> T rebuildAndReplay(Supplier<T> build, Consumer<T> swap, Consumer<Set<Long>> replay, PlatformTransactionManager transactionManager) {
+        start();
+        T rebuilt;
+        try {
+            rebuilt = build.get();
+        } catch (RuntimeException e) {
+            stop();
+            throw e;
+        }
+        swap.accept(rebuilt);
+
+        Set<Long> replayIds = stop();
+        if (!replayIds.isEmpty()) {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transactionTemplate.execute(status -> {
+                replay.accept(replayIds);
+                return null;
+            });
+        }
+        return rebuilt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.gabia.gyebalja.common.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 교육-태그 관계 등록/삭제 이벤트 (관계가 달라진 태그 id)
+ * - 트랜잭션 커밋 이후 인기 급상승 태그(TrendingTagService)에서 해당 태그의 일별 사용 횟수를 다시 조회해서 반영
+ */
+public class EduTagChangedEvent {
+
+    private final List<Long> tagIds;
+
+    public EduTagChangedEvent(Collection<Long> tagIds) {
+        this.tagIds = Collections.unmodifiableList(new ArrayList<>(tagIds));
+    }
+
+    public List<Long> getTagIds() {
+        return tagIds;
+    }
+}
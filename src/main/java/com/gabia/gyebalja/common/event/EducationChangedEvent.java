@@ -0,0 +1,50 @@
+package com.gabia.gyebalja.common.event;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 교육 등록/수정/삭제 이벤트 (교육-태그 관계 변경 포함)
+ * - 트랜잭션 커밋 이후 교육 태그 검색 인덱스(EducationSearchService), 전문 검색 인덱스(FullTextSearchService), 통계 팩트 저장소(EducationFactService),
+ *   일별 통계 버킷(StatisticsBucketService), 회사 전체 순위(CompanyRankService)에 반영
+ * - previousStartDates : 수정/삭제 전 시작일 (커밋 이후에는 조회할 수 없으므로 일별 통계 버킷에서 이전 날짜를 다시 집계할 때 사용)
+ */
+public class EducationChangedEvent {
+
+    private final List<Long> educationIds;
+    private final List<LocalDate> previousStartDates;
+
+    public EducationChangedEvent(Collection<Long> educationIds) {
+        this(educationIds, Collections.emptyList());
+    }
+
+    public EducationChangedEvent(Collection<Long> educationIds, Collection<LocalDate> previousStartDates) {
+        this.educationIds = Collections.unmodifiableList(new ArrayList<>(educationIds));
+        this.previousStartDates = Collections.unmodifiableList(new ArrayList<>(previousStartDates));
+    }
+
+    public static EducationChangedEvent of(Long educationId) {
+        return new EducationChangedEvent(Collections.singletonList(educationId));
+    }
+
+    public static EducationChangedEvent of(Long educationId, LocalDate previousStartDate) {
+        return new EducationChangedEvent(Collections.singletonList(educationId),
+                previousStartDate == null ? Collections.emptyList() : Collections.singletonList(previousStartDate));
+    }
+
+    public List<Long> getEducationIds() {
+        return educationIds;
+    }
+
+    public List<LocalDate> getPreviousStartDates() {
+        return previousStartDates;
+    }
+}
@@ -0,0 +1,32 @@
+package com.gabia.gyebalja.common.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 태그 등록/수정/삭제 또는 태그 사용(교육-태그 관계) 변경 이벤트
+ * - 트랜잭션 커밋 이후 태그 자동완성 인덱스에 반영 (TagAutocompleteService)
+ */
+public class TagChangedEvent {
+
+    private final List<Long> tagIds;
+
+    public TagChangedEvent(Collection<Long> tagIds) {
+        this.tagIds = Collections.unmodifiableList(new ArrayList<>(tagIds));
+    }
+
+    public static TagChangedEvent of(Long tagId) {
+        return new TagChangedEvent(Collections.singletonList(tagId));
+    }
+
+    public List<Long> getTagIds() {
+        return tagIds;
+    }
+}
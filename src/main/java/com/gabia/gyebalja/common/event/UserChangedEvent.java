@@ -0,0 +1,23 @@
+package com.gabia.gyebalja.common.event;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 사용자 등록/수정 이벤트
+ * - 트랜잭션 커밋 이후 사용자 검색 인덱스(UserSearchService), 통계 팩트 저장소(EducationFactService)와 일별 통계 버킷(StatisticsBucketService)의 부서에 반영
+ */
+public class UserChangedEvent {
+
+    private final Long userId;
+
+    public UserChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
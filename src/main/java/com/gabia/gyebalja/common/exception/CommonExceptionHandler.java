@@ -3,6 +3,14 @@ package com.gabia.gyebalja.common.exception;
 import org.springframework.dao.EmptyResultDataAccessException;
 import com.gabia.gyebalja.common.CommonJsonFormat;
 import com.gabia.gyebalja.common.StatusCode;
+import com.gabia.gyebalja.exception.ForbiddenException;
+import com.gabia.gyebalja.exception.NotExistCategoryException;
+import com.gabia.gyebalja.exception.NotExistEducationException;
+import com.gabia.gyebalja.exception.NotExistTagException;
+import com.gabia.gyebalja.exception.NotExistUserException;
+import com.gabia.gyebalja.exception.UnauthorizedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +30,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 @ControllerAdvice
 public class CommonExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommonExceptionHandler.class);
+
     /**
      *  NotExistDataException.class (사용자 정의 Exception)
      *  목적 : (찾고자 하는) 데이터 존재하지 않을 경우 발생
@@ -29,11 +40,47 @@ public class CommonExceptionHandler {
      */
     @ExceptionHandler(NotExistDataException.class)
     protected ResponseEntity<CommonJsonFormat> handleNotExistDataException(NotExistDataException e) {
-        System.out.println("handleNotExistDataException - " + e);
+        logger.info("handleNotExistDataException - {}", e.toString());
         final CommonJsonFormat response = CommonJsonFormat.of(StatusCode.BAD_REQUEST);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     *  NotExistUserException.class, NotExistEducationException.class, NotExistCategoryException.class, NotExistTagException.class
+     *  목적 : 요청한 id 의 사용자, 교육, 카테고리, 태그가 존재하지 않을 경우 발생
+     *  예시 : EducationService.findById() 등
+     */
+    @ExceptionHandler({NotExistUserException.class, NotExistEducationException.class, NotExistCategoryException.class, NotExistTagException.class})
+    protected ResponseEntity<CommonJsonFormat> handleNotExistEntityException(StacklessException e) {
+        logger.info("handleNotExistEntityException - {}", e.toString());
+        final CommonJsonFormat response = CommonJsonFormat.of(StatusCode.NOT_FOUND);
+        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     *  UnauthorizedException.class
+     *  목적 : JWT 토큰이 없거나 유효하지 않을 경우 발생
+     *  예시 : JwtInterceptor.preHandle() 등
+     */
+    @ExceptionHandler(UnauthorizedException.class)
+    protected ResponseEntity<CommonJsonFormat> handleUnauthorizedException(UnauthorizedException e) {
+        logger.info("handleUnauthorizedException - {}", e.toString());
+        final CommonJsonFormat response = CommonJsonFormat.of(StatusCode.UNAUTHORIZED);
+        return new ResponseEntity<>(response, HttpStatus.UNAUTHORIZED);
+    }
+
+    /**
+     *  ForbiddenException.class
+     *  목적 : 로그인은 되어 있지만 관리자 권한이 필요한 API 를 호출한 경우 발생
+     *  예시 : MetricsAdminInterceptor.preHandle() 등
+     */
+    @ExceptionHandler(ForbiddenException.class)
+    protected ResponseEntity<CommonJsonFormat> handleForbiddenException(ForbiddenException e) {
+        logger.info("handleForbiddenException - {}", e.toString());
+        final CommonJsonFormat response = CommonJsonFormat.of(StatusCode.FORBIDDEN);
+        return new ResponseEntity<>(response, HttpStatus.FORBIDDEN);
+    }
+
     /**
      *  DataIntegrityViolationException.class
      *  목적 : Hibernate 관련 Exception, ConstraintViolationException, PropertyValueException, DataException(잘못된 sql, data) 포함
@@ -41,7 +88,7 @@ public class CommonExceptionHandler {
      * */
     @ExceptionHandler(DataIntegrityViolationException.class)
     protected ResponseEntity<CommonJsonFormat> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
-        System.out.println("handleDataIntegrityViolationException - " + e);
+        logger.info("handleDataIntegrityViolationException - {}", e.toString());
         final CommonJsonFormat response = CommonJsonFormat.of(StatusCode.BAD_REQUEST);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
@@ -57,7 +104,7 @@ public class CommonExceptionHandler {
      * */
     @ExceptionHandler(HttpMessageNotReadableException.class)
     protected ResponseEntity<CommonJsonFormat> handleHttpMessageNotReadableException(HttpMessageNotReadableException e){
-        System.out.println("handleHttpMessageNotReadableException - " + e);
+        logger.info("handleHttpMessageNotReadableException - {}", e.toString());
         final CommonJsonFormat response = CommonJsonFormat.of(StatusCode.BAD_REQUEST);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
@@ -68,7 +115,7 @@ public class CommonExceptionHandler {
      */
     @ExceptionHandler(EmptyResultDataAccessException.class)
     protected ResponseEntity<CommonJsonFormat> handleEmptyResultDataAccessException(EmptyResultDataAccessException e) {
-        System.out.println("handleEmptyResultDataAccessException - " + e);
+        logger.info("handleEmptyResultDataAccessException - {}", e.toString());
         final CommonJsonFormat response = CommonJsonFormat.of(StatusCode.BAD_REQUEST);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
@@ -79,7 +126,7 @@ public class CommonExceptionHandler {
      */
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     protected ResponseEntity<CommonJsonFormat> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException e) {
-        System.out.println("handleHttpRequestMethodNotSupportedException - " + e);
+        logger.info("handleHttpRequestMethodNotSupportedException - {}", e.toString());
         final CommonJsonFormat response = CommonJsonFormat.of(StatusCode.METHOD_NOT_ALLOWED);
         return new ResponseEntity<>(response, HttpStatus.METHOD_NOT_ALLOWED);
     }
@@ -90,7 +137,7 @@ public class CommonExceptionHandler {
      * */
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<CommonJsonFormat> handleException(Exception e) {
-        System.out.println("Exception - " + e);
+        logger.error("Exception - ", e);
         final CommonJsonFormat response = CommonJsonFormat.of(StatusCode.INTERNAL_SERVER_ERROR);
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
@@ -101,7 +148,7 @@ public class CommonExceptionHandler {
      */
     @ExceptionHandler(IllegalArgumentException.class)
     protected ResponseEntity<CommonJsonFormat> handleIllegalArgumentException(IllegalArgumentException e) {
-        System.out.println("handleIllegalArgumentException - " + e);
+        logger.info("handleIllegalArgumentException - {}", e.toString());
         final CommonJsonFormat response = CommonJsonFormat.of(StatusCode.BAD_REQUEST);
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
@@ -9,7 +9,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
  */
 
 @ResponseStatus(HttpStatus.FORBIDDEN)
-public class NotExistDataException extends RuntimeException {
+public class NotExistDataException extends StacklessException {
     public NotExistDataException(String msg) {
         super(msg);
     }
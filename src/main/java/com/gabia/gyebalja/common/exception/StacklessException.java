@@ -0,0 +1,18 @@
+package com.gabia.gyebalja.common.exception;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 스택 트레이스를 수집하지 않는 예외
+ * 목적 : 잘못된 id, 만료된 토큰 등 클라이언트 요청으로 자주 발생하는 예외의 생성 비용 절감
+ * - CommonExceptionHandler 에서 StatusCode 로 변환되어 응답되므로 스택 트레이스가 필요 없음
+ * - 예상하지 못한 서버 에러에는 사용하지 않음 (원인 추적 불가)
+ */
+public abstract class StacklessException extends RuntimeException {
+    protected StacklessException(String msg) {
+        super(msg, null, false, false);
+    }
+}
@@ -0,0 +1,32 @@
+package com.gabia.gyebalja.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * JDBC 로 직접 insert 할 때 Hibernate 와 같은 id 생성기에서 id 할당
+ * - 엔티티 저장과 같은 pooled 블록을 공유하므로 id 충돌이 없음
+ * - 트랜잭션 안에서 호출해야 함 (현재 트랜잭션의 Session 사용)
+ */
+@Component
+public class EntityIdGenerator {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public long nextId(Class<?> entityClass) {
+        SharedSessionContractImplementor session = em.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = session.getFactory().getMetamodel().entityPersister(entityClass).getIdentifierGenerator();
+
+        return ((Number) generator.generate(session, null)).longValue();
+    }
+}
@@ -0,0 +1,76 @@
+package com.gabia.gyebalja.common.id;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 테이블 기반 pooled id 생성기(@TableGenerator)의 next_id 보정
+ * - IDENTITY 로 저장된 기존 데이터의 max(id) 이후부터 id 가 할당되도록 next_id 를 max(id) + allocationSize 이상으로 맞춤
+ * - pooled optimizer 는 next_id 값 v 를 받으면 (v - allocationSize + 1) ~ v 를 사용하므로 + allocationSize 필요
+ * - 웹 요청을 받기 전(컨텍스트 초기화 중)에 실행, 이미 충분히 큰 값이면 변경하지 않음
+ */
+@Component
+public class IdGeneratorMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdGeneratorMigration.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdGeneratorMigration(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        for (EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values()) {
+            if (!(persister.getIdentifierGenerator() instanceof TableGenerator) || !(persister instanceof AbstractEntityPersister)) continue;
+
+            TableGenerator generator = (TableGenerator) persister.getIdentifierGenerator();
+            AbstractEntityPersister entityPersister = (AbstractEntityPersister) persister;
+            migrate(generator, entityPersister.getTableName(), entityPersister.getIdentifierColumnNames()[0]);
+        }
+    }
+
+    private void migrate(TableGenerator generator, String entityTable, String idColumn) {
+        String generatorTable = generator.getTableName();
+        jdbcTemplate.execute("create table if not exists " + generatorTable
+                + " (" + generator.getSegmentColumnName() + " varchar(255) not null, " + generator.getValueColumnName() + " bigint, primary key (" + generator.getSegmentColumnName() + "))");
+
+        Long maxId = jdbcTemplate.queryForObject("select max(" + idColumn + ") from " + entityTable, Long.class);
+        long required = (maxId == null ? 0 : maxId) + generator.getIncrementSize();
+
+        List<Long> current = jdbcTemplate.queryForList("select " + generator.getValueColumnName() + " from " + generatorTable
+                + " where " + generator.getSegmentColumnName() + " = ?", Long.class, generator.getSegmentValue());
+
+        if (current.isEmpty()) {
+            jdbcTemplate.update("insert into " + generatorTable + " (" + generator.getSegmentColumnName() + ", " + generator.getValueColumnName() + ") values (?, ?)",
+                    generator.getSegmentValue(), required);
+        } else if (current.get(0) == null || current.get(0) < required) {
+            jdbcTemplate.update("update " + generatorTable + " set " + generator.getValueColumnName() + " = ? where " + generator.getSegmentColumnName() + " = ?"
+                    + " and (" + generator.getValueColumnName() + " is null or " + generator.getValueColumnName() + " < ?)",
+                    required, generator.getSegmentValue(), required);
+        } else {
+            return;
+        }
+        logger.info("id generator migrated - segment={}, maxId={}, nextId={}", generator.getSegmentValue(), maxId, required);
+    }
+}
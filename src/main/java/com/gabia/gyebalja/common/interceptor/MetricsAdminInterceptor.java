@@ -0,0 +1,61 @@
+package com.gabia.gyebalja.common.interceptor;
+
+import com.gabia.gyebalja.common.CookieBox;
+import com.gabia.gyebalja.exception.ForbiddenException;
+import com.gabia.gyebalja.exception.UnauthorizedException;
+import com.gabia.gyebalja.service.JwtService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 관리자 전용 API 제한 (지표 /api/v1/metrics, 교육 일괄 등록 /api/v1/educations/import, 전체 export /api/v1/educations/export) - JwtInterceptor 로 로그인 확인 후 토큰의 가비아 사용자 번호(no)가 관리자 목록에 있는지 확인
+ *
+ * gyebalja.metrics.admin-user-nos : 관리자 가비아 사용자 번호 (쉼표 구분, 기본 없음 = 아무도 호출 불가)
+ */
+@Component
+public class MetricsAdminInterceptor implements HandlerInterceptor {
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private Environment env;
+
+    @Value("${gyebalja.metrics.admin-user-nos:}")
+    private String adminUserNos;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (env.getProperty("spring.profiles.active.test").equals("true")) return true;
+
+        if(request.getMethod().equals(HttpMethod.OPTIONS.name())) return true;
+
+        CookieBox cookieBox = new CookieBox(request);
+        String token = cookieBox.exists("jwt_token") ? cookieBox.getValue("jwt_token") : null;
+        if (request.getHeader("jwt_token") != null)
+            token = request.getHeader("jwt_token");
+        if (token == null)
+            throw new UnauthorizedException();
+
+        Map<String, Object> user = jwtService.get(token);
+        Object userNo = user == null ? null : user.get("no");
+        if (userNo == null || !StringUtils.commaDelimitedListToSet(adminUserNos.replace(" ", "")).contains(userNo.toString()))
+            throw new ForbiddenException();
+
+        return true;
+    }
+}
@@ -0,0 +1,66 @@
+package com.gabia.gyebalja.common.interceptor;
+
+import com.gabia.gyebalja.common.metrics.RequestMetricsRegistry;
+import com.gabia.gyebalja.common.sql.SqlRequestStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 핸들러(Controller 메서드) 별 응답 시간, SQL 실행 횟수, DB 시간 수집
+ * - JwtInterceptor 보다 먼저 등록되어 인증 실패 요청도 집계
+ * - 수집 결과는 /api/v1/metrics 로 조회 (MetricsApiController)
+ *
+ * gyebalja.metrics.enabled       : 수집 여부, /api/v1/metrics 등록 여부 (기본 false, 개발 환경에서만 true 로 설정)
+ * gyebalja.metrics.server-timing : 응답에 Server-Timing 헤더 추가 여부 (기본 false, ServerTimingResponseAdvice)
+ */
+@Component
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    public static final String START_NANOS_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".startNanos";
+
+    @Autowired
+    private RequestMetricsRegistry requestMetricsRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
+            SqlRequestStatistics.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object startNanos = request.getAttribute(START_NANOS_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod) || startNanos == null) return;
+
+        try {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            String handlerName = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            String route = request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+            long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - (Long) startNanos);
+            SqlRequestStatistics sqlStatistics = SqlRequestStatistics.current();
+            int statementCount = sqlStatistics != null ? sqlStatistics.getStatementCount() : 0;
+            long dbMicros = sqlStatistics != null ? TimeUnit.NANOSECONDS.toMicros(sqlStatistics.getElapsedNanos()) : 0;
+            boolean error = ex != null || response.getStatus() >= 500;
+
+            requestMetricsRegistry.record(handlerName, route, elapsedMicros, statementCount, dbMicros, error);
+        } finally {
+            SqlRequestStatistics.end();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.gabia.gyebalja.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 핸들러(Controller 메서드) 한 개에 대한 누적 지표
+ * - 응답 시간, 요청 당 DB 시간 히스토그램
+ * - 요청 수, 에러 수, SQL 실행 횟수 합계/최대값
+ */
+public class EndpointMetrics {
+
+    private final String handler;
+    private final String route;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram dbTime = new LatencyHistogram();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong sqlCount = new AtomicLong();
+    private final AtomicLong maxSqlCount = new AtomicLong();
+
+    public EndpointMetrics(String handler, String route) {
+        this.handler = handler;
+        this.route = route;
+    }
+
+    public void record(long elapsedMicros, int statementCount, long dbMicros, boolean error) {
+        latency.record(elapsedMicros);
+        dbTime.record(dbMicros);
+        sqlCount.addAndGet(statementCount);
+        if (error) errorCount.incrementAndGet();
+
+        long currentMax;
+        while (statementCount > (currentMax = maxSqlCount.get())) {
+            if (maxSqlCount.compareAndSet(currentMax, statementCount)) break;
+        }
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public LatencyHistogram getDbTime() {
+        return dbTime;
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    public long getSqlCount() {
+        return sqlCount.get();
+    }
+
+    public long getMaxSqlCount() {
+        return maxSqlCount.get();
+    }
+}
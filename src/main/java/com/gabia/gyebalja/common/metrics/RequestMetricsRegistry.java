@@ -0,0 +1,39 @@
+package com.gabia.gyebalja.common.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 핸들러 별 EndpointMetrics 보관소
+ * - key : "BoardApiController.getOneBoard" 형식의 핸들러 이름
+ */
+@Component
+public class RequestMetricsRegistry {
+
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String handler, String route, long elapsedMicros, int statementCount, long dbMicros, boolean error) {
+        EndpointMetrics metrics = endpoints.get(handler);
+        if (metrics == null) {
+            metrics = endpoints.computeIfAbsent(handler, key -> new EndpointMetrics(handler, route));
+        }
+        metrics.record(elapsedMicros, statementCount, dbMicros, error);
+    }
+
+    public Collection<EndpointMetrics> getAll() {
+        return new ArrayList<>(endpoints.values());
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+}
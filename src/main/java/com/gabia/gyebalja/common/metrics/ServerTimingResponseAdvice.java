@@ -0,0 +1,62 @@
+package com.gabia.gyebalja.common.metrics;
+
+import com.gabia.gyebalja.common.interceptor.RequestMetricsInterceptor;
+import com.gabia.gyebalja.common.sql.SqlRequestStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 응답 본문을 쓰기 직전에 Server-Timing 헤더 추가 (gyebalja.metrics.enabled=true, gyebalja.metrics.server-timing=true 인 경우)
+ * 예시 : Server-Timing: app;dur=12.41, db;dur=3.20;desc="4 queries"
+ * - 헤더는 본문보다 먼저 전송되어야 하므로 Interceptor.postHandle 이 아닌 ResponseBodyAdvice 에서 추가
+ */
+@ControllerAdvice
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Value("${gyebalja.metrics.enabled:false}")
+    private boolean metricsEnabled;
+
+    @Value("${gyebalja.metrics.server-timing:false}")
+    private boolean serverTimingEnabled;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return metricsEnabled && serverTimingEnabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest)) return body;
+
+        Object startNanos = ((ServletServerHttpRequest) request).getServletRequest().getAttribute(RequestMetricsInterceptor.START_NANOS_ATTRIBUTE);
+        if (startNanos == null) return body;
+
+        double appMillis = (System.nanoTime() - (Long) startNanos) / 1_000_000.0;
+        StringBuilder header = new StringBuilder(String.format(Locale.ROOT, "app;dur=%.2f", appMillis));
+
+        SqlRequestStatistics sqlStatistics = SqlRequestStatistics.current();
+        if (sqlStatistics != null) {
+            header.append(String.format(Locale.ROOT, ", db;dur=%.2f;desc=\"%d queries\"",
+                    sqlStatistics.getElapsedNanos() / 1_000_000.0, sqlStatistics.getStatementCount()));
+        }
+        response.getHeaders().add(SERVER_TIMING_HEADER, header.toString());
+
+        return body;
+    }
+}
@@ -0,0 +1,110 @@
+package com.gabia.gyebalja.common.rank;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 순위표 (사용자별 교육 시간/건수 누적, 시간 -> 건수 내림차순, 같으면 사용자 id 오름차순)
+ * - 정렬된 목록을 유지하므로 상위 n 개/페이지는 구간 복사, 내 순위는 이진 탐색 (요청마다 group by 없음)
+ * - 변경은 증감분(delta)으로 반영 (이전 항목을 이진 탐색으로 찾아 빼고 새 위치에 삽입), 건수가 0 이 되면 제외
+ */
+public class Leaderboard {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::getHours).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::getCount).reversed())
+            .thenComparingLong(Entry::getUserId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final List<Entry> ranking = new ArrayList<>();
+
+    /** 사용자의 시간/건수 증감 */
+    public void add(long userId, long hours, long count) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(userId);
+            long newHours = hours;
+            long newCount = count;
+            if (previous != null) {
+                ranking.remove(Collections.binarySearch(ranking, previous, ORDER));
+                newHours += previous.hours;
+                newCount += previous.count;
+            }
+            if (newCount <= 0) return;
+
+            Entry entry = new Entry(userId, newHours, newCount);
+            entries.put(userId, entry);
+            ranking.add(-Collections.binarySearch(ranking, entry, ORDER) - 1, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** offset 번째부터 limit 개 (0 부터 시작) */
+    public List<Entry> page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (offset >= ranking.size()) return Collections.emptyList();
+            return new ArrayList<>(ranking.subList(offset, Math.min(ranking.size(), offset + limit)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 사용자 순위 (1 부터 시작, 없으면 0) */
+    public int rankOf(long userId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(userId);
+            return entry == null ? 0 : Collections.binarySearch(ranking, entry, ORDER) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 사용자 항목 (없으면 null) */
+    public Entry get(long userId) {
+        lock.readLock().lock();
+        try {
+            return entries.get(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 순위표에 있는 사용자 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Getter
+    public static class Entry {
+        private final long userId;
+        private final long hours;
+        private final long count;
+
+        private Entry(long userId, long hours, long count) {
+            this.userId = userId;
+            this.hours = hours;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.gabia.gyebalja.common.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 전문 검색 토크나이저
+ * - HTML 태그/엔티티 제거 후 소문자로 변환
+ * - 한글 음절 구간은 2-gram 으로 분리 (형태소 분석 없이 조사가 붙은 단어도 검색되도록, 한 글자 구간은 그대로)
+ *   예 : "스프링부트를" -> 스프, 프링, 링부, 부트, 트를
+ * - 영문/숫자 구간은 단어 단위 (MAX_TOKEN_LENGTH 초과는 제외), 그 외 문자는 구분자
+ */
+public final class BigramTokenizer {
+
+    public static final int MAX_TOKEN_LENGTH = 50;
+
+    private static final Pattern HTML = Pattern.compile("<[^>]*>|&#?[a-zA-Z0-9]+;");
+
+    private BigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        String normalized = HTML.matcher(text).replaceAll(" ").toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < normalized.length()) {
+            char c = normalized.charAt(i);
+            int end = i + 1;
+            if (isHangul(c)) {
+                while (end < normalized.length() && isHangul(normalized.charAt(end))) end++;
+                addBigrams(tokens, normalized, i, end);
+            } else if (Character.isLetterOrDigit(c)) {
+                while (end < normalized.length() && Character.isLetterOrDigit(normalized.charAt(end)) && !isHangul(normalized.charAt(end))) end++;
+                if (end - i <= MAX_TOKEN_LENGTH) tokens.add(normalized.substring(i, end));
+            }
+            i = end;
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(List<String> tokens, String text, int begin, int end) {
+        if (end - begin == 1) {
+            tokens.add(text.substring(begin, end));
+            return;
+        }
+        for (int i = begin; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,220 @@
+package com.gabia.gyebalja.common.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 메모리 전문 검색 인덱스 (역색인 + BM25)
+ * - postings : 토큰 -> (문서 id -> 출현 횟수)
+ * - 문서별 토큰 출현 횟수를 함께 보관해서 수정/삭제 시 해당 토큰의 postings 에서만 지우고, 파일 저장/복원에도 사용
+ * - 검색은 검색어 토큰 중 하나라도 포함한 문서를 BM25 점수 내림차순(같으면 최신 id 순)으로 반환
+ */
+public class FullTextIndex {
+
+    private static final int FILE_MAGIC = 0x47594654; // "GYFT"
+    private static final int FILE_VERSION = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::getScore).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::getId).reversed());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    /** 등록/수정 (같은 id 가 있으면 교체) */
+    public void put(long id, List<String> tokens) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : tokens) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+        Document document = new Document(tokens.size(), termFrequencies);
+
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.put(id, document);
+            if (previous != null) unindex(id, previous);
+            index(id, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(id);
+            if (previous != null) unindex(id, previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 검색 - BM25 점수 순으로 offset 건을 건너뛴 뒤 최대 limit 건 */
+    public SearchResult search(List<String> queryTokens, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0 || queryTokens.isEmpty()) return new SearchResult(0, Collections.emptyList());
+
+            double averageLength = (double) totalLength / documentCount;
+            Map<Long, Double> scores = new HashMap<>();
+            for (String token : new LinkedHashSet<>(queryTokens)) {
+                Map<Long, Integer> posting = postings.get(token);
+                if (posting == null) continue;
+
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int tf = entry.getValue();
+                    int length = documents.get(entry.getKey()).length;
+                    double score = idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(entry.getKey(), score, Double::sum);
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                hits.add(new Hit(entry.getKey(), entry.getValue()));
+            }
+            hits.sort(RANKING);
+            int from = Math.min(offset, hits.size());
+            return new SearchResult(hits.size(), new ArrayList<>(hits.subList(from, Math.min(from + limit, hits.size()))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 파일 저장 - 문서별 토큰 출현 횟수만 기록 (postings 는 복원 시 다시 계산) */
+    public void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(FILE_VERSION);
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+                Document document = entry.getValue();
+                out.writeLong(entry.getKey());
+                out.writeInt(document.length);
+                out.writeInt(document.termFrequencies.size());
+                for (Map.Entry<String, Integer> term : document.termFrequencies.entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static FullTextIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION)
+            throw new IOException("지원하지 않는 검색 인덱스 파일입니다.");
+
+        FullTextIndex index = new FullTextIndex();
+        int documentCount = in.readInt();
+        for (int i = 0; i < documentCount; i++) {
+            long id = in.readLong();
+            int length = in.readInt();
+            int termCount = in.readInt();
+            Map<String, Integer> termFrequencies = new HashMap<>(termCount * 2);
+            for (int j = 0; j < termCount; j++) {
+                termFrequencies.put(in.readUTF(), in.readInt());
+            }
+            Document document = new Document(length, termFrequencies);
+            index.documents.put(id, document);
+            index.index(id, document);
+        }
+        return index;
+    }
+
+    private void index(long id, Document document) {
+        for (Map.Entry<String, Integer> term : document.termFrequencies.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(id, term.getValue());
+        }
+        totalLength += document.length;
+    }
+
+    private void unindex(long id, Document document) {
+        for (String term : document.termFrequencies.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) continue;
+
+            posting.remove(id);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+        totalLength -= document.length;
+    }
+
+    private static class Document {
+        private final int length;
+        private final Map<String, Integer> termFrequencies;
+
+        private Document(int length, Map<String, Integer> termFrequencies) {
+            this.length = length;
+            this.termFrequencies = termFrequencies;
+        }
+    }
+
+    public static class Hit {
+        private final long id;
+        private final double score;
+
+        public Hit(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    public static class SearchResult {
+        private final int totalCount;
+        private final List<Hit> hits;
+
+        public SearchResult(int totalCount, List<Hit> hits) {
+            this.totalCount = totalCount;
+            this.hits = hits;
+        }
+
+        public int getTotalCount() {
+            return totalCount;
+        }
+
+        public List<Hit> getHits() {
+            return hits;
+        }
+    }
+}
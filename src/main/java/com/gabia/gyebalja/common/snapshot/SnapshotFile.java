@@ -0,0 +1,67 @@
+package com.gabia.gyebalja.common.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 메모리 인덱스 스냅샷 파일 저장
+ * - 변경이 있을 때만(markDirty) 저장, 임시 파일에 쓴 뒤 교체하므로 쓰는 도중 종료돼도 이전 파일 유지 (실패하면 다음 주기에 다시 저장)
+ * - 파일에는 저장 시각(watermark)을 같이 기록하고, 복원 후 catchUpFrom(watermark) 이후 수정된 행만 다시 적재
+ *   저장 시점에 커밋됐지만 아직 인덱스에 반영되지 않은 변경까지 포함하도록 CATCH_UP_MARGIN_MINUTES 만큼 앞에서부터 조회
+ */
+public class SnapshotFile {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotFile.class);
+
+    private static final long CATCH_UP_MARGIN_MINUTES = 1;
+
+    private final String name;
+    private volatile boolean dirty;
+
+    /** @param name 로그에 남길 이름 */
+    public SnapshotFile(String name) {
+        this.name = name;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /** 변경이 있으면 저장 - writer 는 임시 파일 경로에 watermark 와 함께 기록 */
+    public void saveIfDirty(Path path, Writer writer) {
+        if (!dirty) return;
+        dirty = false;
+
+        LocalDateTime watermark = LocalDateTime.now();
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            writer.write(tempPath, watermark);
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            logger.warn("{} 파일 저장 실패 - {} : {}", name, path, e.toString());
+        }
+    }
+
+    /** 복원 후 다시 적재할 수정 시각 기준 */
+    public static LocalDateTime catchUpFrom(LocalDateTime watermark) {
+        return watermark.minusMinutes(CATCH_UP_MARGIN_MINUTES);
+    }
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(Path tempPath, LocalDateTime watermark) throws IOException;
+    }
+}
@@ -0,0 +1,52 @@
+package com.gabia.gyebalja.common.sql;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 요청(스레드) 단위 SQL 실행 횟수, DB 소요 시간 집계
+ * - begin() ~ end() 사이에 현재 스레드에서 실행된 Statement 만 집계
+ * - RequestMetricsInterceptor 가 요청 시작/종료 시점에 호출
+ */
+public final class SqlRequestStatistics {
+
+    private static final ThreadLocal<SqlRequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long elapsedNanos;
+
+    private SqlRequestStatistics() {
+    }
+
+    public static SqlRequestStatistics begin() {
+        SqlRequestStatistics statistics = new SqlRequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlRequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void add(long elapsedNanos) {
+        SqlRequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statementCount++;
+            statistics.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
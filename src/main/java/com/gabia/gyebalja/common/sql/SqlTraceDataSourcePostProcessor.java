@@ -0,0 +1,31 @@
+package com.gabia.gyebalja.common.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 추적 모드가 OFF 가 아니거나 요청 단위 SQL 통계 수집이 켜진 경우에만 DataSource 빈을 TracingDataSource 로 감쌈
+ * - 둘 다 꺼져 있으면 원본 DataSource 를 그대로 사용하므로 JDBC 호출에 추가 비용이 없음
+ */
+public class SqlTraceDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final SqlTracer sqlTracer;
+
+    public SqlTraceDataSourcePostProcessor(SqlTracer sqlTracer) {
+        this.sqlTracer = sqlTracer;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof TracingDataSource) && sqlTracer.isEnabled()) {
+            return new TracingDataSource((DataSource) bean, sqlTracer);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,22 @@
+package com.gabia.gyebalja.common.sql;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * SQL 추적 모드
+ * OFF     : 추적하지 않음 (DataSource 를 감싸지 않음)
+ * SAMPLED : N 건 중 1 건만 기록
+ * SLOW    : 임계치(ms) 이상 걸린 쿼리만 기록
+ * ALL     : 모든 쿼리 기록 (로컬 개발용, 기존 p6spy 와 동일한 가시성)
+ */
+public enum SqlTraceMode {
+    OFF, SAMPLED, SLOW, ALL;
+
+    public static SqlTraceMode of(String value) {
+        if (value == null || value.trim().isEmpty()) return OFF;
+        return SqlTraceMode.valueOf(value.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,91 @@
+package com.gabia.gyebalja.common.sql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 실행된 SQL 한 건에 대해 기록 여부를 판단하고 구조화된 한 줄 로그로 남김
+ * - 기록 대상이 아닌 경우 문자열 포맷팅, 호출 메서드 탐색 등의 비용이 발생하지 않도록 판단을 먼저 수행
+ * - 로그는 "gyebalja.sql" 로거로 출력 (logback-spring.xml 에서 별도 제어 가능)
+ * - collectRequestStatistics 가 켜져 있으면 추적 모드와 상관없이 요청 단위 SQL 통계(SqlRequestStatistics)에 누적
+ */
+public class SqlTracer {
+
+    private static final Logger logger = LoggerFactory.getLogger("gyebalja.sql");
+    private static final String SERVICE_PACKAGE = "com.gabia.gyebalja.service.";
+
+    private final SqlTraceMode mode;
+    private final long sampleRate;
+    private final long slowThresholdNanos;
+    private final boolean collectRequestStatistics;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SqlTracer(SqlTraceMode mode, long sampleRate, long slowThresholdMillis) {
+        this(mode, sampleRate, slowThresholdMillis, false);
+    }
+
+    public SqlTracer(SqlTraceMode mode, long sampleRate, long slowThresholdMillis, boolean collectRequestStatistics) {
+        this.mode = mode;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.collectRequestStatistics = collectRequestStatistics;
+    }
+
+    public SqlTraceMode getMode() {
+        return mode;
+    }
+
+    public boolean isEnabled() {
+        return mode != SqlTraceMode.OFF || collectRequestStatistics;
+    }
+
+    public void record(String sql, int bindCount, int batchCount, long elapsedNanos) {
+        if (collectRequestStatistics) SqlRequestStatistics.add(elapsedNanos);
+        if (!shouldEmit(elapsedNanos)) return;
+
+        logger.info("sql_trace elapsedMs={} binds={} batch={} caller={} sql=\"{}\"",
+                String.format("%.3f", elapsedNanos / 1_000_000.0),
+                bindCount,
+                batchCount,
+                findCaller(),
+                normalize(sql));
+    }
+
+    /** 모드 별 로그 기록 여부 (SAMPLED 는 호출할 때마다 순번 증가) */
+    boolean shouldEmit(long elapsedNanos) {
+        switch (mode) {
+            case ALL:
+                return true;
+            case SAMPLED:
+                return sequence.incrementAndGet() % sampleRate == 0;
+            case SLOW:
+                return elapsedNanos >= slowThresholdNanos;
+            default:
+                return false;
+        }
+    }
+
+    // 호출 스택에서 가장 가까운 Service 메서드 탐색 (CGLIB 프록시 프레임 제외)
+    static String findCaller() {
+        for (StackTraceElement element : Thread.currentThread().getStackTrace()) {
+            String className = element.getClassName();
+            if (className.startsWith(SERVICE_PACKAGE) && !className.contains("$$")) {
+                return className.substring(className.lastIndexOf('.') + 1) + "." + element.getMethodName();
+            }
+        }
+        return "unknown";
+    }
+
+    static String normalize(String sql) {
+        if (sql == null) return "";
+        return sql.replaceAll("\\s+", " ").trim().replace("\"", "'");
+    }
+}
@@ -0,0 +1,131 @@
+package com.gabia.gyebalja.common.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 실제 DataSource 를 감싸 Statement 실행 시간, 바인딩 파라미터 수를 측정하고 SqlTracer 로 전달
+ * - 기존 p6spy 처럼 모든 호출을 포맷팅/로깅하지 않고, 측정값만 넘긴 뒤 기록 여부는 SqlTracer 가 판단
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    private final SqlTracer sqlTracer;
+
+    public TracingDataSource(DataSource targetDataSource, SqlTracer sqlTracer) {
+        super(targetDataSource);
+        this.sqlTracer = sqlTracer;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+            String sql = (args != null && args.length > 0 && args[0] instanceof String) ? (String) args[0] : null;
+
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return wrapStatement((Statement) result, PreparedStatement.class, sql);
+                case "prepareCall":
+                    return wrapStatement((Statement) result, CallableStatement.class, sql);
+                case "createStatement":
+                    return wrapStatement((Statement) result, Statement.class, null);
+                default:
+                    return result;
+            }
+        }
+
+        private Object wrapStatement(Statement statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(),
+                    new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private int bindCount;
+        private int batchCount;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (name.startsWith("execute")) {
+                String executedSql = (args != null && args.length > 0 && args[0] instanceof String) ? (String) args[0] : sql;
+                long start = System.nanoTime();
+                try {
+                    return invokeTarget(target, method, args);
+                } finally {
+                    sqlTracer.record(executedSql, bindCount, batchCount, System.nanoTime() - start);
+                    if (name.startsWith("executeBatch") || name.startsWith("executeLargeBatch")) batchCount = 0;
+                }
+            }
+
+            // setXxx(parameterIndex, value...) - 바인딩 파라미터 수 집계
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindCount = Math.max(bindCount, (Integer) args[0]);
+            } else if (name.equals("clearParameters")) {
+                bindCount = 0;
+            } else if (name.equals("addBatch")) {
+                batchCount++;
+            } else if (name.equals("clearBatch")) {
+                batchCount = 0;
+            }
+
+            return invokeTarget(target, method, args);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.gabia.gyebalja.common.topk;
+
+import java.util.Arrays;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * Count-Min Sketch (key 별 빈도를 depth x width 카운터로 근사)
+ * - 추정값은 행마다 다른 해시 위치의 카운터 중 최솟값 (실제 값 이상, 충돌만큼 과대 추정)
+ * - 감소(delta < 0)도 허용 - 실제 빈도가 음수가 되지 않는 한 추정값은 실제 값 이상으로 유지
+ * - 동기화하지 않음 (SlidingTopK 에서 잠금)
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final int[][] counters;
+
+    /** @param width 2 의 거듭제곱 */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1 || Integer.bitCount(width) != 1)
+            throw new IllegalArgumentException("depth 는 1 이상, width 는 2 의 거듭제곱이어야 합니다.");
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counters = new int[depth][width];
+    }
+
+    /** 증감 후 추정값 */
+    public long add(long key, int delta) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int[] counter = counters[row];
+            int idx = index(key, row);
+            counter[idx] += delta;
+            estimate = Math.min(estimate, counter[idx]);
+        }
+        return estimate;
+    }
+
+    public long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row][index(key, row)]);
+        }
+        return estimate;
+    }
+
+    public void clear() {
+        for (int[] counter : counters) {
+            Arrays.fill(counter, 0);
+        }
+    }
+
+    // 행 번호를 시드로 섞은 64bit 해시 (splitmix64 finalizer)
+    private int index(long key, int row) {
+        long h = key + (row + 1) * 0x9E3779B97F4A7C15L;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h = h ^ (h >>> 31);
+        return (int) h & mask;
+    }
+}
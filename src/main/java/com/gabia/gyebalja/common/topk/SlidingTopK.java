@@ -0,0 +1,129 @@
+package com.gabia.gyebalja.common.topk;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 최근 n 일 상위 k 개 후보 (일 단위 버킷을 maxDays 개 돌려 쓰는 sliding window)
+ * - 버킷마다 Count-Min Sketch + 그날의 상위 후보(candidatesPerDay 개, 추정값이 가장 작은 후보를 더 큰 key 로 교체)
+ * - 기간 조회는 기간 안 버킷의 후보를 모아 버킷별 추정값 합으로 정렬 (근사값이므로 호출하는 쪽에서 정확한 값으로 다시 확인)
+ * - maxDays 이전 날짜의 증감은 버킷이 이미 다른 날짜로 재사용되었으므로 무시
+ */
+public class SlidingTopK {
+
+    private final int candidatesPerDay;
+    private final Bucket[] buckets;
+
+    public SlidingTopK(int maxDays, int candidatesPerDay, int sketchDepth, int sketchWidth) {
+        this.candidatesPerDay = candidatesPerDay;
+        this.buckets = new Bucket[maxDays];
+        for (int i = 0; i < maxDays; i++) {
+            buckets[i] = new Bucket(new CountMinSketch(sketchDepth, sketchWidth));
+        }
+    }
+
+    public int getMaxDays() {
+        return buckets.length;
+    }
+
+    /** day 의 key 증감 */
+    public synchronized void add(long key, LocalDate day, int delta) {
+        Bucket bucket = buckets[(int) Math.floorMod(day.toEpochDay(), (long) buckets.length)];
+        if (bucket.day == null || bucket.day.isBefore(day)) {
+            bucket.reset(day);
+        } else if (bucket.day.isAfter(day)) {
+            return;
+        }
+
+        long estimate = bucket.sketch.add(key, delta);
+        Map<Long, Long> candidates = bucket.candidates;
+        if (candidates.containsKey(key)) {
+            if (estimate > 0) candidates.put(key, estimate);
+            else candidates.remove(key);
+        } else if (delta > 0) {
+            if (candidates.size() < candidatesPerDay) {
+                candidates.put(key, estimate);
+                return;
+            }
+            Map.Entry<Long, Long> min = null;
+            for (Map.Entry<Long, Long> entry : candidates.entrySet()) {
+                if (min == null || entry.getValue() < min.getValue()) min = entry;
+            }
+            if (estimate > min.getValue()) {
+                candidates.remove(min.getKey());
+                candidates.put(key, estimate);
+            }
+        }
+    }
+
+    /** today 까지 최근 days 일의 상위 limit 개 후보 (추정값 내림차순) */
+    public synchronized List<Candidate> top(LocalDate today, int days, int limit) {
+        List<Bucket> window = new ArrayList<>();
+        Set<Long> keys = new HashSet<>();
+        for (int i = 0; i < Math.min(days, buckets.length); i++) {
+            LocalDate day = today.minusDays(i);
+            Bucket bucket = buckets[(int) Math.floorMod(day.toEpochDay(), (long) buckets.length)];
+            if (!day.equals(bucket.day)) continue;
+            window.add(bucket);
+            keys.addAll(bucket.candidates.keySet());
+        }
+
+        List<Candidate> candidates = new ArrayList<>(keys.size());
+        for (Long key : keys) {
+            long estimate = 0;
+            for (Bucket bucket : window) {
+                estimate += Math.max(0, bucket.sketch.estimate(key));
+            }
+            candidates.add(new Candidate(key, estimate));
+        }
+        candidates.sort(Comparator.comparingLong(Candidate::getEstimate).reversed().thenComparingLong(Candidate::getKey));
+
+        return candidates.size() > limit ? new ArrayList<>(candidates.subList(0, limit)) : candidates;
+    }
+
+    public synchronized void clear() {
+        for (Bucket bucket : buckets) {
+            bucket.reset(null);
+        }
+    }
+
+    @Getter
+    public static class Candidate {
+        private final long key;
+        private final long estimate;
+
+        public Candidate(long key, long estimate) {
+            this.key = key;
+            this.estimate = estimate;
+        }
+    }
+
+    private static class Bucket {
+        private final CountMinSketch sketch;
+        private final Map<Long, Long> candidates = new HashMap<>();
+        private LocalDate day;
+
+        Bucket(CountMinSketch sketch) {
+            this.sketch = sketch;
+        }
+
+        void reset(LocalDate day) {
+            this.day = day;
+            sketch.clear();
+            candidates.clear();
+        }
+    }
+}
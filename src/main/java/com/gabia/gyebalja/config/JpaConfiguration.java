@@ -0,0 +1,43 @@
+package com.gabia.gyebalja.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * Hibernate JDBC batch 설정 (spring.jpa.properties 에 직접 지정한 값이 있으면 그 값을 사용)
+ * - batch_size : 한 번에 전송할 insert/update 개수 (gyebalja.jpa.batch-size, 기본 50)
+ * - order_inserts, order_updates : 같은 테이블 문장끼리 모아 batch 가 끊기지 않도록 정렬
+ * - IDENTITY id 엔티티는 batch insert 되지 않음 (IdGenerators 참고)
+ * - default_batch_fetch_size : 지연 로딩 프록시/컬렉션을 in 절로 묶어서 조회 (gyebalja.jpa.batch-fetch-size, 기본 100)
+ *
+ * open-in-view 는 기본 OFF (gyebalja-jpa.properties), 커넥션은 서비스 트랜잭션이 끝나면 반납
+ */
+@Configuration
+@PropertySource("classpath:gyebalja-jpa.properties")
+public class JpaConfiguration {
+
+    @Value("${gyebalja.jpa.batch-size:50}")
+    private int batchSize;
+
+    @Value("${gyebalja.jpa.batch-fetch-size:100}")
+    private int batchFetchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer batchHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent("hibernate.jdbc.batch_size", String.valueOf(batchSize));
+            hibernateProperties.putIfAbsent("hibernate.order_inserts", "true");
+            hibernateProperties.putIfAbsent("hibernate.order_updates", "true");
+            hibernateProperties.putIfAbsent("hibernate.jdbc.batch_versioned_data", "true");
+            hibernateProperties.putIfAbsent("hibernate.default_batch_fetch_size", String.valueOf(batchFetchSize));
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.gabia.gyebalja.config;
+
+import com.gabia.gyebalja.common.datasource.ReadWriteRoutingDataSource;
+import com.gabia.gyebalja.common.datasource.ReadWriteRoutingTransactionManager;
+import com.gabia.gyebalja.common.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 읽기/쓰기 DataSource 분리 (spring.datasource.replica.url 이 설정된 경우에만 활성화)
+ * - 쓰기 : spring.datasource.*, spring.datasource.hikari.*
+ * - 읽기 : spring.datasource.replica.*, spring.datasource.replica.hikari.* (@Transactional(readOnly = true))
+ * - 커넥션 풀은 빈으로 등록하지 않음 (DataSource 빈이 여러 개면 스키마 초기화 시 순환 참조 발생, SQL 추적도 라우팅 DataSource 한 곳에서만)
+ *
+ * gyebalja.datasource.replica.lag-query             : 지연(초) 조회 쿼리 (기본 없음 = 연결 여부만 확인, MySQL 예시 : SHOW SLAVE STATUS)
+ * gyebalja.datasource.replica.max-lag-seconds       : 허용 지연, 초과 시 읽기도 primary 사용 (기본 5)
+ * gyebalja.datasource.replica.lag-check-interval-ms : 확인 주기 (기본 5000)
+ *
+ * 로컬 확인 예시 (H2 두 개)
+ * spring.datasource.url=jdbc:h2:mem:primary;MODE=MySQL
+ * spring.datasource.replica.url=jdbc:h2:mem:replica;MODE=MySQL
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class ReadWriteDataSourceConfiguration implements DisposableBean {
+
+    private final HikariDataSource primaryDataSource;
+    private final HikariDataSource replicaDataSource;
+
+    public ReadWriteDataSourceConfiguration(Environment env) {
+        Binder binder = Binder.get(env);
+        this.primaryDataSource = createPool(binder, "spring.datasource", "primary");
+        this.replicaDataSource = createPool(binder, "spring.datasource.replica", "replica");
+        this.replicaDataSource.setReadOnly(true);
+    }
+
+    private static HikariDataSource createPool(Binder binder, String prefix, String defaultPoolName) {
+        DataSourceProperties properties = binder.bind(prefix, DataSourceProperties.class).orElseGet(DataSourceProperties::new);
+        properties.setBeanClassLoader(ReadWriteDataSourceConfiguration.class.getClassLoader());
+
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(prefix + ".hikari", Bindable.ofInstance(dataSource));
+        if (dataSource.getPoolName() == null) dataSource.setPoolName(defaultPoolName);
+
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(Environment env) {
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource),
+                env.getProperty("gyebalja.datasource.replica.lag-query", ""),
+                env.getProperty("gyebalja.datasource.replica.max-lag-seconds", Long.class, 5L));
+        replicaLagMonitor.check();
+
+        return replicaLagMonitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaLagMonitor replicaLagMonitor) {
+        return ReadWriteRoutingDataSource.create(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    /** 트랜잭션 시작 중 커넥션을 얻어도 readOnly 여부로 라우팅 (Spring Boot 기본 JpaTransactionManager 대체) */
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        ReadWriteRoutingTransactionManager transactionManager = new ReadWriteRoutingTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+
+        return transactionManager;
+    }
+
+    @Override
+    public void destroy() {
+        replicaDataSource.close();
+        primaryDataSource.close();
+    }
+}
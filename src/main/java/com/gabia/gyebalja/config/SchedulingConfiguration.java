@@ -0,0 +1,17 @@
+package com.gabia.gyebalja.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * @Scheduled 작업 활성화 (ReplicaLagMonitor 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,38 @@
+package com.gabia.gyebalja.config;
+
+import com.gabia.gyebalja.common.sql.SqlTraceDataSourcePostProcessor;
+import com.gabia.gyebalja.common.sql.SqlTraceMode;
+import com.gabia.gyebalja.common.sql.SqlTracer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * SQL 추적 설정 (기존 p6spy 대체)
+ * 프로파일별 application-{profile}.yml 에서 아래 값으로 제어
+ *
+ * gyebalja.sql-trace.mode              : off(기본) | sampled | slow | all
+ * gyebalja.sql-trace.sample-rate       : sampled 모드에서 N 건 중 1 건 기록 (기본 100)
+ * gyebalja.sql-trace.slow-threshold-ms : slow 모드에서 기록할 최소 실행 시간 (기본 200ms)
+ * gyebalja.metrics.enabled             : 요청 단위 SQL 실행 횟수, DB 시간 수집 여부 (기본 false - 운영에서는 DataSource 를 감싸지 않음, 개발 환경 application-dev.yml 에서 true, RequestMetricsInterceptor 참고)
+ */
+@Configuration
+public class SqlTraceConfiguration {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 생성되어야 하므로 static 으로 등록
+    @Bean
+    public static SqlTraceDataSourcePostProcessor sqlTraceDataSourcePostProcessor(Environment env) {
+        SqlTracer sqlTracer = new SqlTracer(
+                SqlTraceMode.of(env.getProperty("gyebalja.sql-trace.mode", "off")),
+                env.getProperty("gyebalja.sql-trace.sample-rate", Long.class, 100L),
+                env.getProperty("gyebalja.sql-trace.slow-threshold-ms", Long.class, 200L),
+                env.getProperty("gyebalja.metrics.enabled", Boolean.class, false));
+
+        return new SqlTraceDataSourcePostProcessor(sqlTracer);
+    }
+}
@@ -5,6 +5,7 @@ import com.gabia.gyebalja.common.StatusCode;
 import com.gabia.gyebalja.dto.board.BoardAllResponseDto;
 import com.gabia.gyebalja.dto.board.BoardRequestDto;
 import com.gabia.gyebalja.dto.board.BoardDetailResponseDto;
+import com.gabia.gyebalja.dto.board.BoardSliceResponseDto;
 import com.gabia.gyebalja.service.BoardService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -105,4 +107,20 @@ public class BoardApiController {
 
         return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
     }
+
+    /** 조회 - board 전체 (무한 스크롤, count 쿼리 없음) */
+    @ApiOperation(value = "getSliceBoard : 조회 - board 전체 (무한 스크롤)", notes = "게시글 목록 조회 요청 (hasNext 포함, withTotal=true 이면 근사 전체 수 포함)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/boards/slice")
+    public CommonJsonFormat getSliceBoard(@PageableDefault(size=20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+                                          @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal){
+        // Example - http://localhost:8080/api/v1/boards/slice?page=0&size=20&withTotal=true
+        BoardSliceResponseDto response = boardService.getSliceBoard(pageable, withTotal);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
+    }
 }
@@ -4,6 +4,7 @@ import com.gabia.gyebalja.common.CommonJsonFormat;
 import com.gabia.gyebalja.common.StatusCode;
 import com.gabia.gyebalja.dto.comment.CommentRequestDto;
 import com.gabia.gyebalja.dto.comment.CommentResponseDto;
+import com.gabia.gyebalja.dto.comment.CommentSliceResponseDto;
 import com.gabia.gyebalja.service.CommentService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -100,4 +102,21 @@ public class CommentApiController {
 
         return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
     }
+
+    /** 조회 - comment 목록 (cursor 페이징) */
+    @ApiOperation(value = "getCommentSlice : 조회 - comment 목록 (cursor 페이징)", notes = "게시글에 대한 댓글 목록 조회 요청 (cursor = 이전 응답의 nextCursor, 첫 페이지는 생략)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/boards/{boardId}/comments/slice")
+    public CommonJsonFormat getCommentSlice(@PathVariable("boardId") Long boardId,
+                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                            @RequestParam(value = "size", defaultValue = "30") int size){
+        // Example - http://localhost:8080/api/v1/boards/1/comments/slice?cursor=2020-03-01T10:15:30.123_42&size=30
+        CommentSliceResponseDto response = commentService.getCommentSlice(boardId, cursor, size);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
+    }
 }
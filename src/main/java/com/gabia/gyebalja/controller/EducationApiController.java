@@ -4,7 +4,13 @@ import com.gabia.gyebalja.common.CommonJsonFormat;
 import com.gabia.gyebalja.common.StatusCode;
 import com.gabia.gyebalja.dto.education.EducationAllResponseDto;
 import com.gabia.gyebalja.dto.education.EducationDetailResponseDto;
+import com.gabia.gyebalja.dto.education.EducationExportFormat;
+import com.gabia.gyebalja.dto.education.EducationImportResponseDto;
 import com.gabia.gyebalja.dto.education.EducationRequestDto;
+import com.gabia.gyebalja.dto.education.EducationSearchResponseDto;
+import com.gabia.gyebalja.service.EducationExportService;
+import com.gabia.gyebalja.service.EducationImportService;
+import com.gabia.gyebalja.service.EducationSearchService;
 import com.gabia.gyebalja.service.EducationService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -14,14 +20,23 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -36,6 +51,9 @@ public class EducationApiController {
 
     //생성자 DI
     private final EducationService educationService;
+    private final EducationExportService educationExportService;
+    private final EducationImportService educationImportService;
+    private final EducationSearchService educationSearchService;
 
     /** 등록 - education 한 건 (게시글 등록) */
     @ApiOperation(value = "postOneEducation : 등록 - education 한 건 (게시글 등록)", notes = "교육 한 건 등록")
@@ -51,6 +69,23 @@ public class EducationApiController {
         return new CommonJsonFormat(StatusCode.OK.getCode(),StatusCode.OK.getMessage(),eduId);
     }
 
+    /** 등록 - education 일괄 등록 (CSV), 관리자만 (MetricsAdminInterceptor) */
+    @ApiOperation(value = "importEducations : 등록 - education 일괄 등록 (CSV)", notes = "요청 본문(text/csv)의 교육 목록 일괄 등록, 헤더 : title,content,startDate,endDate,totalHours,type,place,userId,categoryId,hashTag")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @PostMapping(value = "/api/v1/educations/import", consumes = "text/csv")
+    public CommonJsonFormat importEducations(HttpServletRequest request) throws IOException {
+        // 요청 본문을 String 으로 받지 않고 스트림으로 읽어 한 줄씩 처리
+        try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+            EducationImportResponseDto response = educationImportService.importEducations(reader);
+
+            return new CommonJsonFormat(StatusCode.OK.getCode(),StatusCode.OK.getMessage(), response);
+        }
+    }
+
     /** 조회 - education 한 건 (상세페이지) */
     @ApiOperation(value = "getOneEducation : 조회 - education 한 건 (상세페이지)", notes = "교육 한 건에 대한 데이터 요청")
     @ApiResponses({
@@ -106,6 +141,50 @@ public class EducationApiController {
 
         return new CommonJsonFormat(StatusCode.OK.getCode(),StatusCode.OK.getMessage(), educationDtoPage);
     }
+
+    /** 조회 - education 전체 export (HR 리포트, 스트리밍), 관리자만 (MetricsAdminInterceptor) */
+    @ApiOperation(value = "exportEducations : 조회 - education 전체 export (HR 리포트, 스트리밍)", notes = "연도, 부서, 카테고리 별 교육 이력을 JSON Lines(jsonl) 또는 CSV(csv) 로 스트리밍 다운로드")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/educations/export")
+    public ResponseEntity<StreamingResponseBody> exportEducations(@RequestParam(value = "format", defaultValue = "jsonl") String format,
+                                                                  @RequestParam(value = "year", required = false) Integer year,
+                                                                  @RequestParam(value = "deptId", required = false) Long deptId,
+                                                                  @RequestParam(value = "categoryId", required = false) Long categoryId) {
+        EducationExportFormat exportFormat = EducationExportFormat.of(format);
+        String fileName = "educations" + (year != null ? "-" + year : "") + "." + exportFormat.getExtension();
+
+        // 응답 스트림에 직접 기록 (전체 결과를 List 로 만들지 않음)
+        StreamingResponseBody body = outputStream -> educationExportService.exportEducations(exportFormat, year, deptId, categoryId, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    /** 조회 - education 태그 조합 검색 (페이징) */
+    @ApiOperation(value = "searchEducations : 조회 - education 태그 조합 검색 (페이징)", notes = "tags(모두 포함), anyTags(하나 이상 포함), notTags(제외) 태그 id 와 카테고리, 시작 연도로 교육 검색 (최신순, size 최대 100)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/educations/search")
+    public CommonJsonFormat searchEducations(@RequestParam(value = "tags", required = false) List<Long> allTagIds,
+                                             @RequestParam(value = "anyTags", required = false) List<Long> anyTagIds,
+                                             @RequestParam(value = "notTags", required = false) List<Long> notTagIds,
+                                             @RequestParam(value = "categoryId", required = false) Long categoryId,
+                                             @RequestParam(value = "year", required = false) Integer year,
+                                             @RequestParam(value = "page", defaultValue = "0") int page,
+                                             @RequestParam(value = "size", defaultValue = "10") int size) {
+        EducationSearchResponseDto educationSearchResponseDto = educationSearchService.searchEducations(allTagIds, anyTagIds, notTagIds, categoryId, year, page, size);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), educationSearchResponseDto);
+    }
 }
 
 /**
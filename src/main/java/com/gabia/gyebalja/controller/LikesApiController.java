@@ -2,6 +2,8 @@ package com.gabia.gyebalja.controller;
 
 import com.gabia.gyebalja.common.CommonJsonFormat;
 import com.gabia.gyebalja.common.StatusCode;
+import com.gabia.gyebalja.dto.likes.LikedBoardsResponseDto;
+import com.gabia.gyebalja.dto.likes.LikesCountResponseDto;
 import com.gabia.gyebalja.dto.likes.LikesRequestDto;
 import com.gabia.gyebalja.dto.likes.LikesResponseDto;
 import com.gabia.gyebalja.service.LikesService;
@@ -14,9 +16,13 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * Author : 이현재
  * Part : All
@@ -57,6 +63,37 @@ public class LikesApiController {
         return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
     }
 
+    /** 조회 - likes 여러 개 (게시글 목록의 좋아요 여부) */
+    @ApiOperation(value = "getLikedBoards : 조회 - likes 여러 개", notes = "게시글 목록(최대 100개) 중 사용자가 좋아요 한 게시글 id 조회 요청")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/likes/users/{userId}/boards")
+    public CommonJsonFormat getLikedBoards(@PathVariable("userId") Long userId, @RequestParam("boardIds") List<Long> boardIds){
+        // Example - http://localhost:8080/api/v1/likes/users/1/boards?boardIds=10,11,12
+        LikedBoardsResponseDto response = likesService.getLikedBoards(userId, boardIds);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
+    }
+
+    /** 등록/취소 - likes 한 개 (멱등) */
+    @ApiOperation(value = "putOneLikes : 등록/취소 - likes 한 개", notes = "좋아요 등록(likes=true)/취소(likes=false) 요청, 중복 요청은 무시하고 게시글 좋아요 수 반환")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @PutMapping("/api/v1/likes/users/{userId}/boards/{boardId}")
+    public CommonJsonFormat putOneLikes(@PathVariable("userId") Long userId, @PathVariable("boardId") Long boardId,
+                                        @RequestParam(value = "likes", defaultValue = "true") boolean isLikes){
+        // Example - PUT http://localhost:8080/api/v1/likes/users/1/boards/10?likes=false
+        LikesCountResponseDto response = likesService.putOneLikes(userId, boardId, isLikes);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
+    }
+
     /** 삭제 - likes 한 개 */
     @ApiOperation(value = "deleteOneLikes : 삭제 - likes 한 개", notes = "좋아요 취소(삭제) 요청")
     @ApiResponses({
@@ -0,0 +1,67 @@
+package com.gabia.gyebalja.controller;
+
+import com.gabia.gyebalja.common.CommonJsonFormat;
+import com.gabia.gyebalja.common.StatusCode;
+import com.gabia.gyebalja.common.metrics.RequestMetricsRegistry;
+import com.gabia.gyebalja.dto.metrics.EndpointMetricsResponseDto;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 지표 조회/초기화 - gyebalja.metrics.enabled=true 일 때만 등록, 관리자(gyebalja.metrics.admin-user-nos)만 호출 가능 (MetricsAdminInterceptor)
+ */
+@ConditionalOnProperty(prefix = "gyebalja.metrics", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Api(value = "MetricsApiController V1")
+@RestController
+public class MetricsApiController {
+
+    private final RequestMetricsRegistry requestMetricsRegistry;
+
+    /** 조회 - 핸들러 별 응답 시간, SQL 지표 (p99 내림차순) */
+    @ApiOperation(value = "getAllMetrics : 조회 - 핸들러 별 응답 시간, SQL 지표", notes = "API 별 응답 시간 백분위(p50/p95/p99), 요청 당 SQL 실행 횟수, DB 시간 조회")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/metrics")
+    public CommonJsonFormat getAllMetrics() {
+        List<EndpointMetricsResponseDto> response = requestMetricsRegistry.getAll().stream()
+                .map(EndpointMetricsResponseDto::new)
+                .sorted(Comparator.comparingDouble(EndpointMetricsResponseDto::getP99Millis).reversed())
+                .collect(Collectors.toList());
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
+    }
+
+    /** 삭제 - 누적 지표 초기화 */
+    @ApiOperation(value = "resetMetrics : 삭제 - 누적 지표 초기화", notes = "배포, 부하 테스트 전후 측정을 위해 누적 지표 초기화")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @DeleteMapping("/api/v1/metrics")
+    public CommonJsonFormat resetMetrics() {
+        requestMetricsRegistry.reset();
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), true);
+    }
+}
@@ -2,7 +2,9 @@ package com.gabia.gyebalja.controller;
 
 import com.gabia.gyebalja.common.CommonJsonFormat;
 import com.gabia.gyebalja.common.StatusCode;
+import com.gabia.gyebalja.dto.rank.RankPageResponseDto;
 import com.gabia.gyebalja.dto.rank.RankResponseDto;
+import com.gabia.gyebalja.service.CompanyRankService;
 import com.gabia.gyebalja.service.RankService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -10,14 +12,18 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * Author : 정태균
  * Part : All
+ * Author : 이현재
+ * Part : getCompanyRanks(), getMyCompanyRank()
  */
 
 @RequiredArgsConstructor
@@ -26,17 +32,50 @@ import java.util.List;
 public class RankApiController {
 
     private final RankService rankService;
+    private final CompanyRankService companyRankService;
 
     /** 조회 - rank 전체 (해당 부서) */
-    @ApiOperation(value = "getRankByDeptId : 조회 - rank 전체 (해당 부서)", notes = "해당 부서 팀원들의 순위와 팀원 정보를 ( 시간 -> 건수 -> 이름순)으로 리턴")
+    @ApiOperation(value = "getRankByDeptId : 조회 - rank 전체 (해당 부서)", notes = "해당 부서 팀원들의 순위와 팀원 정보를 ( 시간 -> 건수 -> 이름순)으로 리턴, includeSub 가 true 이면 하위 부서 전체 포함")
     @ApiResponses({
             @ApiResponse(code = 200, message = "OK"),
             @ApiResponse(code = 400, message = "BAD_REQUEST"),
             @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
     })
     @GetMapping("/api/v1/ranks")
-    public CommonJsonFormat getRankByDeptId(@RequestParam("deptId") Long deptId) {
-        List<RankResponseDto> response = rankService.getRankByDeptId(deptId);
+    public CommonJsonFormat getRankByDeptId(@RequestParam("deptId") Long deptId,
+                                            @RequestParam(value = "includeSub", defaultValue = "false") boolean includeSub) {
+        List<RankResponseDto> response = rankService.getRankByDeptId(deptId, includeSub);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(),StatusCode.OK.getMessage(), response);
+    }
+
+    /** 조회 - rank 회사 전체 (페이지) */
+    @ApiOperation(value = "getCompanyRanks : 조회 - rank 회사 전체", notes = "해당 연도(기본 올해) 회사 전체 사용자 순위를 ( 시간 -> 건수 )순으로 페이지 단위 리턴 (size 최대 100)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/ranks/company")
+    public CommonJsonFormat getCompanyRanks(@RequestParam(value = "year", required = false) Integer year,
+                                            @RequestParam(value = "page", defaultValue = "0") int page,
+                                            @RequestParam(value = "size", defaultValue = "20") int size) {
+        RankPageResponseDto response = companyRankService.getCompanyRanks(year == null ? LocalDate.now().getYear() : year, page, size);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(),StatusCode.OK.getMessage(), response);
+    }
+
+    /** 조회 - rank 회사 전체에서 내 순위 */
+    @ApiOperation(value = "getMyCompanyRank : 조회 - rank 회사 전체에서 사용자 순위", notes = "해당 연도(기본 올해) 회사 전체 순위에서 사용자의 순위, 시간, 건수 리턴")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/ranks/company/users/{userId}")
+    public CommonJsonFormat getMyCompanyRank(@PathVariable("userId") Long userId,
+                                             @RequestParam(value = "year", required = false) Integer year) {
+        RankResponseDto response = companyRankService.getMyCompanyRank(userId, year == null ? LocalDate.now().getYear() : year);
 
         return new CommonJsonFormat(StatusCode.OK.getCode(),StatusCode.OK.getMessage(), response);
     }
@@ -0,0 +1,61 @@
+package com.gabia.gyebalja.controller;
+
+import com.gabia.gyebalja.common.CommonJsonFormat;
+import com.gabia.gyebalja.common.StatusCode;
+import com.gabia.gyebalja.dto.board.BoardAllResponseDto;
+import com.gabia.gyebalja.dto.education.EducationAllResponseDto;
+import com.gabia.gyebalja.dto.search.SearchResponseDto;
+import com.gabia.gyebalja.service.FullTextSearchService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@RequiredArgsConstructor
+@Api(value = "SearchApiController V1")
+@RestController
+public class SearchApiController {
+
+    private final FullTextSearchService fullTextSearchService;
+
+    /** 조회 - board 전문 검색 (페이징) */
+    @ApiOperation(value = "searchBoards : 조회 - board 전문 검색 (페이징)", notes = "게시글 제목/본문 검색 (관련도 순, size 최대 100)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/search/boards")
+    public CommonJsonFormat searchBoards(@RequestParam("q") String query,
+                                         @RequestParam(value = "page", defaultValue = "0") int page,
+                                         @RequestParam(value = "size", defaultValue = "10") int size) {
+        SearchResponseDto<BoardAllResponseDto> response = fullTextSearchService.searchBoards(query, page, size);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
+    }
+
+    /** 조회 - education 전문 검색 (페이징) */
+    @ApiOperation(value = "searchEducations : 조회 - education 전문 검색 (페이징)", notes = "교육 제목/내용 검색 (관련도 순, size 최대 100)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/search/educations")
+    public CommonJsonFormat searchEducations(@RequestParam("q") String query,
+                                             @RequestParam(value = "page", defaultValue = "0") int page,
+                                             @RequestParam(value = "size", defaultValue = "10") int size) {
+        SearchResponseDto<EducationAllResponseDto> response = fullTextSearchService.searchEducations(query, page, size);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
+    }
+}
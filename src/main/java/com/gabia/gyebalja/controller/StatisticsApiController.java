@@ -2,30 +2,43 @@ package com.gabia.gyebalja.controller;
 
 import com.gabia.gyebalja.common.CommonJsonFormat;
 import com.gabia.gyebalja.common.StatusCode;
+import com.gabia.gyebalja.common.columnar.FactDimension;
+import com.gabia.gyebalja.dto.statistics.StatisticsDepartmentRollupResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsEducationCategoryResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsEducationHourResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsEducationMonthResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsEducationRankResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsEducationResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsEducationTagResponseDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsFactResponseDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsGranularity;
 import com.gabia.gyebalja.dto.statistics.StatisticsMainCategoryResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsMainMonthResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsMainResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsMainTagResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsMainYearResponseDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsRangeResponseDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsTrendingTagResponseDto;
+import com.gabia.gyebalja.service.EducationFactService;
+import com.gabia.gyebalja.service.StatisticsBucketService;
 import com.gabia.gyebalja.service.StatisticsService;
+import com.gabia.gyebalja.service.TrendingTagService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 /**
  * Author : 이현재
- * Part : getMainStatistics()
+ * Part : getMainStatistics(), getFacts(), getRangeStatistics(), getDepartmentStatistics(), getTrendingTags()
  * Author : 정태균
  * Part : getEducationStatistics()
  */
@@ -36,6 +49,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatisticsApiController {
 
     private final StatisticsService statisticsService;
+    private final EducationFactService educationFactService;
+    private final StatisticsBucketService statisticsBucketService;
+    private final TrendingTagService trendingTagService;
 
     /** 조회 - 메인 화면 */
     @ApiOperation(value = "getMainStatistics : 조회 - 메인화면의 통계", notes = "메인 화면 통계 4개에 대한 요청 (회사 년도별 추이, 회사 카테고리 Top 3, 회사 월별 추이, 회사 태그 Top 3")
@@ -75,4 +91,78 @@ public class StatisticsApiController {
 
         return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
     }
+
+    /** 조회 - 교육 팩트 통계 (조건별 group by / 합계 / 상위 n) */
+    @ApiOperation(value = "getFacts : 조회 - 교육 팩트 통계", notes = "groupBy(year, month, user, department, category, tag) 와 조건(year, userId, deptId, categoryId, tagId)으로 교육 건수/시간 집계, top 이 있으면 orderBy(hours, count) 기준 상위 top 개 (최대 100)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/statistics/facts")
+    public CommonJsonFormat getFacts(@RequestParam(value = "groupBy", required = false) String groupBy,
+                                     @RequestParam(value = "year", required = false) Integer year,
+                                     @RequestParam(value = "userId", required = false) Long userId,
+                                     @RequestParam(value = "deptId", required = false) Long deptId,
+                                     @RequestParam(value = "categoryId", required = false) Long categoryId,
+                                     @RequestParam(value = "tagId", required = false) Long tagId,
+                                     @RequestParam(value = "top", required = false) Integer top,
+                                     @RequestParam(value = "orderBy", defaultValue = "hours") String orderBy) {
+        FactDimension dimension = groupBy == null ? null : FactDimension.valueOf(groupBy.toUpperCase());
+        StatisticsFactResponseDto statisticsFactResponseDto = educationFactService.getFacts(dimension, year, userId, deptId, categoryId, tagId, top, orderBy);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), statisticsFactResponseDto);
+    }
+
+    /** 조회 - 기간 통계 */
+    @ApiOperation(value = "getRangeStatistics : 조회 - 기간 통계", notes = "from ~ to (yyyy-MM-dd, 둘 다 포함, 최대 3660 일) 의 교육 건수/시간을 granularity(day, week, month, quarter, year) 구간별로 합산, 조건(categoryId, deptId - includeSub 가 true 이면 하위 부서 전체), 분기/연도는 yearStartMonth(회계연도 시작 월) 기준")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/statistics/range")
+    public CommonJsonFormat getRangeStatistics(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                               @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                               @RequestParam(value = "granularity", defaultValue = "month") String granularity,
+                                               @RequestParam(value = "categoryId", required = false) Long categoryId,
+                                               @RequestParam(value = "deptId", required = false) Long deptId,
+                                               @RequestParam(value = "includeSub", defaultValue = "false") boolean includeSub,
+                                               @RequestParam(value = "yearStartMonth", defaultValue = "1") int yearStartMonth) {
+        StatisticsGranularity statisticsGranularity = StatisticsGranularity.valueOf(granularity.toUpperCase());
+        StatisticsRangeResponseDto statisticsRangeResponseDto = statisticsBucketService.getRangeStatistics(from, to, statisticsGranularity, categoryId, deptId, includeSub, yearStartMonth);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), statisticsRangeResponseDto);
+    }
+
+    /** 조회 - 부서 트리 통계 */
+    @ApiOperation(value = "getDepartmentStatistics : 조회 - 부서 트리 통계", notes = "from ~ to (yyyy-MM-dd, 둘 다 포함) 의 교육 건수/시간을 해당 부서와 바로 아래 부서별로 각각의 하위 부서 전체를 합산해서 리턴")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/statistics/departments/{deptId}")
+    public CommonJsonFormat getDepartmentStatistics(@PathVariable("deptId") Long deptId,
+                                                    @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                    @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        StatisticsDepartmentRollupResponseDto statisticsDepartmentRollupResponseDto = statisticsBucketService.getDepartmentRollup(deptId, from, to);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), statisticsDepartmentRollupResponseDto);
+    }
+
+    /** 조회 - 인기 급상승 태그 */
+    @ApiOperation(value = "getTrendingTags : 조회 - 인기 급상승 태그", notes = "오늘 포함 최근 days 일(1 ~ 90, 예 : 7, 30, 90) 동안 교육에 가장 많이 붙은 태그 size 개(1 ~ 20)와 정확한 사용 횟수")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/statistics/tags/trending")
+    public CommonJsonFormat getTrendingTags(@RequestParam(value = "days", defaultValue = "7") int days,
+                                           @RequestParam(value = "size", defaultValue = "3") int size) {
+        StatisticsTrendingTagResponseDto statisticsTrendingTagResponseDto = trendingTagService.getTrendingTags(days, size);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), statisticsTrendingTagResponseDto);
+    }
 }
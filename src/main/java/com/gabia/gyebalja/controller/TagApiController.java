@@ -2,8 +2,10 @@ package com.gabia.gyebalja.controller;
 
 import com.gabia.gyebalja.common.CommonJsonFormat;
 import com.gabia.gyebalja.common.StatusCode;
+import com.gabia.gyebalja.dto.tag.TagAutocompleteResponseDto;
 import com.gabia.gyebalja.dto.tag.TagRequestDto;
 import com.gabia.gyebalja.dto.tag.TagResponseDto;
+import com.gabia.gyebalja.service.TagAutocompleteService;
 import com.gabia.gyebalja.service.TagService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -31,6 +34,7 @@ import java.util.List;
 public class TagApiController {
 
     private final TagService tagService;
+    private final TagAutocompleteService tagAutocompleteService;
 
     /** 등록 - tag 한 건 (태그 등록) */
     @ApiOperation(value = "postOneTag : 등록 - Tag 한 건", notes = "Tag 저장 요청")
@@ -101,4 +105,18 @@ public class TagApiController {
 
         return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), allTag);
     }
+
+    /** 조회 - tag 자동완성 */
+    @ApiOperation(value = "autocompleteTag : 조회 - Tag 자동완성", notes = "접두어/초성(예 : ㅈㅂ -> 자바)으로 Tag 검색 요청, 사용 횟수 순 (size 최대 20)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/tags/autocomplete")
+    public CommonJsonFormat autocompleteTag(@RequestParam("q") String query, @RequestParam(value = "size", defaultValue = "10") int size) {
+        List<TagAutocompleteResponseDto> response = tagAutocompleteService.autocomplete(query, size);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), response);
+    }
 }
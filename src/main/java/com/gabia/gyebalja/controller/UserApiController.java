@@ -4,7 +4,9 @@ import com.gabia.gyebalja.common.CommonJsonFormat;
 import com.gabia.gyebalja.common.StatusCode;
 import com.gabia.gyebalja.dto.user.UserRequestDto;
 import com.gabia.gyebalja.dto.user.UserResponseDto;
+import com.gabia.gyebalja.dto.user.UserSearchResponseDto;
 import com.gabia.gyebalja.service.JwtService;
+import com.gabia.gyebalja.service.UserSearchService;
 import com.gabia.gyebalja.service.UserService;
 import com.gabia.gyebalja.vo.GabiaUserInfoVo;
 import io.swagger.annotations.Api;
@@ -17,9 +19,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.List;
 
 /**
  * Author : 정태균
@@ -33,6 +37,7 @@ public class UserApiController {
 
     private final UserService userService;
     private final JwtService jwtService;
+    private final UserSearchService userSearchService;
 
     /** 로그인 후 가비아 프로필 요청 */
     @ApiOperation(value = "getGabiaProfile : 가비아 프로필 요청", notes = "토큰을 복호화하여 가비아 고유 넘버, 이름, 이메일을 리턴")
@@ -62,6 +67,20 @@ public class UserApiController {
         return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), userProfileDetail);
     }
 
+    /** 조회 - 사용자 검색 */
+    @ApiOperation(value = "searchUsers : 조회 - 사용자 검색", notes = "이름, 영문 이름, 이메일, 부서명 접두어 검색 (초성 검색 지원, size 최대 20)")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "OK"),
+            @ApiResponse(code = 400, message = "BAD_REQUEST"),
+            @ApiResponse(code = 500, message = "INTERNAL_SERVER_ERROR")
+    })
+    @GetMapping("/api/v1/users/search")
+    public CommonJsonFormat searchUsers(@RequestParam("q") String query, @RequestParam(value = "size", defaultValue = "10") int size) {
+        List<UserSearchResponseDto> userSearchResponseDtos = userSearchService.searchUsers(query, size);
+
+        return new CommonJsonFormat(StatusCode.OK.getCode(), StatusCode.OK.getMessage(), userSearchResponseDtos);
+    }
+
     /** 조회 - 사용자 정보 한 건 */
     @ApiOperation(value = "getOneUser : 조회 - 사용자 정보 한 건", notes = "사용자 Sequence 넘버로 조회")
     @ApiResponses({
@@ -12,8 +12,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 
 /**
  * Author : 이현재
@@ -23,9 +26,13 @@ import javax.persistence.ManyToOne;
 @ToString(of = {"id", "content"})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_comment_board_created_date", columnList = "board_id, created_date, id")) //댓글 cursor 페이징
 @Entity
 public class Comment extends BaseTime {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id") //id_generator 테이블에서 pooled 할당 (batch insert 가능)
+    @TableGenerator(name = "comment_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "comment", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(columnDefinition = "TEXT")
@@ -0,0 +1,55 @@
+package com.gabia.gyebalja.domain;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 부서 closure 테이블 (조상 부서 - 자손 부서 쌍, 자기 자신 포함 distance 0)
+ * - "부서 X 아래의 모든 부서/사용자" 를 parentDepartment 재귀 조회 없이 ancestor_id 한 번의 join 으로 조회
+ * - Department.parentDepartment 에서 파생된 테이블이므로 DepartmentHierarchyService 에서만 생성
+ */
+@ToString(of = {"ancestorId", "descendantId", "distance"})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_department_closure_ancestor_descendant", columnNames = {"ancestor_id", "descendant_id"}), //하위 부서 조회
+        indexes = @Index(name = "idx_department_closure_descendant", columnList = "descendant_id")) //상위 부서 조회
+public class DepartmentClosure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int distance;
+
+    @Builder
+    public DepartmentClosure(Long ancestorId, Long descendantId, int distance) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+        this.distance = distance;
+    }
+}
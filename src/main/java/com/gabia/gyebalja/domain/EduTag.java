@@ -10,9 +10,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 
 /**
  * Author : 정태균
@@ -22,11 +24,13 @@ import javax.persistence.Table;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "edu_tag")
+@Table(name = "edu_tag", indexes = @Index(name = "idx_edu_tag_created_date", columnList = "created_date")) //인기 급상승 태그 기간 조회
 public class EduTag extends BaseTime {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "edu_tag_id") //id_generator 테이블에서 pooled 할당 (batch insert 가능)
+    @TableGenerator(name = "edu_tag_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "edu_tag", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     //Education과 연관관계
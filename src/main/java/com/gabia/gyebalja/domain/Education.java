@@ -17,6 +17,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.TableGenerator;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,7 +34,9 @@ public class Education extends BaseTime {
 
     //교육 테이블 id (PK)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) //기본키 생성을 DB에 위임
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "education_id") //id_generator 테이블에서 pooled 할당 (batch insert 가능)
+    @TableGenerator(name = "education_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.SEGMENT_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "education", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     //교육 테이블 제목
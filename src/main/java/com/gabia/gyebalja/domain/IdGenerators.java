@@ -0,0 +1,23 @@
+package com.gabia.gyebalja.domain;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 테이블 기반 pooled id 생성 설정 (Education, EduTag, Comment, Likes)
+ * - IDENTITY 는 insert 즉시 실행이 필요해 JDBC batch insert 가 비활성화되므로
+ *   id_generator 테이블에서 ALLOCATION_SIZE 만큼 id 를 미리 할당받아 사용
+ * - 기존 데이터의 id 와 겹치지 않도록 기동 시 IdGeneratorMigration 에서 next_id 보정
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String SEGMENT_COLUMN = "name";
+    public static final String VALUE_COLUMN = "next_id";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
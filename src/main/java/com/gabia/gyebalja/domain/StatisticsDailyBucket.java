@@ -0,0 +1,52 @@
+package com.gabia.gyebalja.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDate;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 일별 교육 통계 버킷 (교육 시작일 x 카테고리 x 부서 별 건수, 시간)
+ * - Education 에서 파생된 집계 테이블이므로 StatisticsBucketService 의 insert ... select 로만 생성 (날짜 단위로 잠금 후 삭제, 다시 집계 - StatisticsDayLock)
+ * - 카테고리/부서가 없는 교육은 category_id/department_id 가 null 인 버킷에 집계
+ */
+@ToString(of = {"id", "day", "categoryId", "departmentId"})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_statistics_daily_bucket_day", columnList = "bucket_date")) //기간 조회, 날짜 단위 재집계
+public class StatisticsDailyBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(nullable = false)
+    private long educationCount;
+
+    @Column(nullable = false)
+    private long totalHours;
+}
@@ -0,0 +1,38 @@
+package com.gabia.gyebalja.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDate;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 일별 통계 버킷 재집계 잠금 (날짜 당 한 행)
+ * - 같은 날짜를 동시에 재집계하면 각각 삭제 후 insert 해서 버킷이 중복되므로 select ... for update 로 날짜 단위 직렬화
+ * - 처음 재집계하는 날짜의 행은 StatisticsBucketService 에서 별도 트랜잭션으로 생성
+ */
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "statistics_day_lock")
+public class StatisticsDayLock {
+
+    @Id
+    @Column(name = "lock_date")
+    private LocalDate day;
+
+    public StatisticsDayLock(LocalDate day) {
+        this.day = day;
+    }
+}
@@ -0,0 +1,63 @@
+package com.gabia.gyebalja.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 사용자별 연도 교육 합계 (PK : user_id + summary_year)
+ * - 개인 통계의 당해년도 교육시간/부서 내 등수를 교육 테이블 sum() 없이 PK 조회로 처리
+ * - 회사 전체 합계는 연도별 사용자 행 합산 (summary_year 인덱스)
+ * - 교육 등록/수정/삭제/일괄 등록과 같은 트랜잭션에서 증감 (UserYearSummaryService), 엔티티로는 조회만 함
+ */
+@ToString(of = {"userId", "year", "totalHours", "educationCount"})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_user_year_summary_year", columnList = "summary_year, total_hours"))
+@IdClass(UserYearSummary.Key.class)
+public class UserYearSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "summary_year")
+    private Integer year;
+
+    @Column(name = "total_hours", nullable = false)
+    private long totalHours;
+
+    @Column(nullable = false)
+    private long educationCount;
+
+    /** 복합 PK */
+    @EqualsAndHashCode
+    @Getter
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Integer year;
+
+        public Key(Long userId, Integer year) {
+            this.userId = userId;
+            this.year = year;
+        }
+    }
+}
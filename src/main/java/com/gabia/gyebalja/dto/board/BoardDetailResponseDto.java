@@ -3,13 +3,14 @@ package com.gabia.gyebalja.dto.board;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.gabia.gyebalja.domain.Board;
 import com.gabia.gyebalja.dto.comment.CommentResponseDto;
+import com.gabia.gyebalja.dto.comment.CommentSliceResponseDto;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Author : 이현재
@@ -37,6 +38,8 @@ public class BoardDetailResponseDto {
     private Long educationId;
     private String educationTitle;
     private List<CommentResponseDto> commentList;
+    private boolean hasNextComment;
+    private String nextCommentCursor;
 
     public BoardDetailResponseDto(Board board){
         this.id = board.getId();
@@ -52,13 +55,19 @@ public class BoardDetailResponseDto {
         this.userProfileImg = board.getUser().getProfileImg();
         this.educationId = board.getEducation().getId();
         this.educationTitle = board.getEducation().getTitle();
-        this.commentList = board.getComments().stream().map(comment -> new CommentResponseDto(comment)).collect(Collectors.toList());
+        this.commentList = new ArrayList<>();
     }
 
     public void changeCommentList(List<CommentResponseDto> commentResponseDtos){
         this.commentList = commentResponseDtos;
     }
 
+    public void changeCommentPage(CommentSliceResponseDto commentSlice){
+        this.commentList = commentSlice.getContent();
+        this.hasNextComment = commentSlice.isHasNext();
+        this.nextCommentCursor = commentSlice.getNextCursor();
+    }
+
     public void changeLikes(int likes){
         this.likes = likes;
     }
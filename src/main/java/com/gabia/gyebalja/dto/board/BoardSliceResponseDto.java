@@ -0,0 +1,38 @@
+package com.gabia.gyebalja.dto.board;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 게시글 목록 (무한 스크롤용, count 쿼리 없음)
+ * - hasNext : size + 1 건 조회로 판단
+ * - approximateTotalCount : 백그라운드에서 주기적으로 갱신되는 전체 게시글 수 (요청 시에만 포함, 갱신 전이면 null)
+ */
+@NoArgsConstructor
+@ToString
+@Getter
+public class BoardSliceResponseDto {
+
+    private List<BoardAllResponseDto> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long approximateTotalCount;
+
+    public BoardSliceResponseDto(Slice<BoardAllResponseDto> slice, Long approximateTotalCount){
+        this.content = slice.getContent();
+        this.page = slice.getNumber();
+        this.size = slice.getSize();
+        this.hasNext = slice.hasNext();
+        this.approximateTotalCount = approximateTotalCount;
+    }
+}
@@ -0,0 +1,49 @@
+package com.gabia.gyebalja.dto.comment;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 댓글 cursor 페이징 위치 (작성일시, id)
+ * - 댓글 id 는 pooled 할당이라 작성 순서와 다를 수 있으므로 작성일시 순으로 정렬하고 같은 작성일시는 id 로 구분
+ * - 문자열 형식 : {작성일시(ISO-8601)}_{id} (예시 : 2020-03-01T10:15:30.123_42)
+ */
+@Getter
+public class CommentCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime createdDate;
+    private final Long id;
+
+    public CommentCursor(LocalDateTime createdDate, Long id) {
+        this.createdDate = createdDate;
+        this.id = id;
+    }
+
+    public static CommentCursor of(CommentResponseDto comment) {
+        return new CommentCursor(comment.getCreatedDate(), comment.getId());
+    }
+
+    /** 이전 응답의 nextCursor 문자열 해석, 형식이 잘못되면 IllegalArgumentException (400) */
+    public static CommentCursor parse(String cursor) {
+        int index = cursor.lastIndexOf(SEPARATOR);
+        try {
+            return new CommentCursor(LocalDateTime.parse(cursor.substring(0, index)), Long.parseLong(cursor.substring(index + 1)));
+        } catch (IndexOutOfBoundsException | DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 댓글 cursor 입니다. : " + cursor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return createdDate.toString() + SEPARATOR + id;
+    }
+}
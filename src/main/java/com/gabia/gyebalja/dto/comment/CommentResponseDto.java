@@ -38,4 +38,15 @@ public class CommentResponseDto {
         this.modifiedDate = comment.getModifiedDate();
     }
 
+    /** 조회 전용 projection (CommentRepository) */
+    public CommentResponseDto(Long id, String content, Long boardId, Long userId, String userName, LocalDateTime createdDate, LocalDateTime modifiedDate){
+        this.id = id;
+        this.content = content;
+        this.boardId = boardId;
+        this.userId = userId;
+        this.userName = userName;
+        this.createdDate = createdDate;
+        this.modifiedDate = modifiedDate;
+    }
+
 }
@@ -0,0 +1,33 @@
+package com.gabia.gyebalja.dto.comment;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 댓글 목록 (cursor 페이징)
+ * - nextCursor : 다음 요청의 cursor 값 (마지막 댓글의 작성일시_id, CommentCursor 참고, 다음 페이지가 없으면 null)
+ */
+@NoArgsConstructor
+@ToString
+@Getter
+public class CommentSliceResponseDto {
+
+    private List<CommentResponseDto> content;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /** size + 1 건 조회 결과로 다음 페이지 여부 판단 */
+    public CommentSliceResponseDto(List<CommentResponseDto> comments, int size){
+        this.hasNext = comments.size() > size;
+        this.content = hasNext ? comments.subList(0, size) : comments;
+        this.nextCursor = hasNext ? CommentCursor.of(content.get(content.size() - 1)).toString() : null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.gabia.gyebalja.dto.education;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.gabia.gyebalja.domain.Education;
 import com.gabia.gyebalja.domain.EducationType;
 import com.gabia.gyebalja.dto.category.CategoryResponseDto;
 import lombok.Builder;
@@ -39,4 +40,10 @@ public class EducationAllResponseDto {
         this.place = place;
         this.category = category;
     }
+
+    // 카테고리를 함께 조회한 교육으로 생성 (검색 결과 목록)
+    public EducationAllResponseDto(Education education) {
+        this(education.getId(), education.getTitle(), education.getStartDate(), education.getEndDate(), education.getTotalHours(), education.getType(), education.getPlace(),
+                CategoryResponseDto.builder().id(education.getCategory().getId()).name(education.getCategory().getName()).build());
+    }
 }
@@ -0,0 +1,82 @@
+package com.gabia.gyebalja.dto.education;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.gabia.gyebalja.domain.EducationType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * HR 리포트용 교육 이력 (JPQL 생성자 projection)
+ * - 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않아 대량 export 에도 메모리 사용량이 일정
+ */
+@NoArgsConstructor
+@ToString
+@Getter
+public class EducationExportDto {
+
+    public static final String CSV_HEADER = "id,title,startDate,endDate,totalHours,type,place,userId,userName,deptId,deptName,categoryId,categoryName";
+
+    private Long id;
+    private String title;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    private LocalDate startDate;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+    private LocalDate endDate;
+    private int totalHours;
+    private EducationType type;
+    private String place;
+    private Long userId;
+    private String userName;
+    private Long deptId;
+    private String deptName;
+    private Long categoryId;
+    private String categoryName;
+
+    public EducationExportDto(Long id, String title, LocalDate startDate, LocalDate endDate, int totalHours, EducationType type, String place,
+                              Long userId, String userName, Long deptId, String deptName, Long categoryId, String categoryName) {
+        this.id = id;
+        this.title = title;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totalHours = totalHours;
+        this.type = type;
+        this.place = place;
+        this.userId = userId;
+        this.userName = userName;
+        this.deptId = deptId;
+        this.deptName = deptName;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+    }
+
+    @JsonIgnore
+    public String getCsvRow() {
+        return String.join(",",
+                csv(id), csv(title), csv(startDate), csv(endDate), csv(totalHours), csv(type), csv(place),
+                csv(userId), csv(userName), csv(deptId), csv(deptName), csv(categoryId), csv(categoryName));
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 내부 따옴표는 "" 로 escape
+    // 엑셀에서 수식으로 해석될 수 있는 값(=, +, -, @ 로 시작)은 앞에 ' 추가
+    private static String csv(Object value) {
+        if (value == null) return "";
+
+        String text = value.toString();
+        if (!(value instanceof Number) && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
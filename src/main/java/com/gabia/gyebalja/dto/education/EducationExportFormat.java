@@ -0,0 +1,33 @@
+package com.gabia.gyebalja.dto.education;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@Getter
+public enum EducationExportFormat {
+
+    JSONL("jsonl", new MediaType("application", "x-ndjson", StandardCharsets.UTF_8)),
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    EducationExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static EducationExportFormat of(String format) {
+        for (EducationExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format)) return exportFormat;
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다. (jsonl, csv) : " + format);
+    }
+}
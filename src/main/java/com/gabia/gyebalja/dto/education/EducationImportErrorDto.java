@@ -0,0 +1,23 @@
+package com.gabia.gyebalja.dto.education;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@NoArgsConstructor
+@ToString
+@Getter
+public class EducationImportErrorDto {
+    private int line;
+    private String message;
+
+    public EducationImportErrorDto(int line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+}
@@ -0,0 +1,40 @@
+package com.gabia.gyebalja.dto.education;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@NoArgsConstructor
+@ToString
+@Getter
+public class EducationImportResponseDto {
+
+    // 응답 크기 제한을 위해 에러 상세는 최대 MAX_ERRORS 건까지만 포함 (failCount 는 전체 건수)
+    public static final int MAX_ERRORS = 1000;
+
+    private long totalCount;
+    private long successCount;
+    private long failCount;
+    private List<EducationImportErrorDto> errors = new ArrayList<>();
+
+    public void addSuccess(int count) {
+        this.totalCount += count;
+        this.successCount += count;
+    }
+
+    public void addError(int line, String message) {
+        this.totalCount++;
+        this.failCount++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(new EducationImportErrorDto(line, message));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.gabia.gyebalja.dto.education;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 교육 태그 검색 결과 (최신 교육 id 순)
+ * - totalCount : 조건에 맞는 전체 교육 수 (비트맵 원소 수라 count 쿼리 없음)
+ */
+@NoArgsConstructor
+@ToString
+@Getter
+public class EducationSearchResponseDto {
+
+    private List<EducationAllResponseDto> content;
+    private int page;
+    private int size;
+    private long totalCount;
+
+    public EducationSearchResponseDto(List<EducationAllResponseDto> content, int page, int size, long totalCount) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,24 @@
+package com.gabia.gyebalja.dto.likes;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@NoArgsConstructor
+@ToString
+@Getter
+public class LikedBoardsResponseDto {
+
+    private List<Long> likedBoardIds;
+
+    public LikedBoardsResponseDto(List<Long> likedBoardIds){
+        this.likedBoardIds = likedBoardIds;
+    }
+}
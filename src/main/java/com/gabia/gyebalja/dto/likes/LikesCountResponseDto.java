@@ -0,0 +1,29 @@
+package com.gabia.gyebalja.dto.likes;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 좋아요 등록/취소 결과
+ * - liked     : 요청 사용자의 좋아요 여부
+ * - likeCount : 게시글 좋아요 수
+ */
+@NoArgsConstructor
+@ToString
+@Getter
+public class LikesCountResponseDto {
+
+    private boolean liked;
+    private int likeCount;
+
+    public LikesCountResponseDto(boolean liked, int likeCount){
+        this.liked = liked;
+        this.likeCount = likeCount;
+    }
+}
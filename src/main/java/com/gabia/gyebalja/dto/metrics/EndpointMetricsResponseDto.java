@@ -0,0 +1,57 @@
+package com.gabia.gyebalja.dto.metrics;
+
+import com.gabia.gyebalja.common.metrics.EndpointMetrics;
+import com.gabia.gyebalja.common.metrics.LatencyHistogram;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@NoArgsConstructor
+@ToString
+@Getter
+public class EndpointMetricsResponseDto {
+
+    private String handler;
+    private String route;
+    private long requestCount;
+    private long errorCount;
+    // 응답 시간 (ms)
+    private double meanMillis;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+    // 요청 당 SQL 실행 횟수, DB 시간 (ms)
+    private double meanSqlCount;
+    private long maxSqlCount;
+    private double meanDbMillis;
+    private double p95DbMillis;
+
+    public EndpointMetricsResponseDto(EndpointMetrics endpointMetrics) {
+        LatencyHistogram latency = endpointMetrics.getLatency();
+        LatencyHistogram dbTime = endpointMetrics.getDbTime();
+
+        this.handler = endpointMetrics.getHandler();
+        this.route = endpointMetrics.getRoute();
+        this.requestCount = latency.getCount();
+        this.errorCount = endpointMetrics.getErrorCount();
+        this.meanMillis = toMillis(latency.getMean());
+        this.p50Millis = toMillis(latency.getPercentile(50));
+        this.p95Millis = toMillis(latency.getPercentile(95));
+        this.p99Millis = toMillis(latency.getPercentile(99));
+        this.maxMillis = toMillis(latency.getMax());
+        this.meanSqlCount = requestCount == 0 ? 0 : (double) endpointMetrics.getSqlCount() / requestCount;
+        this.maxSqlCount = endpointMetrics.getMaxSqlCount();
+        this.meanDbMillis = toMillis(dbTime.getMean());
+        this.p95DbMillis = toMillis(dbTime.getPercentile(95));
+    }
+
+    private static double toMillis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
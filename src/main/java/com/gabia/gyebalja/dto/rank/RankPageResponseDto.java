@@ -0,0 +1,32 @@
+package com.gabia.gyebalja.dto.rank;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@NoArgsConstructor
+@ToString
+@Getter
+public class RankPageResponseDto {
+
+    private int year;
+    private List<RankResponseDto> ranks;
+    private int page;
+    private int size;
+    private long totalCount;    // 해당 연도에 교육이 한 건 이상인 사용자 수
+
+    public RankPageResponseDto(int year, List<RankResponseDto> ranks, int page, int size, long totalCount) {
+        this.year = year;
+        this.ranks = ranks;
+        this.page = page;
+        this.size = size;
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,35 @@
+package com.gabia.gyebalja.dto.search;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 전문 검색 결과 (BM25 점수 순)
+ * - content : 게시글이면 BoardAllResponseDto, 교육이면 EducationAllResponseDto
+ * - totalCount : 검색어 토큰을 하나 이상 포함한 전체 문서 수
+ */
+@NoArgsConstructor
+@ToString
+@Getter
+public class SearchResponseDto<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalCount;
+
+    public SearchResponseDto(List<T> content, int page, int size, long totalCount) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalCount = totalCount;
+    }
+}
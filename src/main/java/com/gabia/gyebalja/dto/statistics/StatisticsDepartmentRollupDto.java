@@ -0,0 +1,25 @@
+package com.gabia.gyebalja.dto.statistics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@ToString
+@Getter
+public class StatisticsDepartmentRollupDto {
+    private Long departmentId;
+    private String departmentName;
+    private long count;     // 하위 부서 전체의 교육 건수
+    private long hours;     // 하위 부서 전체의 교육 시간
+
+    public StatisticsDepartmentRollupDto(Long departmentId, String departmentName, long count, long hours){
+        this.departmentId = departmentId;
+        this.departmentName = departmentName;
+        this.count = count;
+        this.hours = hours;
+    }
+}
@@ -0,0 +1,28 @@
+package com.gabia.gyebalja.dto.statistics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@ToString
+@Getter
+public class StatisticsDepartmentRollupResponseDto {
+    private LocalDate from;
+    private LocalDate to;
+    private StatisticsDepartmentRollupDto department;       // 조회한 부서 (하위 부서 전체 합계)
+    private List<StatisticsDepartmentRollupDto> children;   // 바로 아래 부서별 (각 부서의 하위 부서 전체 합계)
+
+    public StatisticsDepartmentRollupResponseDto(LocalDate from, LocalDate to, StatisticsDepartmentRollupDto department, List<StatisticsDepartmentRollupDto> children){
+        this.from = from;
+        this.to = to;
+        this.department = department;
+        this.children = children;
+    }
+}
@@ -0,0 +1,25 @@
+package com.gabia.gyebalja.dto.statistics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@ToString
+@Getter
+public class StatisticsFactGroupDto {
+    private long key;       // 연도, 월 또는 사용자/부서/카테고리/태그 id
+    private String name;    // 사용자/부서/카테고리/태그 이름 (연도, 월은 key 와 같음)
+    private long count;
+    private long hours;
+
+    public StatisticsFactGroupDto(long key, String name, long count, long hours){
+        this.key = key;
+        this.name = name;
+        this.count = count;
+        this.hours = hours;
+    }
+}
@@ -0,0 +1,27 @@
+package com.gabia.gyebalja.dto.statistics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@ToString
+@Getter
+public class StatisticsFactResponseDto {
+    private String groupBy;
+    private long totalCount;
+    private long totalHours;
+    private List<StatisticsFactGroupDto> groups;
+
+    public StatisticsFactResponseDto(String groupBy, long totalCount, long totalHours, List<StatisticsFactGroupDto> groups){
+        this.groupBy = groupBy;
+        this.totalCount = totalCount;
+        this.totalHours = totalHours;
+        this.groups = groups;
+    }
+}
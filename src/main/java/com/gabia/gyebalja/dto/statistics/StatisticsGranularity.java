@@ -0,0 +1,38 @@
+package com.gabia.gyebalja.dto.statistics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/** 기간 통계 집계 단위 - 주는 월요일 시작, 분기/연도는 회계연도 시작 월(yearStartMonth) 기준 */
+public enum StatisticsGranularity {
+    DAY, WEEK, MONTH, QUARTER, YEAR;
+
+    /** day 가 속한 구간의 시작일 */
+    public LocalDate periodStart(LocalDate day, int yearStartMonth) {
+        int monthsFromYearStart = (day.getMonthValue() - yearStartMonth + 12) % 12;
+        switch (this) {
+            case DAY: return day;
+            case WEEK: return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH: return day.withDayOfMonth(1);
+            case QUARTER: return day.withDayOfMonth(1).minusMonths(monthsFromYearStart % 3);
+            default: return day.withDayOfMonth(1).minusMonths(monthsFromYearStart);
+        }
+    }
+
+    /** 다음 구간의 시작일 */
+    public LocalDate nextPeriodStart(LocalDate periodStart) {
+        switch (this) {
+            case DAY: return periodStart.plusDays(1);
+            case WEEK: return periodStart.plusWeeks(1);
+            case MONTH: return periodStart.plusMonths(1);
+            case QUARTER: return periodStart.plusMonths(3);
+            default: return periodStart.plusYears(1);
+        }
+    }
+}
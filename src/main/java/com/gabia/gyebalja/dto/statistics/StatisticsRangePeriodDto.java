@@ -0,0 +1,27 @@
+package com.gabia.gyebalja.dto.statistics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@ToString
+@Getter
+public class StatisticsRangePeriodDto {
+    private LocalDate startDate;    // 구간 시작일 (조회 기간 안으로 잘라냄)
+    private LocalDate endDate;      // 구간 마지막 날 (포함)
+    private long count;
+    private long hours;
+
+    public StatisticsRangePeriodDto(LocalDate startDate, LocalDate endDate, long count, long hours){
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.count = count;
+        this.hours = hours;
+    }
+}
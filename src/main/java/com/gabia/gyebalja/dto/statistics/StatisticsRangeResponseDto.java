@@ -0,0 +1,32 @@
+package com.gabia.gyebalja.dto.statistics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@ToString
+@Getter
+public class StatisticsRangeResponseDto {
+    private LocalDate from;
+    private LocalDate to;
+    private String granularity;
+    private long totalCount;
+    private long totalHours;
+    private List<StatisticsRangePeriodDto> periods; // 교육이 없는 구간도 0 으로 포함
+
+    public StatisticsRangeResponseDto(LocalDate from, LocalDate to, String granularity, long totalCount, long totalHours, List<StatisticsRangePeriodDto> periods){
+        this.from = from;
+        this.to = to;
+        this.granularity = granularity;
+        this.totalCount = totalCount;
+        this.totalHours = totalHours;
+        this.periods = periods;
+    }
+}
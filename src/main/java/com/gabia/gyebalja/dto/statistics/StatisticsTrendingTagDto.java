@@ -0,0 +1,23 @@
+package com.gabia.gyebalja.dto.statistics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@ToString
+@Getter
+public class StatisticsTrendingTagDto {
+    private Long tagId;
+    private String name;
+    private long count;     // 기간 안에 등록된 교육-태그 관계 수 (정확한 값)
+
+    public StatisticsTrendingTagDto(Long tagId, String name, long count){
+        this.tagId = tagId;
+        this.name = name;
+        this.count = count;
+    }
+}
@@ -0,0 +1,28 @@
+package com.gabia.gyebalja.dto.statistics;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@ToString
+@Getter
+public class StatisticsTrendingTagResponseDto {
+    private LocalDate from;
+    private LocalDate to;
+    private int days;
+    private List<StatisticsTrendingTagDto> tags; // 사용 횟수 내림차순
+
+    public StatisticsTrendingTagResponseDto(LocalDate from, LocalDate to, int days, List<StatisticsTrendingTagDto> tags){
+        this.from = from;
+        this.to = to;
+        this.days = days;
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,25 @@
+package com.gabia.gyebalja.dto.tag;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@NoArgsConstructor
+@Data
+public class TagAutocompleteResponseDto {
+    private Long id;
+    private String name;
+    private long usageCount;
+
+    @Builder
+    public TagAutocompleteResponseDto(Long id, String name, long usageCount) {
+        this.id = id;
+        this.name = name;
+        this.usageCount = usageCount;
+    }
+}
@@ -0,0 +1,34 @@
+package com.gabia.gyebalja.dto.user;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@NoArgsConstructor
+@Data
+public class UserSearchResponseDto {
+    private Long id;
+    private String name;
+    private String engName;
+    private String email;
+    private Long deptId;
+    private String deptName;
+    private String positionName;
+    private String profileImg;
+
+    // 사용자 검색 인덱스 적재용 (UserRepository 프로젝션)
+    public UserSearchResponseDto(Long id, String name, String engName, String email, Long deptId, String deptName, String positionName, String profileImg) {
+        this.id = id;
+        this.name = name;
+        this.engName = engName;
+        this.email = email;
+        this.deptId = deptId;
+        this.deptName = deptName;
+        this.positionName = positionName;
+        this.profileImg = profileImg;
+    }
+}
@@ -0,0 +1,14 @@
+package com.gabia.gyebalja.exception;
+
+import com.gabia.gyebalja.common.exception.StacklessException;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class ForbiddenException extends StacklessException {
+    public ForbiddenException() {
+        super("접근 권한이 없습니다.");
+    }
+}
@@ -1,15 +1,13 @@
 package com.gabia.gyebalja.exception;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import com.gabia.gyebalja.common.exception.StacklessException;
 
 /**
  * Author : 정태균
  * Part : All
  */
 
-@ResponseStatus(HttpStatus.FORBIDDEN)
-public class NotExistTagException extends RuntimeException {
+public class NotExistTagException extends StacklessException {
     public NotExistTagException(String msg) {
         super(msg);
     }
@@ -1,11 +1,13 @@
 package com.gabia.gyebalja.exception;
 
+import com.gabia.gyebalja.common.exception.StacklessException;
+
 /**
  * Author : 정태균
  * Part : All
  */
 
-public class UnauthorizedException extends RuntimeException {
+public class UnauthorizedException extends StacklessException {
     public UnauthorizedException() {
         super("계정 권한이 유효하지 않습니다.\n다시 로그인을 해주세요.");
     }
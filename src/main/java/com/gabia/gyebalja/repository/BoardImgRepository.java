@@ -2,6 +2,9 @@ package com.gabia.gyebalja.repository;
 
 import com.gabia.gyebalja.domain.BoardImg;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Author : 이현재
@@ -9,4 +12,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 
 public interface BoardImgRepository extends JpaRepository<BoardImg, Long> {
+
+    // 게시글 삭제 시 이미지 일괄 삭제
+    @Modifying
+    @Query("delete from BoardImg bi where bi.board.id = :boardId")
+    int deleteAllInBatchByBoardId(@Param("boardId") Long boardId);
+
+    // 교육 삭제 시 교육을 참조하는 게시글들의 이미지 일괄 삭제
+    @Modifying
+    @Query("delete from BoardImg bi where bi.board.id in (select b.id from Board b where b.education.id = :educationId)")
+    int deleteAllInBatchByBoardEducationId(@Param("educationId") Long educationId);
 }
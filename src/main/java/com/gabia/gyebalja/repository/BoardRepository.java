@@ -1,10 +1,18 @@
 package com.gabia.gyebalja.repository;
 
 import com.gabia.gyebalja.domain.Board;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,7 +22,44 @@ import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
-    @Query("select b from Board b left join fetch b.comments where b.id = :boardId")
-    Optional<Board> findById(@Param("boardId") Long boardId);
+    // 게시글 상세 (작성자, 교육 함께 조회, 댓글은 CommentRepository 에서 페이지 단위로 조회)
+    @Query("select b from Board b left join fetch b.user left join fetch b.education where b.id = :boardId")
+    Optional<Board> findDetailById(@Param("boardId") Long boardId);
 
+    // 게시글 목록 (작성자, 교육 함께 조회)
+    @EntityGraph(attributePaths = {"user", "education"})
+    Page<Board> findAll(Pageable pageable);
+
+    // 게시글 목록 - 무한 스크롤 (size + 1 건 조회로 다음 페이지 여부 판단, count 쿼리 없음)
+    @EntityGraph(attributePaths = {"user", "education"})
+    Slice<Board> findSliceBy(Pageable pageable);
+
+    // 게시글 삭제 (좋아요, 댓글, 이미지를 먼저 일괄 삭제한 뒤 호출)
+    @Modifying
+    @Query("delete from Board b where b.id = :boardId")
+    int deleteInBatchById(@Param("boardId") Long boardId);
+
+    // 교육 삭제 시 교육을 참조하는 게시글 일괄 삭제 (좋아요, 댓글, 이미지를 먼저 일괄 삭제한 뒤 호출)
+    //교육 삭제 시 함께 삭제되는 게시글 (커밋 이후 전문 검색 인덱스에서 제거)
+    @Query("select b.id from Board b where b.education.id = :educationId")
+    List<Long> findIdsByEducationId(@Param("educationId") Long educationId);
+
+    @Modifying
+    @Query("delete from Board b where b.education.id = :educationId")
+    int deleteAllInBatchByEducationId(@Param("educationId") Long educationId);
+
+    // 전문 검색 인덱스 적재 - id 순 페이지 단위 (id, 제목, 본문)
+    @Query("select b.id, b.title, b.content from Board b where b.id > :lastId order by b.id")
+    List<Object[]> findSearchFieldsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select b.id, b.title, b.content from Board b where b.id in :boardIds")
+    List<Object[]> findSearchFieldsByIdIn(@Param("boardIds") Collection<Long> boardIds);
+
+    // 전문 검색 인덱스 파일 복원 후 그 사이 수정된 게시글 조회
+    @Query("select b.id from Board b where b.modifiedDate >= :since")
+    List<Long> findIdsModifiedSince(@Param("since") LocalDateTime since);
+
+    // 전문 검색 결과 페이지 조회 (작성자, 교육 함께 조회, 순서는 호출하는 쪽에서 맞춤)
+    @EntityGraph(attributePaths = {"user", "education"})
+    List<Board> findByIdIn(Collection<Long> boardIds);
 }
@@ -2,6 +2,9 @@ package com.gabia.gyebalja.repository;
 
 import com.gabia.gyebalja.domain.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 /**
  * Author : 정태균
@@ -9,4 +12,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 
 public interface CategoryRepository extends JpaRepository<Category,Long> {
+    // 전체 카테고리 id 조회 (교육 일괄 등록 시 검증용)
+    @Query("select c.id from Category c")
+    List<Long> findAllIds();
 }
@@ -1,9 +1,17 @@
 package com.gabia.gyebalja.repository;
 
 import com.gabia.gyebalja.domain.Comment;
+import com.gabia.gyebalja.dto.comment.CommentResponseDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Author : 이현재
@@ -11,5 +19,35 @@ import java.util.List;
  */
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByBoardId(Long id);
+    // 댓글 작성자 함께 조회
+    @EntityGraph(attributePaths = "user")
+    Optional<Comment> findWithUserById(Long id);
+
+    // 게시글 댓글 전체 (DTO projection, 작성자 이름까지 한 번에 조회)
+    @Query("select new com.gabia.gyebalja.dto.comment.CommentResponseDto(c.id, c.content, c.board.id, u.id, u.name, c.createdDate, c.modifiedDate)" +
+            " from Comment c left join c.user u where c.board.id = :boardId order by c.createdDate asc, c.id asc")
+    List<CommentResponseDto> findCommentDtoByBoardId(@Param("boardId") Long boardId);
+
+    // 게시글 삭제 시 댓글 일괄 삭제
+    @Modifying
+    @Query("delete from Comment c where c.board.id = :boardId")
+    int deleteAllInBatchByBoardId(@Param("boardId") Long boardId);
+
+    // 교육 삭제 시 교육을 참조하는 게시글들의 댓글 일괄 삭제
+    @Modifying
+    @Query("delete from Comment c where c.board.id in (select b.id from Board b where b.education.id = :educationId)")
+    int deleteAllInBatchByBoardEducationId(@Param("educationId") Long educationId);
+
+    // 게시글 댓글 cursor 페이징 첫 페이지 (Pageable 은 limit 용도로만 사용)
+    @Query("select new com.gabia.gyebalja.dto.comment.CommentResponseDto(c.id, c.content, c.board.id, u.id, u.name, c.createdDate, c.modifiedDate)" +
+            " from Comment c left join c.user u where c.board.id = :boardId order by c.createdDate asc, c.id asc")
+    List<CommentResponseDto> findCommentDtoByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    // 게시글 댓글 cursor 페이징 (cursor 의 (작성일시, id) 다음부터, id 는 pooled 할당이라 작성 순서가 아니므로 작성일시 기준)
+    @Query("select new com.gabia.gyebalja.dto.comment.CommentResponseDto(c.id, c.content, c.board.id, u.id, u.name, c.createdDate, c.modifiedDate)" +
+            " from Comment c left join c.user u where c.board.id = :boardId" +
+            " and (c.createdDate > :cursorCreatedDate or (c.createdDate = :cursorCreatedDate and c.id > :cursorId))" +
+            " order by c.createdDate asc, c.id asc")
+    List<CommentResponseDto> findCommentDtoByBoardIdAfter(@Param("boardId") Long boardId, @Param("cursorCreatedDate") LocalDateTime cursorCreatedDate,
+                                                          @Param("cursorId") Long cursorId, Pageable pageable);
 }
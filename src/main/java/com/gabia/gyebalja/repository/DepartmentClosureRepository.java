@@ -0,0 +1,20 @@
+package com.gabia.gyebalja.repository;
+
+import com.gabia.gyebalja.domain.DepartmentClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public interface DepartmentClosureRepository extends JpaRepository<DepartmentClosure, Long> {
+
+    //부서와 모든 하위 부서 id (자기 자신 포함)
+    @Query("select dc.descendantId from DepartmentClosure dc where dc.ancestorId = :ancestorId")
+    List<Long> findDescendantIds(@Param("ancestorId") Long ancestorId);
+}
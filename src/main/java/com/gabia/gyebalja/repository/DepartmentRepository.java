@@ -2,6 +2,10 @@ package com.gabia.gyebalja.repository;
 
 import com.gabia.gyebalja.domain.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 /**
  * Author : 이현재
@@ -9,4 +13,12 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
+
+    //부서 closure 테이블 생성 - (부서 id, 상위 부서 id) 전체
+    @Query("select d.id, p.id from Department d left join d.parentDepartment p")
+    List<Object[]> findAllParentIds();
+
+    //바로 아래 하위 부서
+    @Query("select d from Department d where d.parentDepartment.id = :parentId order by d.id")
+    List<Department> findChildren(@Param("parentId") Long parentId);
 }
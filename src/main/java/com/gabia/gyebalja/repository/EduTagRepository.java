@@ -2,6 +2,13 @@ package com.gabia.gyebalja.repository;
 
 import com.gabia.gyebalja.domain.EduTag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Author : 정태균
@@ -11,4 +18,31 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface EduTagRepository extends JpaRepository<EduTag, Long> {
 
     void deleteByEducationId(Long educationId);
+
+    //교육 수정 시 기존 관계와 태그 이름 비교용 (빠진 관계만 삭제하고 태그, 등록일을 인기 급상승 태그에서 차감)
+    @Query("select et from EduTag et join fetch et.tag where et.education.id = :educationId")
+    List<EduTag> findByEducationId(@Param("educationId") Long educationId);
+
+    //교육 삭제 시 관계테이블 일괄 삭제 (엔티티 조회 없이 delete 한 번)
+    @Modifying
+    @Query("delete from EduTag et where et.education.id = :educationId")
+    int deleteAllInBatchByEducationId(@Param("educationId") Long educationId);
+
+    //교육 태그 검색 인덱스 적재 (교육 id, 태그 id)
+    @Query("select et.education.id, et.tag.id from EduTag et")
+    List<Object[]> findAllEducationIdAndTagId();
+
+    @Query("select et.education.id, et.tag.id from EduTag et where et.education.id in :educationIds")
+    List<Object[]> findEducationIdAndTagIdByEducationIdIn(@Param("educationIds") Collection<Long> educationIds);
+
+    //인기 급상승 태그 - 일별 태그 사용 횟수 (since 이후 등록된 관계, idx_edu_tag_created_date)
+    @Query("select et.tag.id, cast(et.createdDate as date), count(et) from EduTag et where et.createdDate >= :since group by et.tag.id, cast(et.createdDate as date)")
+    List<Object[]> countDailyUsageSince(@Param("since") LocalDateTime since);
+
+    @Query("select et.tag.id, cast(et.createdDate as date), count(et) from EduTag et where et.tag.id in :tagIds and et.createdDate >= :since group by et.tag.id, cast(et.createdDate as date)")
+    List<Object[]> countDailyUsageByTagIdInSince(@Param("tagIds") Collection<Long> tagIds, @Param("since") LocalDateTime since);
+
+    //인기 급상승 태그 - 후보 태그의 정확한 사용 횟수
+    @Query("select t.id, t.name, count(et) from EduTag et join et.tag t where t.id in :tagIds and et.createdDate >= :since group by t.id, t.name")
+    List<Object[]> countUsageByTagIdInSince(@Param("tagIds") Collection<Long> tagIds, @Param("since") LocalDateTime since);
 }
@@ -1,13 +1,23 @@
 package com.gabia.gyebalja.repository;
 
 import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.dto.education.EducationExportDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 /**
  * Author : 정태균
@@ -25,4 +35,73 @@ public interface EducationRepository extends JpaRepository<Education,Long> {
     //사용자의 교육목록을 가져오기 위한 메서드
     @Query("select e from Education e join fetch e.category c where e.user.id = :userId")
     List<Education> findEducationByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    //교육 삭제 (게시글(좋아요, 댓글, 이미지), 관계테이블을 먼저 일괄 삭제한 뒤 호출, 삭제 후 영속성 컨텍스트 초기화)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Education e where e.id = :educationId")
+    int deleteInBatchById(@Param("educationId") Long educationId);
+
+    //HR 리포트용 교육 이력 export (DTO projection + forward-only 커서, 반드시 트랜잭션 안에서 소비 후 close)
+    //MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 가져옴 (없으면 전체 결과를 드라이버가 메모리에 적재)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.gabia.gyebalja.dto.education.EducationExportDto(e.id, e.title, e.startDate, e.endDate, e.totalHours, e.type, e.place, u.id, u.name, d.id, d.name, c.id, c.name)" +
+            " from Education e left join e.user u left join u.department d left join e.category c" +
+            " where (:fromDate is null or e.startDate >= :fromDate) and (:toDate is null or e.startDate < :toDate)" +
+            " and (:deptId is null or d.id = :deptId) and (:categoryId is null or c.id = :categoryId)" +
+            " order by e.id")
+    Stream<EducationExportDto> streamEducationForExport(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate, @Param("deptId") Long deptId, @Param("categoryId") Long categoryId);
+
+    //교육 태그 검색 인덱스 적재 (id, 카테고리 id, 시작일)
+    @Query("select e.id, c.id, e.startDate from Education e left join e.category c")
+    List<Object[]> findAllIndexFields();
+
+    @Query("select e.id, c.id, e.startDate from Education e left join e.category c where e.id in :educationIds")
+    List<Object[]> findIndexFieldsByIdIn(@Param("educationIds") Collection<Long> educationIds);
+
+    //교육 태그 검색, 전문 검색 결과 페이지 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Query("select e from Education e join fetch e.category c where e.id in :educationIds")
+    List<Education> findWithCategoryByIdIn(@Param("educationIds") Collection<Long> educationIds);
+
+    //전문 검색 인덱스 적재 - id 순 페이지 단위 (id, 제목, 내용)
+    @Query("select e.id, e.title, e.content from Education e where e.id > :lastId order by e.id")
+    List<Object[]> findSearchFieldsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select e.id, e.title, e.content from Education e where e.id in :educationIds")
+    List<Object[]> findSearchFieldsByIdIn(@Param("educationIds") Collection<Long> educationIds);
+
+    //전문 검색 인덱스 파일 복원 후 그 사이 수정된 교육 조회
+    @Query("select e.id from Education e where e.modifiedDate >= :since")
+    List<Long> findIdsModifiedSince(@Param("since") LocalDateTime since);
+
+    //통계 팩트 저장소 적재 - id 순 페이지 단위 (id, 사용자 id, 부서 id, 카테고리 id, 시작일, 교육 시간)
+    @Query("select e.id, u.id, d.id, c.id, e.startDate, e.totalHours from Education e left join e.user u left join u.department d left join e.category c" +
+            " where e.id > :lastId order by e.id")
+    List<Object[]> findFactFieldsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select e.id, u.id, d.id, c.id, e.startDate, e.totalHours from Education e left join e.user u left join u.department d left join e.category c" +
+            " where e.id in :educationIds")
+    List<Object[]> findFactFieldsByIdIn(@Param("educationIds") Collection<Long> educationIds);
+
+    //통계 스냅샷 복원 후 삭제된 교육 확인
+    @Query("select e.id from Education e")
+    List<Long> findAllIds();
+
+    //일별 통계 버킷 재집계 대상 날짜
+    @Query("select distinct e.startDate from Education e where e.id in :educationIds")
+    List<LocalDate> findStartDatesByIdIn(@Param("educationIds") Collection<Long> educationIds);
+
+    @Query("select distinct e.startDate from Education e where e.startDate is not null")
+    List<LocalDate> findAllStartDates();
+
+    @Query("select distinct e.startDate from Education e where e.user.id = :userId")
+    List<LocalDate> findStartDatesByUserId(@Param("userId") Long userId);
+
+    //교육 삭제 전 시작일, 사용자, 교육시간, 교육-태그 관계의 태그 (일별 통계 버킷 재집계, 사용자 연도별 합계 차감, 인기 급상승 태그 반영)
+    //태그마다 한 행 (태그가 없으면 태그 id 가 null 인 한 행, 교육이 없으면 빈 목록)
+    @Query("select e.startDate, e.user.id, e.totalHours, et.tag.id from Education e left join e.eduTags et where e.id = :educationId")
+    List<Object[]> findDeletionFieldsById(@Param("educationId") Long educationId);
+
+    //사용자 부서 변경 시 통계 팩트 다시 적재
+    @Query("select e.id from Education e where e.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
 }
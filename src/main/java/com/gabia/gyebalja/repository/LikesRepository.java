@@ -2,7 +2,13 @@ package com.gabia.gyebalja.repository;
 
 import com.gabia.gyebalja.domain.Likes;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,9 +18,35 @@ import java.util.Optional;
 
 public interface LikesRepository extends JpaRepository<Likes, Long> {
 
-    int countByBoardId(Long boardId);
+    // 게시글 좋아요 수 (board 조인 없이 likes 테이블만 조회)
+    @Query("select count(l) from Likes l where l.board.id = :boardId")
+    int countByBoardId(@Param("boardId") Long boardId);
 
     Optional<Likes> findByUserIdAndBoardId(Long userId, Long boardId);
 
-    void deleteByUserIdAndBoardId(Long userId, Long boardId);
+    // 좋아요 취소 (엔티티 조회 없이 delete 한 번)
+    @Modifying
+    @Query("delete from Likes l where l.user.id = :userId and l.board.id = :boardId")
+    int deleteByUserIdAndBoardId(@Param("userId") Long userId, @Param("boardId") Long boardId);
+
+    // 좋아요 등록 (이미 있으면 무시, uk_likes_user_board 기준) - 존재하지 않는 user/board 는 FK 로 실패
+    // on duplicate key update 는 MySQL 전용 구문 - 운영(MySQL), 테스트(H2 는 반드시 MODE=MySQL) 외의 DB 에서는 동작하지 않음
+    @Modifying
+    @Query(value = "insert into likes (id, created_date, modified_date, user_id, board_id) values (:id, :now, :now, :userId, :boardId)" +
+            " on duplicate key update id = id", nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id, @Param("userId") Long userId, @Param("boardId") Long boardId, @Param("now") LocalDateTime now);
+
+    // 게시글 삭제 시 좋아요 일괄 삭제
+    @Modifying
+    @Query("delete from Likes l where l.board.id = :boardId")
+    int deleteAllInBatchByBoardId(@Param("boardId") Long boardId);
+
+    // 교육 삭제 시 교육을 참조하는 게시글들의 좋아요 일괄 삭제
+    @Modifying
+    @Query("delete from Likes l where l.board.id in (select b.id from Board b where b.education.id = :educationId)")
+    int deleteAllInBatchByBoardEducationId(@Param("educationId") Long educationId);
+
+    // 게시글 목록 중 사용자가 좋아요 한 게시글 id (uk_likes_user_board 인덱스 사용)
+    @Query("select l.board.id from Likes l where l.user.id = :userId and l.board.id in :boardIds")
+    List<Long> findLikedBoardIds(@Param("userId") Long userId, @Param("boardIds") Collection<Long> boardIds);
 }
@@ -11,6 +11,8 @@ import java.util.List;
 /**
  * Author : 정태균
  * Part : All
+ * Author : 이현재
+ * Part : getRankByDeptIdWithSubDepartments()
  */
 
 public interface RankRepository extends JpaRepository<User, Long> {
@@ -21,4 +23,13 @@ public interface RankRepository extends JpaRepository<User, Long> {
             "group by u.id " +
             "order by sum(e.totalHours) desc, count(u) desc, u.name asc")
     List<ArrayList<Object>> getRankByDeptId(@Param("deptId") Long deptId,  @Param("currentYear") String currentYear);
+
+    /** 부서별 랭킹 (하위 부서 포함, 부서 closure 테이블 join) */
+    @Query("select sum(e.totalHours), count(e), u " +
+            "from User u join DepartmentClosure dc on dc.descendantId = u.department.id " +
+            "left join Education e on (u.id = e.user.id and substring(e.startDate, 1, 4) = :currentYear) " +
+            "where dc.ancestorId = :deptId " +
+            "group by u.id " +
+            "order by sum(e.totalHours) desc, count(u) desc, u.name asc")
+    List<ArrayList<Object>> getRankByDeptIdWithSubDepartments(@Param("deptId") Long deptId,  @Param("currentYear") String currentYear);
 }
@@ -0,0 +1,53 @@
+package com.gabia.gyebalja.repository;
+
+import com.gabia.gyebalja.domain.StatisticsDailyBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public interface StatisticsDailyBucketRepository extends JpaRepository<StatisticsDailyBucket, Long> {
+
+    //날짜 단위 재집계 - 해당 날짜의 버킷 삭제 후 교육 테이블에서 다시 집계해서 insert
+    @Modifying
+    @Query("delete from StatisticsDailyBucket b where b.day in :days")
+    int deleteByDayIn(@Param("days") Collection<LocalDate> days);
+
+    @Modifying
+    @Query("insert into StatisticsDailyBucket (day, categoryId, departmentId, educationCount, totalHours)" +
+            " select e.startDate, c.id, d.id, count(e), sum(e.totalHours) from Education e left join e.category c left join e.user u left join u.department d" +
+            " where e.startDate in :days group by e.startDate, c.id, d.id")
+    int insertByDayIn(@Param("days") Collection<LocalDate> days);
+
+    //전체 재집계 대상 날짜 (버킷이 있는 날짜 - 교육이 없어진 날짜의 버킷 삭제용)
+    @Query("select distinct b.day from StatisticsDailyBucket b")
+    List<LocalDate> findAllDays();
+
+    //기간 통계 - 날짜별 합계 (기간의 날짜 수 이하의 행)
+    @Query("select b.day, sum(b.educationCount), sum(b.totalHours) from StatisticsDailyBucket b" +
+            " where b.day >= :from and b.day <= :to and (:categoryId is null or b.categoryId = :categoryId) and (:deptId is null or b.departmentId = :deptId)" +
+            " group by b.day order by b.day")
+    List<Object[]> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("categoryId") Long categoryId, @Param("deptId") Long deptId);
+
+    //기간 통계 (하위 부서 포함) - 날짜별 합계
+    @Query("select b.day, sum(b.educationCount), sum(b.totalHours) from StatisticsDailyBucket b" +
+            " where b.day >= :from and b.day <= :to and (:categoryId is null or b.categoryId = :categoryId)" +
+            " and b.departmentId in (select dc.descendantId from DepartmentClosure dc where dc.ancestorId = :deptId)" +
+            " group by b.day order by b.day")
+    List<Object[]> sumByDayInDepartmentTree(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("categoryId") Long categoryId, @Param("deptId") Long deptId);
+
+    //부서 트리별 합계 - 상위 부서 id 마다 하위 부서 전체의 건수, 시간 (부서 closure 테이블 join)
+    @Query("select dc.ancestorId, sum(b.educationCount), sum(b.totalHours) from DepartmentClosure dc, StatisticsDailyBucket b" +
+            " where b.departmentId = dc.descendantId and dc.ancestorId in :ancestorIds and b.day >= :from and b.day <= :to" +
+            " group by dc.ancestorId")
+    List<Object[]> sumByDepartmentTree(@Param("ancestorIds") Collection<Long> ancestorIds, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
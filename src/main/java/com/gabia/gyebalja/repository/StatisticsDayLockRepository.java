@@ -0,0 +1,28 @@
+package com.gabia.gyebalja.repository;
+
+import com.gabia.gyebalja.domain.StatisticsDayLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public interface StatisticsDayLockRepository extends JpaRepository<StatisticsDayLock, LocalDate> {
+
+    @Query("select l.day from StatisticsDayLock l where l.day in :days")
+    List<LocalDate> findDaysIn(@Param("days") Collection<LocalDate> days);
+
+    //날짜 단위 재집계 잠금 (교착 상태를 피하도록 항상 날짜순으로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from StatisticsDayLock l where l.day in :days order by l.day")
+    List<StatisticsDayLock> lockByDayIn(@Param("days") Collection<LocalDate> days);
+}
@@ -13,7 +13,7 @@ import java.util.List;
  * Author : 이현재
  * Part : getMainStatisticsWithYear(), getMainStatisticsWithMonth(), getMainStatisticsWithCategory(), getMainStatisticsWithTag()
  * Author : 정태균
- * Part : getEducationStatisticsWithMonth(), getEducationStatisticsWithCategory(), getEducationStatisticsWithTag(), getEducationStatisticsWithIndividualTotalHours(), getEducationStatisticsWithCompanyTotalHours(), getEducationStatisticsWithRank()
+ * Part : getEducationStatisticsWithMonth(), getEducationStatisticsWithCategory(), getEducationStatisticsWithTag()
  */
 
 public interface StatisticsRepository extends JpaRepository<Education, Long>{
@@ -64,21 +64,5 @@ public interface StatisticsRepository extends JpaRepository<Education, Long>{
     @Query("select t.name, count(et) from Education e join e.eduTags et join et.tag t where e.user.id = :userId group by et.tag order by count(et) desc")
     List<ArrayList<String>> getEducationStatisticsWithTag(@Param("userId") Long userId, Pageable pageable);
 
-    /** 개인 교육시간 vs 회사 전체 교육시간 평균 (당해년도) */
-    // 올해 개인 총 교육시간
-    @Query("select sum(e.totalHours) from Education e where e.user.id = :userId and substring(e.startDate, 1, 4) = :currentYear")
-    Long getEducationStatisticsWithIndividualTotalHours(@Param("userId") Long userId, @Param("currentYear") String currentYear);
-
-    // 올해 회사 총 교육시간
-    @Query("select sum(e.totalHours) from Education e where substring(e.startDate, 1, 4) = :currentYear")
-    Long getEducationStatisticsWithCompanyTotalHours(@Param("currentYear") String currentYear);
-
-    /** 개인 부서 내 등수 (당해년도) */
-    // 부서원들의 시간 합계 조회
-    @Query("select sum(e.totalHours) as totalHours " +
-            "from Education e join e.user u " +
-            "where u.department.id = :deptId and substring(e.startDate, 1, 4) = :currentYear " +
-            "group by u.id" +
-            " order by sum(e.totalHours) desc")
-    ArrayList<Long> getEducationStatisticsWithRank(@Param("deptId") Long deptId, @Param("currentYear") String currentYear);
+    //개인 교육시간 vs 회사 평균, 부서 내 등수 (당해년도)는 사용자 연도별 합계(UserYearSummaryRepository) 사용
 }
@@ -2,7 +2,11 @@ package com.gabia.gyebalja.repository;
 
 import com.gabia.gyebalja.domain.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,4 +17,19 @@ import java.util.Optional;
 public interface TagRepository extends JpaRepository<Tag,Long> {
     //태그 이름으로 조회
     Optional<Tag> findHashTagByName(String tagName);
+
+    //태그 이름 목록으로 조회
+    List<Tag> findByNameIn(Collection<String> tagNames);
+
+    //전체 태그 id, 이름 조회 (교육 일괄 등록 시 태그 매핑용) - [0] : id, [1] : name
+    @Query("select t.id, t.name from Tag t")
+    List<Object[]> findAllIdAndName();
+
+    //전체 태그 id, 이름, 사용 횟수(교육-태그 관계 수) 조회 (자동완성 인덱스 생성용) - [0] : id, [1] : name, [2] : count
+    @Query("select t.id, t.name, count(et.id) from Tag t left join EduTag et on et.tag = t group by t.id, t.name")
+    List<Object[]> findAllUsage();
+
+    //태그 id 목록의 이름, 사용 횟수 조회 (자동완성 인덱스 갱신용)
+    @Query("select t.id, t.name, count(et.id) from Tag t left join EduTag et on et.tag = t where t.id in :tagIds group by t.id, t.name")
+    List<Object[]> findUsageByIdIn(@Param("tagIds") Collection<Long> tagIds);
 }
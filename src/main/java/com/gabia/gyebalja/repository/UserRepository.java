@@ -1,8 +1,13 @@
 package com.gabia.gyebalja.repository;
 
 import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.user.UserSearchResponseDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,4 +21,22 @@ public interface UserRepository extends JpaRepository<User,Long> {
 
     // 가비아 고유 사용자 번호로 조회 쿼리
     Optional<User> findUserByGabiaUserNo(Long gabiaUserNo);
+
+    // 전체 사용자 id 조회 (교육 일괄 등록 시 검증용)
+    @Query("select u.id from User u")
+    List<Long> findAllIds();
+
+    // 사용자 검색 인덱스 적재 (전체)
+    @Query("select new com.gabia.gyebalja.dto.user.UserSearchResponseDto(u.id, u.name, u.engName, u.email, d.id, d.name, u.positionName, u.profileImg)" +
+            " from User u left join u.department d")
+    List<UserSearchResponseDto> findAllSearchDto();
+
+    // 사용자 검색 인덱스 적재 (한 건)
+    @Query("select new com.gabia.gyebalja.dto.user.UserSearchResponseDto(u.id, u.name, u.engName, u.email, d.id, d.name, u.positionName, u.profileImg)" +
+            " from User u left join u.department d where u.id = :id")
+    Optional<UserSearchResponseDto> findSearchDtoById(@Param("id") Long id);
+
+    // 회사 전체 순위 페이지 (UserResponseDto 의 부서, 상위 부서까지 한 번에 조회)
+    @Query("select u from User u left join fetch u.department d left join fetch d.parentDepartment where u.id in :ids")
+    List<User> findWithDepartmentByIdIn(@Param("ids") Collection<Long> ids);
 }
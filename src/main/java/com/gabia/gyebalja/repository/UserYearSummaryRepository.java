@@ -0,0 +1,43 @@
+package com.gabia.gyebalja.repository;
+
+import com.gabia.gyebalja.domain.UserYearSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public interface UserYearSummaryRepository extends JpaRepository<UserYearSummary, UserYearSummary.Key> {
+
+    // 사용자 행 증감 (없으면 생성)
+    // on duplicate key update ... values() 는 MySQL 전용 구문 - 운영(MySQL), 테스트(H2 는 반드시 MODE=MySQL) 외의 DB 에서는 동작하지 않음
+    @Modifying
+    @Query(value = "insert into user_year_summary (user_id, summary_year, total_hours, education_count)" +
+            " values (:userId, :year, :hours, :count)" +
+            " on duplicate key update total_hours = total_hours + values(total_hours), education_count = education_count + values(education_count)", nativeQuery = true)
+    int add(@Param("userId") Long userId, @Param("year") int year, @Param("hours") long hours, @Param("count") long count);
+
+    // 회사 전체 연도 합계 (사용자 행 합산 - 회사 전체 행을 따로 두면 모든 교육 변경이 한 행의 잠금을 기다림)
+    @Query("select coalesce(sum(s.totalHours), 0) from UserYearSummary s where s.year = :year")
+    long sumTotalHoursByYear(@Param("year") int year);
+
+    // 부서 내에서 교육시간이 더 많은 사용자 수 (부서 내 등수 - 1)
+    @Query("select count(s) from UserYearSummary s where s.year = :year and s.totalHours > :hours" +
+            " and s.userId in (select u.id from User u where u.department.id = :deptId)")
+    long countHigherInDepartment(@Param("deptId") Long deptId, @Param("year") int year, @Param("hours") long hours);
+
+    // 전체 재집계
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from user_year_summary", nativeQuery = true)
+    int deleteAllSummaries();
+
+    @Modifying(clearAutomatically = true) //영속성 컨텍스트에 남아 있는 이전 합계 제거
+    @Query(value = "insert into user_year_summary (user_id, summary_year, total_hours, education_count)" +
+            " select e.user_id, year(e.start_date), sum(e.total_hours), count(*) from education e" +
+            " where e.user_id is not null and e.start_date is not null group by e.user_id, year(e.start_date)", nativeQuery = true)
+    int insertAllUserSummaries();
+}
@@ -0,0 +1,42 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 게시글 전체 수 (근사값) 캐시
+ * - 목록 요청마다 count(*) 를 실행하지 않고, 한 번이라도 요청된 이후에만 백그라운드에서 주기적으로 갱신
+ * - gyebalja.board.count-refresh-interval-ms : 갱신 주기 (기본 60000)
+ */
+@RequiredArgsConstructor
+@Service
+public class BoardCountService {
+
+    private final BoardRepository boardRepository;
+
+    private volatile boolean requested = false;
+    private volatile Long approximateCount;
+
+    /** 조회 - 캐시된 게시글 전체 수 (아직 갱신 전이면 null) */
+    public Long getApproximateCount(){
+        requested = true;
+        return approximateCount;
+    }
+
+    /** 갱신 - 게시글 전체 수 (readOnly 트랜잭션이므로 replica 가 있으면 replica 에서 조회) */
+    @Scheduled(fixedDelayString = "${gyebalja.board.count-refresh-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void refresh(){
+        if (!requested) return;
+
+        approximateCount = boardRepository.count();
+    }
+}
@@ -1,18 +1,26 @@
 package com.gabia.gyebalja.service;
 
+import com.gabia.gyebalja.common.event.BoardChangedEvent;
 import com.gabia.gyebalja.domain.Board;
 import com.gabia.gyebalja.domain.Education;
 import com.gabia.gyebalja.domain.User;
 import com.gabia.gyebalja.dto.board.BoardAllResponseDto;
 import com.gabia.gyebalja.dto.board.BoardRequestDto;
 import com.gabia.gyebalja.dto.board.BoardDetailResponseDto;
+import com.gabia.gyebalja.dto.board.BoardSliceResponseDto;
+import com.gabia.gyebalja.dto.comment.CommentSliceResponseDto;
+import com.gabia.gyebalja.repository.BoardImgRepository;
 import com.gabia.gyebalja.repository.BoardRepository;
+import com.gabia.gyebalja.repository.CommentRepository;
 import com.gabia.gyebalja.repository.EducationRepository;
 import com.gabia.gyebalja.repository.LikesRepository;
 import com.gabia.gyebalja.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +44,10 @@ public class BoardService {
     private final UserRepository userRepository;
     private final EducationRepository educationRepository;
     private final LikesRepository likesRepository;
+    private final CommentRepository commentRepository;
+    private final BoardImgRepository boardImgRepository;
+    private final BoardCountService boardCountService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 등록 - board 한 건 (게시글 등록) */
     public Long postOneBoard(BoardRequestDto boardRequestDto){
@@ -49,17 +61,22 @@ public class BoardService {
                 .user(user)
                 .education(education)
                 .build()).getId();
+        eventPublisher.publishEvent(BoardChangedEvent.of(boardId)); //커밋 이후 전문 검색 인덱스 반영
 
         return boardId;
     }
 
     /** 조회 - board 한 건 (상세페이지) */
     public BoardDetailResponseDto getOneBoard(Long boardId){
-        Board board = boardRepository.findById(boardId).orElseThrow(() -> new IllegalArgumentException("해당 게시글이 없습니다."));
+        Board board = boardRepository.findDetailById(boardId).orElseThrow(() -> new IllegalArgumentException("해당 게시글이 없습니다."));
 
         board.upViews();
         BoardDetailResponseDto boardDetailResponseDto = new BoardDetailResponseDto(board);
 
+        // 게시글 댓글 첫 페이지 조회 - boardDto 삽입 (다음 페이지는 댓글 cursor 페이징 API 사용)
+        CommentSliceResponseDto commentSlice = new CommentSliceResponseDto(commentRepository.findCommentDtoByBoardId(boardId, PageRequest.of(0, CommentService.COMMENT_PAGE_SIZE + 1)), CommentService.COMMENT_PAGE_SIZE);
+        boardDetailResponseDto.changeCommentPage(commentSlice);
+
         // 게시글 좋아요 조회 - boardDto 삽입
         int totalNumberOfLikes = likesRepository.countByBoardId(boardId);
         boardDetailResponseDto.changeLikes(totalNumberOfLikes);
@@ -74,6 +91,7 @@ public class BoardService {
         // 더티 체킹
         Education education = educationRepository.findById(boardRequestDto.getEducationId()).orElseThrow(() -> new IllegalArgumentException("해당 데이터가 없습니다."));
         board.changeBoard(boardRequestDto, education);
+        eventPublisher.publishEvent(BoardChangedEvent.of(boardId));
 
         em.flush();
         em.clear();
@@ -83,7 +101,12 @@ public class BoardService {
 
     /** 삭제 - board 한 건 (상세페이지에서) */
     public Long deleteOneBoard(Long boardId){
-        boardRepository.deleteById(boardId);
+        // 엔티티 조회/cascade 없이 참조하는 테이블부터 일괄 삭제 (좋아요 -> 댓글 -> 이미지 -> 게시글)
+        likesRepository.deleteAllInBatchByBoardId(boardId);
+        commentRepository.deleteAllInBatchByBoardId(boardId);
+        boardImgRepository.deleteAllInBatchByBoardId(boardId);
+        if (boardRepository.deleteInBatchById(boardId) == 0) throw new IllegalArgumentException("해당 게시글이 없습니다.");
+        eventPublisher.publishEvent(BoardChangedEvent.of(boardId));
         em.flush();
         em.clear();
 
@@ -102,4 +125,13 @@ public class BoardService {
 
         return boardAllResponseDtos;
     }
+
+    /** 조회 - board 전체 (무한 스크롤, count 쿼리 없음) */
+    @Transactional(readOnly = true)
+    public BoardSliceResponseDto getSliceBoard(Pageable pageable, boolean withTotal){
+        Slice<BoardAllResponseDto> boardSlice = boardRepository.findSliceBy(pageable).map(board -> new BoardAllResponseDto(board));
+        Long approximateTotalCount = withTotal ? boardCountService.getApproximateCount() : null;
+
+        return new BoardSliceResponseDto(boardSlice, approximateTotalCount);
+    }
 }
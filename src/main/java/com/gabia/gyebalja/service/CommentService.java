@@ -3,19 +3,21 @@ package com.gabia.gyebalja.service;
 import com.gabia.gyebalja.domain.Board;
 import com.gabia.gyebalja.domain.Comment;
 import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.comment.CommentCursor;
 import com.gabia.gyebalja.dto.comment.CommentRequestDto;
 import com.gabia.gyebalja.dto.comment.CommentResponseDto;
+import com.gabia.gyebalja.dto.comment.CommentSliceResponseDto;
 import com.gabia.gyebalja.repository.BoardRepository;
 import com.gabia.gyebalja.repository.CommentRepository;
 import com.gabia.gyebalja.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Author : 이현재
@@ -26,6 +28,10 @@ import java.util.stream.Collectors;
 @Service
 public class CommentService {
 
+    /** 댓글 한 페이지 기본/최대 건수 (게시글 상세에는 첫 페이지만 포함) */
+    public static final int COMMENT_PAGE_SIZE = 30;
+    public static final int MAX_COMMENT_PAGE_SIZE = 100;
+
     @PersistenceContext
     EntityManager em;
 
@@ -48,7 +54,7 @@ public class CommentService {
     /** 조회 - comment 한 건 (어디서 사용할 지 모르지만 일단 구현) */
     @Transactional
     public CommentResponseDto getOneComment(Long commentId){
-        Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new IllegalArgumentException("해당 댓글이 없습니다."));
+        Comment comment = commentRepository.findWithUserById(commentId).orElseThrow(() -> new IllegalArgumentException("해당 댓글이 없습니다."));
 
         return new CommentResponseDto(comment);
     }
@@ -79,9 +85,23 @@ public class CommentService {
     /** 조회 - comment 전체 */
     @Transactional
     public List<CommentResponseDto> getAllComment(Long boardId){
-        List<Comment> comments = commentRepository.findByBoardId(boardId);
-        List<CommentResponseDto> commentResponseDtos = comments.stream().map(comment -> new CommentResponseDto(comment)).collect(Collectors.toList());
+        List<CommentResponseDto> commentResponseDtos = commentRepository.findCommentDtoByBoardId(boardId);
 
         return commentResponseDtos;
     }
+
+    /** 조회 - comment 목록 (cursor 페이징, cursor 로 받은 (작성일시, 댓글 id) 다음부터 size 건) */
+    @Transactional(readOnly = true)
+    public CommentSliceResponseDto getCommentSlice(Long boardId, String cursor, int size){
+        int pageSize = Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE);
+        List<CommentResponseDto> comments;
+        if (cursor == null || cursor.isEmpty()) {
+            comments = commentRepository.findCommentDtoByBoardId(boardId, PageRequest.of(0, pageSize + 1));
+        } else {
+            CommentCursor commentCursor = CommentCursor.parse(cursor);
+            comments = commentRepository.findCommentDtoByBoardIdAfter(boardId, commentCursor.getCreatedDate(), commentCursor.getId(), PageRequest.of(0, pageSize + 1));
+        }
+
+        return new CommentSliceResponseDto(comments, pageSize);
+    }
 }
@@ -0,0 +1,204 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.common.event.ChangedIdRecorder;
+import com.gabia.gyebalja.common.event.EducationChangedEvent;
+import com.gabia.gyebalja.common.rank.Leaderboard;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.rank.RankPageResponseDto;
+import com.gabia.gyebalja.dto.rank.RankResponseDto;
+import com.gabia.gyebalja.exception.NotExistUserException;
+import com.gabia.gyebalja.repository.EducationRepository;
+import com.gabia.gyebalja.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 회사 전체 연도별 순위 (메모리 순위표, 요청마다 전사 group by 없음)
+ * - 교육별 반영값(사용자, 연도, 시간)을 기억해 두고 교육 등록/수정/삭제/일괄 등록(EducationChangedEvent) 시 이전 값을 빼고 새 값을 더함
+ * - 주기적으로 교육 테이블에서 다시 만든 순위표와 비교 후 교체 (차이가 있으면 로그)
+ *   gyebalja.rank.company.reconcile-interval-ms : 재생성 주기 (기본 600000, 애플리케이션 시작 시 한 번 생성)
+ */
+@RequiredArgsConstructor
+@Service
+public class CompanyRankService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompanyRankService.class);
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final Leaderboard EMPTY_LEADERBOARD = new Leaderboard();
+
+    private final EducationRepository educationRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ChangedIdRecorder changedEducationIds = new ChangedIdRecorder();
+    private volatile Ranking ranking = new Ranking();
+
+    /** 조회 - 회사 전체 순위 (페이지) */
+    @Transactional(readOnly = true)
+    public RankPageResponseDto getCompanyRanks(int year, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("page 는 0 이상, size 는 1 ~ " + MAX_PAGE_SIZE + " 이어야 합니다.");
+
+        Leaderboard leaderboard = ranking.leaderboard(year);
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        List<Leaderboard.Entry> entries = leaderboard.page(offset, size);
+        Set<Long> userIds = new HashSet<>();
+        for (Leaderboard.Entry entry : entries) {
+            userIds.add(entry.getUserId());
+        }
+        Map<Long, User> users = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (User user : userRepository.findWithDepartmentByIdIn(userIds)) {
+                users.put(user.getId(), user);
+            }
+        }
+
+        List<RankResponseDto> ranks = new ArrayList<>(entries.size());
+        int rank = offset + 1;
+        for (Leaderboard.Entry entry : entries) {
+            User user = users.get(entry.getUserId());
+            if (user != null) ranks.add(toRankResponseDto(rank, entry.getHours(), entry.getCount(), user));
+            rank++;
+        }
+        return new RankPageResponseDto(year, ranks, page, size, leaderboard.size());
+    }
+
+    /** 조회 - 회사 전체 순위에서 내 순위 (교육이 없으면 순위표 인원 + 1 위) */
+    @Transactional(readOnly = true)
+    public RankResponseDto getMyCompanyRank(Long userId, int year) {
+        User user = userRepository.findById(userId).orElseThrow(() -> new NotExistUserException("존재하지 않는 사용자입니다."));
+
+        Leaderboard leaderboard = ranking.leaderboard(year);
+        Leaderboard.Entry entry = leaderboard.get(userId);
+        if (entry == null) return toRankResponseDto(leaderboard.size() + 1, 0, 0, user);
+        return toRankResponseDto(leaderboard.rankOf(userId), entry.getHours(), entry.getCount(), user);
+    }
+
+    private static RankResponseDto toRankResponseDto(int rank, long hours, long count, User user) {
+        return RankResponseDto.builder().rank(rank).totalHour((int) hours).totalCount((int) count).user(user).build();
+    }
+
+    /** 재생성 - id 순 페이지 단위로 새 순위표를 만든 뒤 현재 순위표와 비교 후 교체 */
+    @Scheduled(fixedDelayString = "${gyebalja.rank.company.reconcile-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        Ranking current = ranking;
+        Ranking newRanking = changedEducationIds.rebuildAndReplay(() -> {
+            Ranking rebuilt = new Ranking();
+            Long lastId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = educationRepository.findFactFieldsAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    rebuilt.apply((Long) row[0], contributionOf(row));
+                    lastId = (Long) row[0];
+                }
+            } while (rows.size() == LOAD_BATCH_SIZE);
+            return rebuilt;
+        }, rebuilt -> ranking = rebuilt, ids -> refresh(new ArrayList<>(ids)), transactionManager);
+
+        int drift = current.countDifferences(newRanking);
+        if (!current.contributions.isEmpty() && drift > 0) logger.info("회사 전체 순위 재생성 - 교육 {} 건의 반영값이 달라 교체", drift); //시작 시 첫 생성은 제외
+    }
+
+    // 다시 조회해서 반영 (조회되지 않는 교육은 이전 값만 뺌)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEducationChanged(EducationChangedEvent event) {
+        if (event.getEducationIds().isEmpty()) return;
+
+        changedEducationIds.record(event.getEducationIds());
+        refresh(event.getEducationIds());
+    }
+
+    private void refresh(List<Long> educationIds) {
+        Ranking current = ranking;
+        for (int i = 0; i < educationIds.size(); i += LOAD_BATCH_SIZE) {
+            List<Long> ids = educationIds.subList(i, Math.min(i + LOAD_BATCH_SIZE, educationIds.size()));
+            Set<Long> removedIds = new HashSet<>(ids);
+            for (Object[] row : educationRepository.findFactFieldsByIdIn(ids)) {
+                current.apply((Long) row[0], contributionOf(row));
+                removedIds.remove(row[0]);
+            }
+            for (Long id : removedIds) {
+                current.apply(id, null);
+            }
+        }
+    }
+
+    // 교육 행(id, 사용자 id, 부서 id, 카테고리 id, 시작일, 교육 시간)의 반영값 (사용자나 시작일이 없으면 null)
+    private static Contribution contributionOf(Object[] row) {
+        if (row[1] == null || row[4] == null) return null;
+        return new Contribution((Long) row[1], ((LocalDate) row[4]).getYear(), ((Number) row[5]).intValue());
+    }
+
+    /** 교육 한 건이 순위표에 더한 값 */
+    private static class Contribution {
+        private final long userId;
+        private final int year;
+        private final int hours;
+
+        private Contribution(long userId, int year, int hours) {
+            this.userId = userId;
+            this.year = year;
+            this.hours = hours;
+        }
+
+        private boolean sameAs(Contribution other) {
+            return other != null && userId == other.userId && year == other.year && hours == other.hours;
+        }
+    }
+
+    /** 연도별 순위표와 교육별 반영값 */
+    private static class Ranking {
+        private final Map<Integer, Leaderboard> leaderboards = new ConcurrentHashMap<>();
+        private final Map<Long, Contribution> contributions = new HashMap<>();
+
+        /** 조회용 (교육이 없는 연도는 빈 순위표, 순위표를 만들지 않음) */
+        private Leaderboard leaderboard(int year) {
+            return leaderboards.getOrDefault(year, EMPTY_LEADERBOARD);
+        }
+
+        /** 교육의 이전 반영값을 빼고 새 값을 더함 (contribution 이 null 이면 빼기만) */
+        private synchronized void apply(long educationId, Contribution contribution) {
+            Contribution previous = contribution == null ? contributions.remove(educationId) : contributions.put(educationId, contribution);
+            if (previous != null) leaderboards.computeIfAbsent(previous.year, k -> new Leaderboard()).add(previous.userId, -previous.hours, -1);
+            if (contribution != null) leaderboards.computeIfAbsent(contribution.year, k -> new Leaderboard()).add(contribution.userId, contribution.hours, 1);
+        }
+
+        private synchronized int countDifferences(Ranking other) {
+            int differences = 0;
+            for (Map.Entry<Long, Contribution> entry : contributions.entrySet()) {
+                if (!entry.getValue().sameAs(other.contributions.get(entry.getKey()))) differences++;
+            }
+            for (Long educationId : other.contributions.keySet()) {
+                if (!contributions.containsKey(educationId)) differences++;
+            }
+            return differences;
+        }
+    }
+}
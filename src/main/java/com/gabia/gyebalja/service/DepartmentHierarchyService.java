@@ -0,0 +1,81 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.domain.DepartmentClosure;
+import com.gabia.gyebalja.repository.DepartmentClosureRepository;
+import com.gabia.gyebalja.repository.DepartmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 부서 closure 테이블(DepartmentClosure) 관리
+ * - 부서는 애플리케이션 밖에서 관리되므로 시작 시와 주기적으로 parent_id 전체를 한 번에 읽어 메모리에서 조상 목록을 계산
+ * - 계산 결과가 현재 테이블과 같으면 변경하지 않음 (다르면 한 트랜잭션에서 전체 교체)
+ *
+ * gyebalja.department.closure-refresh-interval-ms : 확인 주기 (기본 600000)
+ */
+@RequiredArgsConstructor
+@Service
+public class DepartmentHierarchyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentHierarchyService.class);
+
+    private final DepartmentRepository departmentRepository;
+    private final DepartmentClosureRepository departmentClosureRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${gyebalja.department.closure-refresh-interval-ms:600000}", initialDelayString = "${gyebalja.department.closure-refresh-interval-ms:600000}")
+    @Transactional
+    public void rebuild() {
+        Map<Long, Long> parentIds = new HashMap<>();
+        for (Object[] row : departmentRepository.findAllParentIds()) {
+            parentIds.put((Long) row[0], (Long) row[1]);
+        }
+
+        // (ancestor, descendant, distance) - 상위 부서를 따라 올라가며 생성, 순환 참조는 끊음
+        Set<List<Long>> closure = new HashSet<>();
+        for (Long departmentId : parentIds.keySet()) {
+            Set<Long> visited = new HashSet<>();
+            Long ancestorId = departmentId;
+            for (long distance = 0; ancestorId != null && parentIds.containsKey(ancestorId) && visited.add(ancestorId); distance++) {
+                closure.add(Arrays.asList(ancestorId, departmentId, distance));
+                ancestorId = parentIds.get(ancestorId);
+            }
+            if (ancestorId != null && visited.contains(ancestorId))
+                logger.warn("부서 상위 관계에 순환이 있습니다 - departmentId={}", departmentId);
+        }
+
+        Set<List<Long>> current = new HashSet<>();
+        for (DepartmentClosure departmentClosure : departmentClosureRepository.findAll()) {
+            current.add(Arrays.asList(departmentClosure.getAncestorId(), departmentClosure.getDescendantId(), (long) departmentClosure.getDistance()));
+        }
+        if (current.equals(closure)) return;
+
+        departmentClosureRepository.deleteAllInBatch();
+        List<DepartmentClosure> departmentClosures = new ArrayList<>(closure.size());
+        for (List<Long> row : closure) {
+            departmentClosures.add(DepartmentClosure.builder().ancestorId(row.get(0)).descendantId(row.get(1)).distance(row.get(2).intValue()).build());
+        }
+        departmentClosureRepository.saveAll(departmentClosures);
+        departmentClosureRepository.flush();
+        logger.info("부서 closure 테이블 갱신 - 부서 {} 개, 행 {} 개", parentIds.size(), closure.size());
+    }
+}
@@ -0,0 +1,65 @@
+package com.gabia.gyebalja.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabia.gyebalja.dto.education.EducationExportDto;
+import com.gabia.gyebalja.dto.education.EducationExportFormat;
+import com.gabia.gyebalja.repository.EducationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@RequiredArgsConstructor
+@Service
+public class EducationExportService {
+
+    // 지정한 건수마다 클라이언트로 flush (버퍼에 쌓아두지 않음)
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final EducationRepository educationRepository;
+    private final ObjectMapper objectMapper;
+
+    /** 조회 - education 전체 export (JSON Lines, CSV), 출력한 건수 반환 */
+    @Transactional(readOnly = true)
+    public long exportEducations(EducationExportFormat format, Integer year, Long deptId, Long categoryId, OutputStream outputStream) throws IOException {
+        LocalDate fromDate = year != null ? LocalDate.of(year, 1, 1) : null;
+        LocalDate toDate = year != null ? fromDate.plusYears(1) : null;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == EducationExportFormat.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write('\uFEFF');
+            writer.write(EducationExportDto.CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        try (Stream<EducationExportDto> educations = educationRepository.streamEducationForExport(fromDate, toDate, deptId, categoryId)) {
+            Iterator<EducationExportDto> iterator = educations.iterator();
+            while (iterator.hasNext()) {
+                EducationExportDto education = iterator.next();
+                writer.write(format == EducationExportFormat.CSV ? education.getCsvRow() : objectMapper.writeValueAsString(education));
+                writer.write('\n');
+
+                if (++count % FLUSH_INTERVAL == 0) writer.flush();
+            }
+        }
+        writer.flush();
+
+        return count;
+    }
+}
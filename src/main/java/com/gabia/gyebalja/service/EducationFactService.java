@@ -0,0 +1,260 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.common.columnar.EducationFactStore;
+import com.gabia.gyebalja.common.columnar.FactDimension;
+import com.gabia.gyebalja.common.columnar.FactFilter;
+import com.gabia.gyebalja.common.columnar.FactGroup;
+import com.gabia.gyebalja.common.event.ChangedIdRecorder;
+import com.gabia.gyebalja.common.event.EducationChangedEvent;
+import com.gabia.gyebalja.common.event.UserChangedEvent;
+import com.gabia.gyebalja.common.snapshot.SnapshotFile;
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.Tag;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.statistics.StatisticsFactGroupDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsFactResponseDto;
+import com.gabia.gyebalja.repository.CategoryRepository;
+import com.gabia.gyebalja.repository.DepartmentRepository;
+import com.gabia.gyebalja.repository.EduTagRepository;
+import com.gabia.gyebalja.repository.EducationRepository;
+import com.gabia.gyebalja.repository.TagRepository;
+import com.gabia.gyebalja.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 교육 팩트 통계 (메모리 컬럼 저장소, 집계 쿼리 없음)
+ * - 연도/월/사용자/부서/카테고리/태그 group by, 조건(사용자, 부서, 카테고리, 태그, 연도), 합계, 상위 k 개
+ * - 교육 등록/수정/삭제/일괄 등록(EducationChangedEvent), 사용자 부서 변경(UserChangedEvent)은 커밋 이후 바로 반영
+ * - 삭제 표시된 행 정리와 그 외 변경은 주기적인 전체 재생성으로 맞춤
+ * - 저장소는 주기적으로 스냅샷 파일에 저장하고, 애플리케이션 시작 시 파일을 복원한 뒤 저장 시점 이후 수정/삭제된 교육만 다시 적재 (파일이 없으면 전체 생성)
+ *
+ * gyebalja.statistics.facts.rebuild-interval-ms  : 재생성 주기 (기본 3600000)
+ * gyebalja.statistics.facts.snapshot-path        : 스냅샷 파일 경로 (기본 ${java.io.tmpdir}/gyebalja-statistics/facts.snap, 운영에서는 유지되는 경로로 설정)
+ * gyebalja.statistics.facts.snapshot-interval-ms : 변경된 저장소 스냅샷 저장 주기 (기본 60000)
+ */
+@RequiredArgsConstructor
+@Service
+public class EducationFactService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EducationFactService.class);
+
+    public static final int MAX_TOP = 100;
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final EducationRepository educationRepository;
+    private final EduTagRepository eduTagRepository;
+    private final UserRepository userRepository;
+    private final DepartmentRepository departmentRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${gyebalja.statistics.facts.snapshot-path:${java.io.tmpdir}/gyebalja-statistics/facts.snap}")
+    private String snapshotPath;
+
+    private final ChangedIdRecorder changedEducationIds = new ChangedIdRecorder();
+    private volatile EducationFactStore store = new EducationFactStore();
+    private final SnapshotFile snapshot = new SnapshotFile("통계 스냅샷");
+
+    /**
+     * 조회 - 교육 팩트 통계
+     * @param groupBy null 이면 합계만
+     * @param top null 이면 전체 그룹 (key 순), 있으면 orderBy(hours / count) 기준 상위 top 개
+     */
+    @Transactional(readOnly = true)
+    public StatisticsFactResponseDto getFacts(FactDimension groupBy, Integer year, Long userId, Long deptId, Long categoryId, Long tagId, Integer top, String orderBy) {
+        if (top != null && (top < 1 || top > MAX_TOP))
+            throw new IllegalArgumentException("top 은 1 ~ " + MAX_TOP + " 이어야 합니다.");
+        if (!"hours".equals(orderBy) && !"count".equals(orderBy))
+            throw new IllegalArgumentException("orderBy 는 hours 또는 count 이어야 합니다.");
+
+        FactFilter.FactFilterBuilder builder = year == null ? FactFilter.builder() : FactFilter.year(year);
+        FactFilter filter = builder.userId(userId).departmentId(deptId).categoryId(categoryId).tagId(tagId).build();
+
+        EducationFactStore current = store;
+        FactGroup total = current.total(filter);
+        if (groupBy == null) return new StatisticsFactResponseDto(null, total.getCount(), total.getHours(), Collections.emptyList());
+
+        List<FactGroup> groups = top == null ? current.groupBy(filter, groupBy) : current.top(filter, groupBy, top, "hours".equals(orderBy));
+        Map<Long, String> names = findNames(groupBy, groups);
+        List<StatisticsFactGroupDto> groupDtos = new ArrayList<>(groups.size());
+        for (FactGroup group : groups) {
+            groupDtos.add(new StatisticsFactGroupDto(group.getKey(), names.getOrDefault(group.getKey(), String.valueOf(group.getKey())), group.getCount(), group.getHours()));
+        }
+        return new StatisticsFactResponseDto(groupBy.name(), total.getCount(), total.getHours(), groupDtos);
+    }
+
+    // 그룹 key(id) 의 이름 조회 (결과 그룹 수만큼만)
+    private Map<Long, String> findNames(FactDimension dimension, List<FactGroup> groups) {
+        Set<Long> ids = new HashSet<>();
+        for (FactGroup group : groups) {
+            ids.add(group.getKey());
+        }
+        Map<Long, String> names = new HashMap<>();
+        if (ids.isEmpty()) return names;
+
+        switch (dimension) {
+            case USER:
+                for (User user : userRepository.findAllById(ids)) names.put(user.getId(), user.getName());
+                break;
+            case DEPARTMENT:
+                for (Department department : departmentRepository.findAllById(ids)) names.put(department.getId(), department.getName());
+                break;
+            case CATEGORY:
+                for (Category category : categoryRepository.findAllById(ids)) names.put(category.getId(), category.getName());
+                break;
+            case TAG:
+                for (Tag tag : tagRepository.findAllById(ids)) names.put(tag.getId(), tag.getName());
+                break;
+            default:
+                break;
+        }
+        return names;
+    }
+
+    /** 시작 시 스냅샷 파일 복원 (없거나 읽을 수 없으면 전체 생성) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!loadSnapshot()) rebuild();
+        saveSnapshot();
+    }
+
+    /** 전체 재생성 - id 순 페이지 단위로 새 저장소를 만든 뒤 교체 (생성 중에도 기존 저장소로 조회) */
+    @Scheduled(fixedDelayString = "${gyebalja.statistics.facts.rebuild-interval-ms:3600000}", initialDelayString = "${gyebalja.statistics.facts.rebuild-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        changedEducationIds.rebuildAndReplay(() -> {
+            EducationFactStore newStore = new EducationFactStore();
+            Long lastId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = educationRepository.findFactFieldsAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (!rows.isEmpty()) {
+                    load(newStore, rows);
+                    lastId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            } while (rows.size() == LOAD_BATCH_SIZE);
+            return newStore;
+        }, newStore -> {
+            store = newStore;
+            snapshot.markDirty();
+        }, ids -> refresh(new ArrayList<>(ids)), transactionManager);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEducationChanged(EducationChangedEvent event) {
+        changedEducationIds.record(event.getEducationIds());
+        refresh(event.getEducationIds());
+    }
+
+    // 부서가 바뀌었을 수 있으므로 사용자의 교육 행을 다시 적재
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        List<Long> educationIds = educationRepository.findIdsByUserId(event.getUserId());
+        changedEducationIds.record(educationIds);
+        refresh(educationIds);
+    }
+
+    /** 변경된 저장소 스냅샷 저장 */
+    @Scheduled(fixedDelayString = "${gyebalja.statistics.facts.snapshot-interval-ms:60000}", initialDelayString = "${gyebalja.statistics.facts.snapshot-interval-ms:60000}")
+    @PreDestroy
+    public void saveSnapshot() {
+        snapshot.saveIfDirty(Paths.get(snapshotPath), (tempPath, watermark) -> store.writeSnapshot(tempPath, watermark));
+    }
+
+    /** 스냅샷 파일 복원 후 저장 시점 이후 수정된 교육은 다시 적재, 없어진 교육은 삭제 */
+    private boolean loadSnapshot() {
+        Path path = Paths.get(snapshotPath);
+        if (!Files.exists(path)) return false;
+
+        EducationFactStore.Snapshot restored;
+        try {
+            restored = EducationFactStore.readSnapshot(path);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("통계 스냅샷 파일 복원 실패, 전체 생성 - {} : {}", path, e.toString());
+            return false;
+        }
+        store = restored.getStore();
+
+        List<Long> modifiedIds = educationRepository.findIdsModifiedSince(SnapshotFile.catchUpFrom(restored.getWatermark()));
+        refresh(modifiedIds);
+        // 삭제는 수정 시각으로 알 수 없으므로 id 만 조회해서 비교
+        Set<Long> removedIds = store.educationIds();
+        removedIds.removeAll(educationRepository.findAllIds());
+        for (Long id : removedIds) {
+            store.remove(id);
+        }
+        logger.info("통계 스냅샷 파일 복원 - {} : 교육 {} 건, 다시 적재 {} 건", path, store.size(), modifiedIds.size());
+        return true;
+    }
+
+    /** 부분 갱신 - 다시 조회해서 추가 (조회되지 않는 교육은 삭제) */
+    private void refresh(List<Long> educationIds) {
+        EducationFactStore current = store;
+        snapshot.markDirty();
+        for (int i = 0; i < educationIds.size(); i += LOAD_BATCH_SIZE) {
+            List<Long> ids = educationIds.subList(i, Math.min(i + LOAD_BATCH_SIZE, educationIds.size()));
+            Set<Long> removedIds = new HashSet<>(ids);
+            removedIds.removeAll(load(current, educationRepository.findFactFieldsByIdIn(ids)));
+            for (Long id : removedIds) {
+                current.remove(id);
+            }
+        }
+    }
+
+    /** 교육 행(id, 사용자 id, 부서 id, 카테고리 id, 시작일, 교육 시간)과 태그를 저장소에 추가하고 추가한 교육 id 반환 */
+    private Set<Long> load(EducationFactStore target, List<Object[]> rows) {
+        Set<Long> educationIds = new HashSet<>();
+        for (Object[] row : rows) {
+            educationIds.add((Long) row[0]);
+        }
+        Map<Long, List<Long>> tagIdsByEducation = new HashMap<>();
+        if (!educationIds.isEmpty()) {
+            for (Object[] eduTag : eduTagRepository.findEducationIdAndTagIdByEducationIdIn(educationIds)) {
+                tagIdsByEducation.computeIfAbsent((Long) eduTag[0], k -> new ArrayList<>()).add((Long) eduTag[1]);
+            }
+        }
+
+        for (Object[] row : rows) {
+            Long educationId = (Long) row[0];
+            Collection<Long> tagIds = tagIdsByEducation.getOrDefault(educationId, Collections.emptyList());
+            target.append(educationId, (Long) row[1], (Long) row[2], (Long) row[3], (LocalDate) row[4], ((Number) row[5]).intValue(), tagIds);
+        }
+        return educationIds;
+    }
+}
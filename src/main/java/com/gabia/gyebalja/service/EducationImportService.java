@@ -0,0 +1,333 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.common.HashTagRegularExpression;
+import com.gabia.gyebalja.common.csv.CsvParseException;
+import com.gabia.gyebalja.common.csv.CsvReader;
+import com.gabia.gyebalja.common.event.EduTagChangedEvent;
+import com.gabia.gyebalja.common.event.EducationChangedEvent;
+import com.gabia.gyebalja.common.event.TagChangedEvent;
+import com.gabia.gyebalja.common.id.EntityIdGenerator;
+import com.gabia.gyebalja.domain.EduTag;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.UserYearSummary;
+import com.gabia.gyebalja.dto.education.EducationImportResponseDto;
+import com.gabia.gyebalja.repository.CategoryRepository;
+import com.gabia.gyebalja.repository.TagRepository;
+import com.gabia.gyebalja.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 교육 CSV 일괄 등록
+ * - CSV 를 한 줄씩 읽어 검증 후 CHUNK_SIZE 건 단위로 JDBC batch insert (chunk 마다 별도 트랜잭션)
+ * - 사용자, 카테고리, 태그는 시작 시점에 한 번 조회한 Map/Set 으로 검증 (행 마다 조회하지 않음)
+ * - 교육, 교육-태그 id 는 엔티티와 같은 pooled id 생성기(EntityIdGenerator)에서 할당
+ * - 사용자 연도별 교육 합계(UserYearSummary)도 같은 chunk 트랜잭션에서 증감
+ * - 검증 실패 행, 저장 실패 chunk 의 행은 줄 번호와 함께 에러로 응답
+ * - CSV 형식 오류(닫히지 않은 따옴표 등)는 이후 레코드를 나눌 수 없으므로 그 줄을 에러로 남기고 읽기 중단 (앞의 행은 저장)
+ * - MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 가 있어야 multi-row insert 로 전송됨
+ */
+@RequiredArgsConstructor
+@Service
+public class EducationImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    // CSV 헤더 (EducationRequestDto 와 동일한 이름)
+    private static final String[] REQUIRED_COLUMNS = {"title", "startDate", "totalHours", "type", "userId", "categoryId"};
+
+    private static final String INSERT_EDUCATION = "insert into education (id, title, content, start_date, end_date, total_hours, type, place, user_id, category_id, created_date, modified_date) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TAG = "insert into tag (name, created_date, modified_date) values (?, ?, ?)";
+    private static final String INSERT_EDU_TAG = "insert into edu_tag (id, edu_id, tag_id, created_date, modified_date) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdGenerator entityIdGenerator;
+    private final PlatformTransactionManager transactionManager;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final UserYearSummaryService userYearSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 등록 - education 일괄 등록 (CSV) */
+    public EducationImportResponseDto importEducations(Reader reader) throws IOException {
+        CsvReader csvReader = new CsvReader(reader);
+        Map<String, Integer> columns = readHeader(csvReader.readRecord());
+
+        Set<Long> userIds = new HashSet<>(userRepository.findAllIds());
+        Set<Long> categoryIds = new HashSet<>(categoryRepository.findAllIds());
+        Map<String, Long> tagIds = new HashMap<>();
+        for (Object[] tag : tagRepository.findAllIdAndName()) {
+            tagIds.putIfAbsent((String) tag[1], (Long) tag[0]);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        HashTagRegularExpression hashTagRegularExpression = new HashTagRegularExpression();
+        EducationImportResponseDto response = new EducationImportResponseDto();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        List<String> record;
+        while ((record = readRecord(csvReader, response)) != null) {
+            if (record.size() == 1 && record.get(0).trim().isEmpty()) continue;
+
+            int line = csvReader.getRecordLineNumber();
+            try {
+                chunk.add(parseRow(line, record, columns, userIds, categoryIds, hashTagRegularExpression));
+            } catch (IllegalArgumentException e) {
+                response.addError(line, e.getMessage());
+                continue;
+            }
+
+            if (chunk.size() == CHUNK_SIZE) {
+                writeChunk(chunk, tagIds, transactionTemplate, response);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) writeChunk(chunk, tagIds, transactionTemplate, response);
+
+        return response;
+    }
+
+    // 형식 오류는 이미 커밋된 chunk 가 있을 수 있으므로 예외 대신 행 에러로 응답하고 null (읽기 중단)
+    private static List<String> readRecord(CsvReader csvReader, EducationImportResponseDto response) throws IOException {
+        try {
+            return csvReader.readRecord();
+        } catch (CsvParseException e) {
+            response.addError(e.getLineNumber(), e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) throw new IllegalArgumentException("빈 파일입니다.");
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) throw new IllegalArgumentException("필수 컬럼이 없습니다. : " + column);
+        }
+        return columns;
+    }
+
+    private ImportRow parseRow(int line, List<String> record, Map<String, Integer> columns, Set<Long> userIds, Set<Long> categoryIds,
+                               HashTagRegularExpression hashTagRegularExpression) {
+        ImportRow row = new ImportRow();
+        row.line = line;
+        row.title = value(record, columns, "title");
+        row.content = value(record, columns, "content");
+        row.place = value(record, columns, "place");
+
+        if (row.title == null) throw new IllegalArgumentException("title 은 필수입니다.");
+        if (row.title.length() > 255) throw new IllegalArgumentException("title 은 255자 이하여야 합니다.");
+        if (row.place != null && row.place.length() > 255) throw new IllegalArgumentException("place 는 255자 이하여야 합니다.");
+
+        row.startDate = parseDate(value(record, columns, "startDate"), "startDate");
+        if (row.startDate == null) throw new IllegalArgumentException("startDate 는 필수입니다.");
+        row.endDate = parseDate(value(record, columns, "endDate"), "endDate");
+        if (row.endDate != null && row.endDate.isBefore(row.startDate)) throw new IllegalArgumentException("endDate 가 startDate 보다 빠릅니다.");
+
+        row.totalHours = parseInt(value(record, columns, "totalHours"), "totalHours");
+        if (row.totalHours < 0) throw new IllegalArgumentException("totalHours 는 0 이상이어야 합니다.");
+
+        String type = value(record, columns, "type");
+        try {
+            row.type = EducationType.valueOf(type == null ? "" : type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("type 은 ONLINE, OFFLINE 중 하나여야 합니다. : " + type);
+        }
+
+        row.userId = parseLong(value(record, columns, "userId"), "userId");
+        if (!userIds.contains(row.userId)) throw new IllegalArgumentException("존재하지 않는 회원입니다. : " + row.userId);
+        row.categoryId = parseLong(value(record, columns, "categoryId"), "categoryId");
+        if (!categoryIds.contains(row.categoryId)) throw new IllegalArgumentException("존재하지 않는 카테고리입니다. : " + row.categoryId);
+
+        String hashTag = value(record, columns, "hashTag");
+        row.tags = hashTag == null ? Collections.emptyList()
+                : hashTagRegularExpression.removeDuplication(hashTagRegularExpression.getExtractHashTag(hashTag));
+
+        return row;
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) return null;
+
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate parseDate(String value, String column) {
+        if (value == null) return null;
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(column + " 는 yyyy-MM-dd 형식이어야 합니다. : " + value);
+        }
+    }
+
+    private static long parseLong(String value, String column) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 는 숫자여야 합니다. : " + value);
+        }
+    }
+
+    private static int parseInt(String value, String column) {
+        long parsed = parseLong(value, column);
+        if (parsed < Integer.MIN_VALUE || parsed > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(column + " 는 " + Integer.MAX_VALUE + " 이하여야 합니다. : " + value);
+        }
+        return (int) parsed;
+    }
+
+    /** chunk 단위 저장 (태그 → 교육 → 교육-태그 순서), 실패 시 chunk 전체 롤백 후 에러 처리 */
+    private void writeChunk(List<ImportRow> rows, Map<String, Long> tagIds, TransactionTemplate transactionTemplate, EducationImportResponseDto response) {
+        // 롤백될 수 있으므로 새로 만든 태그는 커밋 이후에 tagIds 에 반영
+        Map<String, Long> createdTagIds = new HashMap<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try {
+            transactionTemplate.execute(status -> {
+                Set<String> newTags = new LinkedHashSet<>();
+                for (ImportRow row : rows) {
+                    for (String tag : row.tags) {
+                        if (!tagIds.containsKey(tag)) newTags.add(tag);
+                    }
+                }
+                if (!newTags.isEmpty()) {
+                    List<Object[]> tagArgs = new ArrayList<>(newTags.size());
+                    for (String tag : newTags) {
+                        tagArgs.add(new Object[]{tag, now, now});
+                    }
+                    List<Long> keys = batchInsertReturningKeys(INSERT_TAG, tagArgs);
+                    int i = 0;
+                    for (String tag : newTags) {
+                        createdTagIds.put(tag, keys.get(i++));
+                    }
+                }
+
+                List<Long> educationIds = new ArrayList<>(rows.size());
+                List<Object[]> educationArgs = new ArrayList<>(rows.size());
+                for (ImportRow row : rows) {
+                    long educationId = entityIdGenerator.nextId(Education.class);
+                    educationIds.add(educationId);
+                    educationArgs.add(new Object[]{educationId, row.title, row.content, Date.valueOf(row.startDate), row.endDate == null ? null : Date.valueOf(row.endDate),
+                            row.totalHours, row.type.name(), row.place, row.userId, row.categoryId, now, now});
+                }
+                jdbcTemplate.batchUpdate(INSERT_EDUCATION, educationArgs);
+                eventPublisher.publishEvent(new EducationChangedEvent(educationIds));
+
+                // 사용자 연도별 합계는 사용자, 연도 단위로 합쳐서 한 번씩 증감
+                Map<UserYearSummary.Key, long[]> summaryTotals = new HashMap<>();
+                for (ImportRow row : rows) {
+                    long[] total = summaryTotals.computeIfAbsent(new UserYearSummary.Key(row.userId, row.startDate.getYear()), k -> new long[2]);
+                    total[0] += row.totalHours;
+                    total[1]++;
+                }
+                userYearSummaryService.addAll(summaryTotals);
+
+                List<Object[]> eduTagArgs = new ArrayList<>();
+                Set<Long> usedTagIds = new HashSet<>();
+                for (int i = 0; i < rows.size(); i++) {
+                    for (String tag : rows.get(i).tags) {
+                        Long tagId = tagIds.containsKey(tag) ? tagIds.get(tag) : createdTagIds.get(tag);
+                        eduTagArgs.add(new Object[]{entityIdGenerator.nextId(EduTag.class), educationIds.get(i), tagId, now, now});
+                        usedTagIds.add(tagId);
+                    }
+                }
+                if (!eduTagArgs.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_EDU_TAG, eduTagArgs);
+                    eventPublisher.publishEvent(new TagChangedEvent(usedTagIds));
+                    eventPublisher.publishEvent(new EduTagChangedEvent(usedTagIds));
+                }
+
+                return null;
+            });
+        } catch (DataAccessException e) {
+            String message = "저장 실패 : " + e.getMostSpecificCause().getMessage();
+            for (ImportRow row : rows) {
+                response.addError(row.line, message);
+            }
+            return;
+        }
+
+        tagIds.putAll(createdTagIds);
+        response.addSuccess(rows.size());
+    }
+
+    // 태그는 IDENTITY 컬럼이므로 batch 실행 후 getGeneratedKeys() 로 입력 순서대로 id 조회
+    private List<Long> batchInsertReturningKeys(String sql, List<Object[]> batchArgs) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (Object[] args : batchArgs) {
+                    for (int i = 0; i < args.length; i++) {
+                        ps.setObject(i + 1, args[i]);
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> keys = new ArrayList<>(batchArgs.size());
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next()) {
+                        keys.add(rs.getLong(1));
+                    }
+                }
+                if (keys.size() != batchArgs.size()) {
+                    // writeChunk 에서 DataAccessException 으로 처리되도록 (chunk 롤백 + 행 에러)
+                    throw new InvalidDataAccessApiUsageException("생성된 키 개수가 일치하지 않습니다. (" + keys.size() + "/" + batchArgs.size() + ")");
+                }
+                return keys;
+            }
+        });
+    }
+
+    private static class ImportRow {
+        int line;
+        String title;
+        String content;
+        LocalDate startDate;
+        LocalDate endDate;
+        int totalHours;
+        EducationType type;
+        String place;
+        long userId;
+        long categoryId;
+        List<String> tags;
+    }
+}
@@ -0,0 +1,142 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.common.bitmap.EducationTagIndex;
+import com.gabia.gyebalja.common.bitmap.RoaringBitmap;
+import com.gabia.gyebalja.common.event.ChangedIdRecorder;
+import com.gabia.gyebalja.common.event.EducationChangedEvent;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.dto.education.EducationAllResponseDto;
+import com.gabia.gyebalja.dto.education.EducationSearchResponseDto;
+import com.gabia.gyebalja.repository.EduTagRepository;
+import com.gabia.gyebalja.repository.EducationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 교육 태그 조합 검색 (메모리 비트맵 역색인, 조인 쿼리 없음)
+ * - 태그 AND / OR / NOT, 카테고리, 시작 연도 조건을 비트맵 연산으로 계산하고 해당 페이지의 교육만 id 로 조회
+ * - 교육 등록/수정/삭제, 일괄 등록은 EducationChangedEvent 로 커밋 이후 바로 반영
+ * - 그 외 변경(태그 삭제 등)은 주기적인 전체 재생성으로 맞춤
+ *   gyebalja.education.search.rebuild-interval-ms : 재생성 주기 (기본 3600000, 애플리케이션 시작 시 한 번 생성)
+ */
+@RequiredArgsConstructor
+@Service
+public class EducationSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final EducationRepository educationRepository;
+    private final EduTagRepository eduTagRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ChangedIdRecorder changedEducationIds = new ChangedIdRecorder();
+    private volatile EducationTagIndex index = new EducationTagIndex();
+
+    /** 조회 - 태그 조합 검색 (최신 교육 순) */
+    @Transactional(readOnly = true)
+    public EducationSearchResponseDto searchEducations(Collection<Long> allTagIds, Collection<Long> anyTagIds, Collection<Long> notTagIds,
+                                                       Long categoryId, Integer year, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("page 는 0 이상, size 는 1 ~ " + MAX_PAGE_SIZE + " 이어야 합니다.");
+
+        RoaringBitmap result = index.search(emptyIfNull(allTagIds), emptyIfNull(anyTagIds), emptyIfNull(notTagIds), categoryId, year);
+        int[] pageIds = result.pageDescending((long) page * size, size);
+
+        return new EducationSearchResponseDto(findEducations(pageIds), page, size, result.getCardinality());
+    }
+
+    private List<EducationAllResponseDto> findEducations(int[] educationIds) {
+        if (educationIds.length == 0) return Collections.emptyList();
+
+        List<Long> ids = new ArrayList<>(educationIds.length);
+        for (int id : educationIds) {
+            ids.add((long) id);
+        }
+        Map<Long, Education> educations = new HashMap<>();
+        for (Education education : educationRepository.findWithCategoryByIdIn(ids)) {
+            educations.put(education.getId(), education);
+        }
+
+        List<EducationAllResponseDto> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Education e = educations.get(id);
+            if (e == null) continue; // 인덱스 반영 전에 삭제된 교육
+
+            content.add(new EducationAllResponseDto(e));
+        }
+        return content;
+    }
+
+    /** 전체 재생성 - 새 인덱스를 만든 뒤 교체 (생성 중에도 기존 인덱스로 검색) */
+    @Scheduled(fixedDelayString = "${gyebalja.education.search.rebuild-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        changedEducationIds.rebuildAndReplay(() -> {
+            EducationTagIndex newIndex = new EducationTagIndex();
+            load(newIndex, educationRepository.findAllIndexFields(), eduTagRepository.findAllEducationIdAndTagId());
+            return newIndex;
+        }, newIndex -> index = newIndex, this::refresh, transactionManager);
+    }
+
+    /** 부분 갱신 - 변경된 교육만 다시 조회해서 반영 (조회되지 않는 교육은 삭제) */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEducationChanged(EducationChangedEvent event) {
+        if (event.getEducationIds().isEmpty()) return;
+
+        changedEducationIds.record(event.getEducationIds());
+        refresh(event.getEducationIds());
+    }
+
+    private void refresh(Collection<Long> educationIds) {
+        EducationTagIndex current = index;
+        Set<Long> removedEducationIds = new HashSet<>(educationIds);
+        removedEducationIds.removeAll(load(current, educationRepository.findIndexFieldsByIdIn(educationIds),
+                eduTagRepository.findEducationIdAndTagIdByEducationIdIn(educationIds)));
+        for (Long educationId : removedEducationIds) {
+            current.remove(educationId);
+        }
+    }
+
+    /** 교육(id, 카테고리 id, 시작일), 교육-태그(교육 id, 태그 id) 행을 인덱스에 반영하고 반영한 교육 id 반환 */
+    private static Set<Long> load(EducationTagIndex target, List<Object[]> educations, List<Object[]> eduTags) {
+        Map<Long, List<Long>> tagIdsByEducation = new HashMap<>();
+        for (Object[] row : eduTags) {
+            tagIdsByEducation.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        Set<Long> loaded = new HashSet<>();
+        for (Object[] row : educations) {
+            Long educationId = (Long) row[0];
+            LocalDate startDate = (LocalDate) row[2];
+            target.put(educationId, (Long) row[1], startDate == null ? null : startDate.getYear(),
+                    tagIdsByEducation.getOrDefault(educationId, Collections.emptyList()));
+            loaded.add(educationId);
+        }
+        return loaded;
+    }
+
+    private static Collection<Long> emptyIfNull(Collection<Long> ids) {
+        return ids == null ? Collections.emptyList() : ids;
+    }
+}
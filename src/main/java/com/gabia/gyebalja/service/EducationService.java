@@ -1,6 +1,10 @@
 package com.gabia.gyebalja.service;
 
 import com.gabia.gyebalja.common.HashTagRegularExpression;
+import com.gabia.gyebalja.common.event.BoardChangedEvent;
+import com.gabia.gyebalja.common.event.EduTagChangedEvent;
+import com.gabia.gyebalja.common.event.EducationChangedEvent;
+import com.gabia.gyebalja.common.event.TagChangedEvent;
 import com.gabia.gyebalja.domain.Category;
 import com.gabia.gyebalja.domain.EduTag;
 import com.gabia.gyebalja.domain.Education;
@@ -14,19 +18,30 @@ import com.gabia.gyebalja.dto.edutag.EduTagResponseDto;
 import com.gabia.gyebalja.exception.NotExistCategoryException;
 import com.gabia.gyebalja.exception.NotExistEducationException;
 import com.gabia.gyebalja.exception.NotExistUserException;
+import com.gabia.gyebalja.repository.BoardImgRepository;
+import com.gabia.gyebalja.repository.BoardRepository;
 import com.gabia.gyebalja.repository.CategoryRepository;
+import com.gabia.gyebalja.repository.CommentRepository;
 import com.gabia.gyebalja.repository.EduTagRepository;
 import com.gabia.gyebalja.repository.EducationRepository;
+import com.gabia.gyebalja.repository.LikesRepository;
 import com.gabia.gyebalja.repository.TagRepository;
 import com.gabia.gyebalja.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.toList;
@@ -46,6 +61,12 @@ public class EducationService {
     private final CategoryRepository categoryRepository;
     private final EduTagRepository eduTagRepository;
     private final TagRepository tagRepository;
+    private final BoardRepository boardRepository;
+    private final LikesRepository likesRepository;
+    private final CommentRepository commentRepository;
+    private final BoardImgRepository boardImgRepository;
+    private final UserYearSummaryService userYearSummaryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 등록 - education 한 건 (교육 등록) */
     @Transactional
@@ -73,23 +94,12 @@ public class EducationService {
                 .build();
 
         Long eduId = educationRepository.save(education).getId();
+        userYearSummaryService.add(findUser.get().getId(), education.getStartDate(), education.getTotalHours(), 1);
 
         //해당 트랜잭션내에서 수행 필수 - 해시태그 삽입 로직
-        if(educationRequestDto.getHashTag().length()>0) {
-            HashTagRegularExpression hashTagRegularExpression = new HashTagRegularExpression();
-            ArrayList<String> extractHashTagList = hashTagRegularExpression.getExtractHashTag(educationRequestDto.getHashTag());
+        saveEduTags(education, extractHashTags(educationRequestDto.getHashTag()));
+        eventPublisher.publishEvent(EducationChangedEvent.of(eduId)); //커밋 이후 교육 태그 검색 인덱스 반영
 
-            ArrayList<String> removeDuplicationHashTag = hashTagRegularExpression.removeDuplication(extractHashTagList);
-
-            for (String s : removeDuplicationHashTag) {
-                Optional<Tag> findHashTag = tagRepository.findHashTagByName(s);
-
-                Tag tag = findHashTag.isPresent() ? findHashTag.get() : tagRepository.save( Tag.builder().name(s).build());
-
-                EduTag eduTag = EduTag.builder().education(education).tag(tag).build();
-                eduTagRepository.save(eduTag);
-            }
-        }
         return eduId;
     }
 
@@ -131,6 +141,8 @@ public class EducationService {
         if(!findCategory.isPresent())
             throw new NotExistCategoryException("존재하지 않는 카테고리입니다.");
 
+        LocalDate previousStartDate = findEducation.getStartDate();
+        int previousTotalHours = findEducation.getTotalHours();
         findEducation.changeEducation(educationRequestDto.getTitle(),
                 educationRequestDto.getContent(),
                 educationRequestDto.getStartDate(),
@@ -139,36 +151,87 @@ public class EducationService {
                 educationRequestDto.getType(),
                 educationRequestDto.getPlace(),
                 findCategory.get());
+        userYearSummaryService.change(findEducation.getUser().getId(), previousStartDate, previousTotalHours, findEducation.getStartDate(), findEducation.getTotalHours());
+
+        //태그 업데이트 로직 - 그대로 남는 태그의 관계는 유지 (다시 만들면 인기 급상승 태그에 오늘 사용한 태그로 집계됨)
+        List<String> tagNames = extractHashTags(educationRequestDto.getHashTag());
+        List<EduTag> removedEduTags = new ArrayList<>();
+        Set<String> keptTagNames = new HashSet<>();
+        for (EduTag eduTag : eduTagRepository.findByEducationId(id)) {
+            String tagName = eduTag.getTag().getName();
+            if (tagNames.contains(tagName) && keptTagNames.add(tagName)) continue;
+            removedEduTags.add(eduTag);
+        }
+        if (!removedEduTags.isEmpty()) {
+            eduTagRepository.deleteAll(removedEduTags);  //빠진 태그의 관계만 삭제
+            List<Long> removedTagIds = removedEduTags.stream().map(et -> et.getTag().getId()).collect(toList());
+            eventPublisher.publishEvent(new TagChangedEvent(removedTagIds)); //커밋 이후 태그 자동완성 사용 횟수 반영
+            eventPublisher.publishEvent(new EduTagChangedEvent(removedTagIds)); //커밋 이후 인기 급상승 태그 반영
+        }
+        //새로 추가된 태그만 등록과 동일하게 로직 수행
+        tagNames.removeAll(keptTagNames);
+        saveEduTags(findEducation, tagNames);
+        eventPublisher.publishEvent(EducationChangedEvent.of(id, previousStartDate));
+        //태그 테이블의 튜플도(아무도 참조하고있지않을 경우) 삭제해 주는 로직을 추가해야하는 것인지
+        //객체 지향적인 관점으로 EduTag의 테이블 업데이트 로직을 생각해보기(현재 Tag는 더티체킹에 의해서 업데이트가 이루어지지않음) - 추후 수정예정
+        return id;
+    }
 
-        //태그 업데이트 로직.
-        eduTagRepository.deleteByEducationId(id);  //관계테이블의 데이터를 모두 삭제
-        //등록과 동일하게 로직 수행
-        if(educationRequestDto.getHashTag().length()>0) {
-            HashTagRegularExpression hashTagRegularExpression = new HashTagRegularExpression();
-            ArrayList<String> extractHashTagList = hashTagRegularExpression.getExtractHashTag(educationRequestDto.getHashTag());
+    //해시태그 추출 (중복 제거)
+    private static List<String> extractHashTags(String hashTag) {
+        if(hashTag == null || hashTag.length() == 0) return new ArrayList<>();
 
-            ArrayList<String> removeDuplicationHashTag = hashTagRegularExpression.removeDuplication(extractHashTagList);
+        HashTagRegularExpression hashTagRegularExpression = new HashTagRegularExpression();
+        ArrayList<String> extractHashTagList = hashTagRegularExpression.getExtractHashTag(hashTag);
 
-            for (String s : removeDuplicationHashTag) {
-                Optional<Tag> findHashTag = tagRepository.findHashTagByName(s);
+        return hashTagRegularExpression.removeDuplication(extractHashTagList);
+    }
 
-                Tag tag = findHashTag.isPresent() ? findHashTag.get() : tagRepository.save( Tag.builder().name(s).build());
+    //교육-태그 관계 저장
+    //기존 태그는 한 번의 in 쿼리로 조회, EduTag 는 pooled id 를 사용하므로 flush 시점에 batch insert 로 묶여서 실행됨
+    private void saveEduTags(Education education, List<String> removeDuplicationHashTag) {
+        if(removeDuplicationHashTag.isEmpty()) return;
 
-                EduTag eduTag = EduTag.builder().education(findEducation).tag(tag).build();
-                eduTagRepository.save(eduTag);
-            }
+        Map<String, Tag> findHashTags = new HashMap<>();
+        for (Tag tag : tagRepository.findByNameIn(removeDuplicationHashTag)) {
+            findHashTags.putIfAbsent(tag.getName(), tag);
         }
-        //태그 테이블의 튜플도(아무도 참조하고있지않을 경우) 삭제해 주는 로직을 추가해야하는 것인지
-        //객체 지향적인 관점으로 EduTag의 테이블 업데이트 로직을 생각해보기(현재 Tag는 더티체킹에 의해서 업데이트가 이루어지지않음) - 추후 수정예정
-        return id;
+
+        List<EduTag> eduTags = new ArrayList<>();
+        List<Long> tagIds = new ArrayList<>();
+        for (String s : removeDuplicationHashTag) {
+            Tag tag = findHashTags.containsKey(s) ? findHashTags.get(s) : tagRepository.save( Tag.builder().name(s).build());
+
+            eduTags.add(EduTag.builder().education(education).tag(tag).build());
+            tagIds.add(tag.getId());
+        }
+        eduTagRepository.saveAll(eduTags);
+        eventPublisher.publishEvent(new TagChangedEvent(tagIds)); //커밋 이후 태그 자동완성 사용 횟수 반영
+        eventPublisher.publishEvent(new EduTagChangedEvent(tagIds)); //커밋 이후 인기 급상승 태그 반영
     }
 
     /** 삭제 - education 한 건 (상세페이지) */
     @Transactional
     public Long deleteOneEducation(Long id) {
-        //엔티티 설계에 EduTag와는 cascade = CascadeType.ALL 설정이 되어있음. EduTag테이블에만 해당 교육아이디 튜플들 자동 삭제
+        //엔티티 조회/cascade 없이 참조하는 테이블부터 일괄 삭제 (교육 게시글의 좋아요 -> 댓글 -> 이미지 -> 게시글 -> 관계테이블 -> 교육)
         //삭제 로직 수행 시 태그 테이블의 튜플도(아무도 참조하고있지않을 경우) 삭제해 주는 로직을 추가해야하는 것인지?
-        educationRepository.deleteById(id);
+        //커밋 이후 일별 통계 버킷 재집계, 사용자 연도별 합계 차감, 인기 급상승 태그 반영용 (태그마다 한 행)
+        List<Object[]> deletionFields = educationRepository.findDeletionFieldsById(id);
+        LocalDate previousStartDate = deletionFields.isEmpty() ? null : (LocalDate) deletionFields.get(0)[0];
+        likesRepository.deleteAllInBatchByBoardEducationId(id);
+        commentRepository.deleteAllInBatchByBoardEducationId(id);
+        boardImgRepository.deleteAllInBatchByBoardEducationId(id);
+        List<Long> deletedBoardIds = boardRepository.findIdsByEducationId(id);
+        boardRepository.deleteAllInBatchByEducationId(id);
+        eduTagRepository.deleteAllInBatchByEducationId(id);
+        if (educationRepository.deleteInBatchById(id) == 0)
+            throw new NotExistEducationException("존재하지 않는 교육입니다.");
+        Object[] deleted = deletionFields.get(0);
+        userYearSummaryService.add((Long) deleted[1], previousStartDate, -((Integer) deleted[2]), -1);
+        List<Long> removedTagIds = deletionFields.stream().map(row -> (Long) row[3]).filter(Objects::nonNull).collect(toList());
+        if (!removedTagIds.isEmpty()) eventPublisher.publishEvent(new EduTagChangedEvent(removedTagIds)); //커밋 이후 인기 급상승 태그 반영
+        eventPublisher.publishEvent(EducationChangedEvent.of(id, previousStartDate));
+        if (!deletedBoardIds.isEmpty()) eventPublisher.publishEvent(new BoardChangedEvent(deletedBoardIds)); //커밋 이후 전문 검색 인덱스에서 제거
 
         return id;
     }
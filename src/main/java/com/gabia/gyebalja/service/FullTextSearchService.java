@@ -0,0 +1,287 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.common.event.BoardChangedEvent;
+import com.gabia.gyebalja.common.event.ChangedIdRecorder;
+import com.gabia.gyebalja.common.event.EducationChangedEvent;
+import com.gabia.gyebalja.common.search.BigramTokenizer;
+import com.gabia.gyebalja.common.search.FullTextIndex;
+import com.gabia.gyebalja.common.snapshot.SnapshotFile;
+import com.gabia.gyebalja.domain.Board;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.dto.board.BoardAllResponseDto;
+import com.gabia.gyebalja.dto.education.EducationAllResponseDto;
+import com.gabia.gyebalja.dto.search.SearchResponseDto;
+import com.gabia.gyebalja.repository.BoardRepository;
+import com.gabia.gyebalja.repository.EducationRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 게시글/교육 전문 검색 (제목 + 본문, 메모리 역색인 + BM25, LIKE 검색 없음)
+ * - 게시글 등록/수정/삭제(BoardChangedEvent), 교육 등록/수정/삭제/일괄 등록(EducationChangedEvent)은 커밋 이후 바로 반영
+ * - 인덱스는 주기적으로 파일에 저장하고, 애플리케이션 시작 시 파일을 읽은 뒤 저장 시점 이후 수정된 문서만 다시 색인 (파일이 없으면 전체 색인)
+ * - 이벤트로 알 수 없는 변경(다른 서버에서의 수정, 직접 SQL 수정 등)은 매일 전체 재색인으로 맞춤
+ *
+ * gyebalja.search.index-dir            : 인덱스 파일 경로 (기본 ${java.io.tmpdir}/gyebalja-search, 운영에서는 유지되는 경로로 설정)
+ * gyebalja.search.snapshot-interval-ms : 변경된 인덱스 파일 저장 주기 (기본 60000)
+ * gyebalja.search.rebuild-cron         : 전체 재색인 시각 (기본 매일 04:00)
+ */
+@RequiredArgsConstructor
+@Service
+public class FullTextSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FullTextSearchService.class);
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int TITLE_WEIGHT = 2; // 제목 토큰은 본문보다 가중치를 두어 색인
+    private static final int REINDEX_BATCH_SIZE = 500;
+
+    private final BoardRepository boardRepository;
+    private final EducationRepository educationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${gyebalja.search.index-dir:${java.io.tmpdir}/gyebalja-search}")
+    private String indexDir;
+
+    private Target boards;
+    private Target educations;
+
+    @PostConstruct
+    public void createTargets() {
+        boards = new Target("board", boardRepository::findSearchFieldsAfter, boardRepository::findSearchFieldsByIdIn, boardRepository::findIdsModifiedSince);
+        educations = new Target("education", educationRepository::findSearchFieldsAfter, educationRepository::findSearchFieldsByIdIn, educationRepository::findIdsModifiedSince);
+    }
+
+    /** 조회 - 게시글 검색 */
+    @Transactional(readOnly = true)
+    public SearchResponseDto<BoardAllResponseDto> searchBoards(String query, int page, int size) {
+        FullTextIndex.SearchResult result = search(boards, query, page, size);
+        List<Long> ids = hitIds(result);
+        if (ids.isEmpty()) return new SearchResponseDto<>(Collections.emptyList(), page, size, result.getTotalCount());
+
+        Map<Long, Board> found = new HashMap<>();
+        for (Board board : boardRepository.findByIdIn(ids)) {
+            found.put(board.getId(), board);
+        }
+        List<BoardAllResponseDto> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (found.containsKey(id)) content.add(new BoardAllResponseDto(found.get(id))); // 인덱스 반영 전에 삭제된 게시글 제외
+        }
+        return new SearchResponseDto<>(content, page, size, result.getTotalCount());
+    }
+
+    /** 조회 - 교육 검색 */
+    @Transactional(readOnly = true)
+    public SearchResponseDto<EducationAllResponseDto> searchEducations(String query, int page, int size) {
+        FullTextIndex.SearchResult result = search(educations, query, page, size);
+        List<Long> ids = hitIds(result);
+        if (ids.isEmpty()) return new SearchResponseDto<>(Collections.emptyList(), page, size, result.getTotalCount());
+
+        Map<Long, Education> found = new HashMap<>();
+        for (Education education : educationRepository.findWithCategoryByIdIn(ids)) {
+            found.put(education.getId(), education);
+        }
+        List<EducationAllResponseDto> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (found.containsKey(id)) content.add(new EducationAllResponseDto(found.get(id)));
+        }
+        return new SearchResponseDto<>(content, page, size, result.getTotalCount());
+    }
+
+    private static FullTextIndex.SearchResult search(Target target, String query, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("page 는 0 이상, size 는 1 ~ " + MAX_PAGE_SIZE + " 이어야 합니다.");
+
+        // page * size 가 int 범위를 넘으면 결과 없음 (검색 결과 건수는 int 범위)
+        return target.index.search(BigramTokenizer.tokenize(query), (int) Math.min((long) page * size, Integer.MAX_VALUE), size);
+    }
+
+    private static List<Long> hitIds(FullTextIndex.SearchResult result) {
+        List<Long> ids = new ArrayList<>(result.getHits().size());
+        for (FullTextIndex.Hit hit : result.getHits()) {
+            ids.add(hit.getId());
+        }
+        return ids;
+    }
+
+    /** 시작 시 인덱스 파일 복원 (없거나 읽을 수 없으면 전체 색인) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (Target target : Arrays.asList(boards, educations)) {
+            if (!loadSnapshot(target)) reindex(target);
+        }
+        saveSnapshots();
+    }
+
+    /** 전체 재색인 - 새 인덱스를 만든 뒤 교체 (색인 중에도 기존 인덱스로 검색) */
+    @Scheduled(cron = "${gyebalja.search.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        reindex(boards);
+        reindex(educations);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBoardChanged(BoardChangedEvent event) {
+        boards.changedIds.record(event.getBoardIds());
+        refresh(boards, event.getBoardIds());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEducationChanged(EducationChangedEvent event) {
+        educations.changedIds.record(event.getEducationIds());
+        refresh(educations, event.getEducationIds());
+    }
+
+    /** 변경된 인덱스 파일 저장 (게시글, 교육 각각) */
+    @Scheduled(fixedDelayString = "${gyebalja.search.snapshot-interval-ms:60000}", initialDelayString = "${gyebalja.search.snapshot-interval-ms:60000}")
+    @PreDestroy
+    public void saveSnapshots() {
+        saveSnapshot(boards);
+        saveSnapshot(educations);
+    }
+
+    private void reindex(Target target) {
+        target.changedIds.rebuildAndReplay(() -> {
+            FullTextIndex newIndex = new FullTextIndex();
+            Long lastId = 0L;
+            List<Object[]> rows;
+            do {
+                rows = target.findAfter.apply(lastId, PageRequest.of(0, REINDEX_BATCH_SIZE));
+                for (Object[] row : rows) {
+                    newIndex.put((Long) row[0], tokens(row));
+                    lastId = (Long) row[0];
+                }
+            } while (rows.size() == REINDEX_BATCH_SIZE);
+            return newIndex;
+        }, newIndex -> {
+            target.index = newIndex;
+            target.snapshot.markDirty();
+        }, ids -> refresh(target, ids), transactionManager);
+    }
+
+    /** 부분 색인 - 다시 조회해서 반영 (조회되지 않는 문서는 삭제) */
+    private static void refresh(Target target, Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+
+        FullTextIndex current = target.index;
+        Set<Long> removedIds = new HashSet<>(ids);
+        for (Object[] row : target.findByIds.apply(ids)) {
+            current.put((Long) row[0], tokens(row));
+            removedIds.remove(row[0]);
+        }
+        for (Long id : removedIds) {
+            current.remove(id);
+        }
+        target.snapshot.markDirty();
+    }
+
+    // 제목은 TITLE_WEIGHT 번 반복해서 색인 (제목에 있는 단어의 출현 횟수가 높게 계산됨)
+    private static List<String> tokens(Object[] row) {
+        List<String> titleTokens = BigramTokenizer.tokenize((String) row[1]);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < TITLE_WEIGHT; i++) {
+            tokens.addAll(titleTokens);
+        }
+        tokens.addAll(BigramTokenizer.tokenize((String) row[2]));
+        return tokens;
+    }
+
+    private Path snapshotPath(Target target) {
+        return Paths.get(indexDir, target.name + ".idx");
+    }
+
+    // 파일 구성 : 저장 시각(watermark) + FullTextIndex.writeTo()
+    private void saveSnapshot(Target target) {
+        target.snapshot.saveIfDirty(snapshotPath(target), (tempPath, watermark) -> {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                out.writeUTF(watermark.toString());
+                target.index.writeTo(out);
+            }
+        });
+    }
+
+    /** 인덱스 파일 복원 후 저장 시점 이후 수정된 문서만 다시 색인 */
+    private boolean loadSnapshot(Target target) {
+        Path path = snapshotPath(target);
+        if (!Files.exists(path)) return false;
+
+        LocalDateTime watermark;
+        FullTextIndex index;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            watermark = LocalDateTime.parse(in.readUTF());
+            index = FullTextIndex.readFrom(in);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("검색 인덱스 파일 복원 실패, 전체 색인 - {} : {}", path, e.toString());
+            return false;
+        }
+        target.index = index;
+
+        List<Long> modifiedIds = target.findModifiedSince.apply(SnapshotFile.catchUpFrom(watermark));
+        for (int i = 0; i < modifiedIds.size(); i += REINDEX_BATCH_SIZE) {
+            refresh(target, modifiedIds.subList(i, Math.min(i + REINDEX_BATCH_SIZE, modifiedIds.size())));
+        }
+        logger.info("검색 인덱스 파일 복원 - {} : 문서 {} 건, 다시 색인 {} 건", path, index.size(), modifiedIds.size());
+        return true;
+    }
+
+    /** 색인 대상 (게시글/교육) 별 조회 방법과 현재 인덱스 */
+    private static class Target {
+        private final String name;
+        private final BiFunction<Long, Pageable, List<Object[]>> findAfter;
+        private final Function<Collection<Long>, List<Object[]>> findByIds;
+        private final Function<LocalDateTime, List<Long>> findModifiedSince;
+        private final ChangedIdRecorder changedIds = new ChangedIdRecorder();
+        private volatile FullTextIndex index = new FullTextIndex();
+        private final SnapshotFile snapshot = new SnapshotFile("검색 인덱스");
+
+        private Target(String name, BiFunction<Long, Pageable, List<Object[]>> findAfter, Function<Collection<Long>, List<Object[]>> findByIds,
+                       Function<LocalDateTime, List<Long>> findModifiedSince) {
+            this.name = name;
+            this.findAfter = findAfter;
+            this.findByIds = findByIds;
+            this.findModifiedSince = findModifiedSince;
+        }
+    }
+}
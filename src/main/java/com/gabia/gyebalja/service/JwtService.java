@@ -13,6 +13,8 @@ import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -38,6 +40,8 @@ import java.util.Optional;
 @Service
 public class JwtService {
 
+    private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
+
     private final Gson gson;
 
     @Autowired
@@ -64,7 +68,7 @@ public class JwtService {
         try {
             key = jwtSecretKey.getBytes("UTF-8");
         } catch (UnsupportedEncodingException e) {
-            e.printStackTrace();
+            logger.error("generateKey - ", e);
         }
 
         return key;
@@ -80,7 +84,7 @@ public class JwtService {
                     .setSigningKey(this.generateKey())
                     .parseClaimsJws(jwt);
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.info("invalid jwt token - {}", e.toString());
             throw new UnauthorizedException();
         }
         @SuppressWarnings("unchecked")
@@ -98,7 +102,7 @@ public class JwtService {
 
             return true;
         } catch (Exception e) {
-            e.printStackTrace();
+            logger.info("invalid jwt token - {}", e.toString());
             throw new UnauthorizedException();
         }
     }
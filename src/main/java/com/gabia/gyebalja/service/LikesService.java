@@ -1,8 +1,11 @@
 package com.gabia.gyebalja.service;
 
+import com.gabia.gyebalja.common.id.EntityIdGenerator;
 import com.gabia.gyebalja.domain.Board;
 import com.gabia.gyebalja.domain.Likes;
 import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.likes.LikedBoardsResponseDto;
+import com.gabia.gyebalja.dto.likes.LikesCountResponseDto;
 import com.gabia.gyebalja.dto.likes.LikesRequestDto;
 import com.gabia.gyebalja.dto.likes.LikesResponseDto;
 import com.gabia.gyebalja.repository.BoardRepository;
@@ -14,7 +17,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Author : 이현재
@@ -26,17 +34,22 @@ import java.util.Optional;
 @Service
 public class LikesService {
 
+    /** 좋아요 여부 일괄 조회 시 최대 게시글 수 (목록 한 페이지) */
+    public static final int MAX_BOARD_IDS = 100;
+
     @PersistenceContext
     EntityManager em;
 
     private final LikesRepository likesRepository;
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
+    private final EntityIdGenerator entityIdGenerator;
 
     /** 등록 - likes 한 개 */
     public Long postOneLikes(LikesRequestDto likesRequestDto){
-        User user = userRepository.findById(likesRequestDto.getUserId()).orElseThrow(() -> new IllegalArgumentException("해당 데이터가 없습니다."));
-        Board board = boardRepository.findById(likesRequestDto.getBoardId()).orElseThrow(() -> new IllegalArgumentException("해당 데이터가 없습니다."));
+        // 조회 없이 참조(프록시)만 사용 - 존재하지 않는 user/board 는 FK 로 실패
+        User user = userRepository.getOne(likesRequestDto.getUserId());
+        Board board = boardRepository.getOne(likesRequestDto.getBoardId());
 
         Long likesId = likesRepository.save(likesRequestDto.toEntity(user, board)).getId();
 
@@ -52,6 +65,30 @@ public class LikesService {
         return likesResponseDto;
     }
 
+    /** 조회 - likes 여러 개 (게시글 목록 중 사용자가 좋아요 한 게시글, IN 쿼리 한 번) */
+    @Transactional(readOnly = true)
+    public LikedBoardsResponseDto getLikedBoards(Long userId, List<Long> boardIds) {
+        Set<Long> distinctBoardIds = new LinkedHashSet<>(boardIds);
+        if (distinctBoardIds.size() > MAX_BOARD_IDS) throw new IllegalArgumentException("한 번에 조회할 수 있는 게시글은 최대 " + MAX_BOARD_IDS + "개입니다.");
+        if (distinctBoardIds.isEmpty()) return new LikedBoardsResponseDto(new ArrayList<>());
+
+        List<Long> likedBoardIds = likesRepository.findLikedBoardIds(userId, distinctBoardIds);
+
+        return new LikedBoardsResponseDto(likedBoardIds);
+    }
+
+    /** 등록/취소 - likes 한 개 (멱등, 중복 클릭에도 한 번만 반영) 후 게시글 좋아요 수 반환 */
+    public LikesCountResponseDto putOneLikes(Long userId, Long boardId, boolean isLikes){
+        if (isLikes) {
+            likesRepository.insertIfAbsent(entityIdGenerator.nextId(Likes.class), userId, boardId, LocalDateTime.now());
+        } else {
+            likesRepository.deleteByUserIdAndBoardId(userId, boardId);
+        }
+        int totalNumberOfLikes = likesRepository.countByBoardId(boardId);
+
+        return new LikesCountResponseDto(isLikes, totalNumberOfLikes);
+    }
+
     /** 삭제 - likes 한 개 */
     public Long deleteOneLikes(Long userId, Long boardId){
         likesRepository.deleteByUserIdAndBoardId(userId, boardId);
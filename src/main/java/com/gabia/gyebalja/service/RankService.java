@@ -17,6 +17,8 @@ import java.util.List;
 /**
  * Author : 정태균
  * Part : All
+ * Author : 이현재
+ * Part : getRankByDeptId() 하위 부서 포함
  */
 
 @RequiredArgsConstructor
@@ -31,13 +33,22 @@ public class RankService {
      * 부서별 랭크 페이지 Service
      */
     public List<RankResponseDto> getRankByDeptId(Long deptId) {
+        return getRankByDeptId(deptId, false);
+    }
+
+    /**
+     * 부서별 랭크 페이지 Service
+     * @param includeSubDepartments true 이면 하위 부서(전체 트리) 사용자까지 포함
+     */
+    public List<RankResponseDto> getRankByDeptId(Long deptId, boolean includeSubDepartments) {
 
         Department findDept = departmentRepository.findById(deptId).orElseThrow(() -> new NotExistDataException("존재하지 않는 부서입니다."));
         String currentYear = Integer.toString(LocalDate.now().getYear());
         List<RankResponseDto> rankListDto = new ArrayList<RankResponseDto>();
         int rank = 1;
 
-        List<ArrayList<Object>> rankByDeptId = rankRepository.getRankByDeptId(deptId, currentYear);
+        List<ArrayList<Object>> rankByDeptId = includeSubDepartments ? rankRepository.getRankByDeptIdWithSubDepartments(deptId, currentYear)
+                : rankRepository.getRankByDeptId(deptId, currentYear);
         int totalHoursIdx = 0, totalCountsIdx = 1, userIdx = 2;
 
         for (ArrayList<Object> objects : rankByDeptId) {
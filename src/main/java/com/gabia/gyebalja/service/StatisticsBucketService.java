@@ -0,0 +1,221 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.common.event.EducationChangedEvent;
+import com.gabia.gyebalja.common.event.UserChangedEvent;
+import com.gabia.gyebalja.common.exception.NotExistDataException;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.StatisticsDayLock;
+import com.gabia.gyebalja.dto.statistics.StatisticsDepartmentRollupDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsDepartmentRollupResponseDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsGranularity;
+import com.gabia.gyebalja.dto.statistics.StatisticsRangePeriodDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsRangeResponseDto;
+import com.gabia.gyebalja.repository.DepartmentRepository;
+import com.gabia.gyebalja.repository.EducationRepository;
+import com.gabia.gyebalja.repository.StatisticsDailyBucketRepository;
+import com.gabia.gyebalja.repository.StatisticsDayLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 기간 통계 (일별 버킷 테이블 StatisticsDailyBucket 합산, 교육 테이블 스캔 없음)
+ * - 조회 기간의 날짜별 합계(최대 기간의 날짜 수만큼의 행)를 구간(일/주/월/분기/연도) 단위로 합산
+ * - 하위 부서 포함 조회는 부서 closure 테이블(DepartmentClosure) join
+ * - 교육 등록/수정/삭제/일괄 등록(EducationChangedEvent), 사용자 부서 변경(UserChangedEvent)은 커밋 이후 해당 날짜만 다시 집계
+ * - 애플리케이션 시작 시 버킷이 비어 있으면 전체 집계, 그 외 변경은 매일 전체 재집계로 맞춤
+ * - 같은 날짜의 재집계(삭제 후 insert)가 동시에 실행되면 버킷이 중복되므로 날짜별 잠금 행(StatisticsDayLock)을 잡고 실행
+ *
+ * gyebalja.statistics.buckets.rebuild-cron : 전체 재집계 시각 (기본 매일 04:30)
+ */
+@RequiredArgsConstructor
+@Service
+public class StatisticsBucketService {
+
+    public static final long MAX_RANGE_DAYS = 3660; // 약 10 년
+    private static final int REFRESH_BATCH_SIZE = 500;
+
+    private final StatisticsDailyBucketRepository statisticsDailyBucketRepository;
+    private final EducationRepository educationRepository;
+    private final DepartmentRepository departmentRepository;
+    private final StatisticsDayLockRepository statisticsDayLockRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 조회 - 기간 통계
+     * @param from, to 조회 기간 (둘 다 포함)
+     * @param includeSubDepartments true 이면 deptId 의 하위 부서 전체 포함
+     * @param yearStartMonth 회계연도 시작 월 (분기/연도 구간 기준, 1 이면 달력 기준)
+     */
+    @Transactional(readOnly = true)
+    public StatisticsRangeResponseDto getRangeStatistics(LocalDate from, LocalDate to, StatisticsGranularity granularity, Long categoryId, Long deptId,
+                                                         boolean includeSubDepartments, int yearStartMonth) {
+        validateRange(from, to);
+        if (yearStartMonth < 1 || yearStartMonth > 12)
+            throw new IllegalArgumentException("yearStartMonth 는 1 ~ 12 이어야 합니다.");
+
+        // 구간 목록 (교육이 없는 구간도 포함, 첫/마지막 구간은 조회 기간 안으로 잘라냄)
+        List<LocalDate> periodStarts = new ArrayList<>();
+        for (LocalDate start = granularity.periodStart(from, yearStartMonth); !start.isAfter(to); start = granularity.nextPeriodStart(start)) {
+            periodStarts.add(start);
+        }
+        long[] counts = new long[periodStarts.size()];
+        long[] hours = new long[periodStarts.size()];
+
+        // 날짜순 합계를 구간 순서대로 누적
+        int period = 0;
+        long totalCount = 0;
+        long totalHours = 0;
+        List<Object[]> sums = includeSubDepartments && deptId != null ? statisticsDailyBucketRepository.sumByDayInDepartmentTree(from, to, categoryId, deptId)
+                : statisticsDailyBucketRepository.sumByDay(from, to, categoryId, deptId);
+        for (Object[] row : sums) {
+            LocalDate day = (LocalDate) row[0];
+            while (period + 1 < periodStarts.size() && !day.isBefore(periodStarts.get(period + 1))) period++;
+            long count = ((Number) row[1]).longValue();
+            long hour = ((Number) row[2]).longValue();
+            counts[period] += count;
+            hours[period] += hour;
+            totalCount += count;
+            totalHours += hour;
+        }
+
+        List<StatisticsRangePeriodDto> periods = new ArrayList<>(periodStarts.size());
+        for (int i = 0; i < periodStarts.size(); i++) {
+            LocalDate startDate = periodStarts.get(i).isBefore(from) ? from : periodStarts.get(i);
+            LocalDate endDate = granularity.nextPeriodStart(periodStarts.get(i)).minusDays(1);
+            periods.add(new StatisticsRangePeriodDto(startDate, endDate.isAfter(to) ? to : endDate, counts[i], hours[i]));
+        }
+        return new StatisticsRangeResponseDto(from, to, granularity.name(), totalCount, totalHours, periods);
+    }
+
+    /** 조회 - 부서 트리 통계 (부서와 바로 아래 부서별로 각각의 하위 부서 전체 합계) */
+    @Transactional(readOnly = true)
+    public StatisticsDepartmentRollupResponseDto getDepartmentRollup(Long deptId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        Department department = departmentRepository.findById(deptId).orElseThrow(() -> new NotExistDataException("존재하지 않는 부서입니다."));
+        List<Department> children = departmentRepository.findChildren(deptId);
+
+        List<Long> ancestorIds = new ArrayList<>();
+        ancestorIds.add(deptId);
+        for (Department child : children) {
+            ancestorIds.add(child.getId());
+        }
+        Map<Long, long[]> sums = new HashMap<>();
+        for (Object[] row : statisticsDailyBucketRepository.sumByDepartmentTree(ancestorIds, from, to)) {
+            sums.put((Long) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+
+        List<StatisticsDepartmentRollupDto> childDtos = new ArrayList<>(children.size());
+        for (Department child : children) {
+            childDtos.add(toRollupDto(child, sums));
+        }
+        return new StatisticsDepartmentRollupResponseDto(from, to, toRollupDto(department, sums), childDtos);
+    }
+
+    private static StatisticsDepartmentRollupDto toRollupDto(Department department, Map<Long, long[]> sums) {
+        long[] sum = sums.getOrDefault(department.getId(), new long[2]);
+        return new StatisticsDepartmentRollupDto(department.getId(), department.getName(), sum[0], sum[1]);
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to))
+            throw new IllegalArgumentException("from 은 to 보다 늦을 수 없습니다.");
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS)
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + " 일입니다.");
+    }
+
+    /** 시작 시 버킷이 비어 있으면 전체 집계 (기존 데이터가 있는 상태에서 처음 배포하는 경우) */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (statisticsDailyBucketRepository.count() == 0) rebuild();
+    }
+
+    /** 전체 재집계 - 교육이 있는 날짜와 버킷이 있는 날짜 전체를 날짜 단위로 재집계 (부분 재집계와 같은 날짜 잠금 사용) */
+    @Scheduled(cron = "${gyebalja.statistics.buckets.rebuild-cron:0 30 4 * * *}")
+    @Transactional
+    public void rebuild() {
+        Set<LocalDate> days = new TreeSet<>(educationRepository.findAllStartDates());
+        days.addAll(statisticsDailyBucketRepository.findAllDays());
+        refresh(days);
+    }
+
+    // 이전 시작일(수정/삭제)과 현재 시작일의 버킷을 다시 집계
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEducationChanged(EducationChangedEvent event) {
+        Set<LocalDate> days = new HashSet<>(event.getPreviousStartDates());
+        List<Long> educationIds = event.getEducationIds();
+        for (int i = 0; i < educationIds.size(); i += REFRESH_BATCH_SIZE) {
+            days.addAll(educationRepository.findStartDatesByIdIn(educationIds.subList(i, Math.min(i + REFRESH_BATCH_SIZE, educationIds.size()))));
+        }
+        refresh(days);
+    }
+
+    // 부서가 바뀌었을 수 있으므로 사용자의 교육이 있는 날짜를 다시 집계
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        refresh(educationRepository.findStartDatesByUserId(event.getUserId()));
+    }
+
+    /** 날짜 단위 재집계 (호출한 트랜잭션이 끝날 때까지 해당 날짜 잠금) */
+    public void refresh(Collection<LocalDate> days) {
+        List<LocalDate> dayList = new ArrayList<>(new TreeSet<>(days.stream().filter(Objects::nonNull).collect(Collectors.toList())));
+        for (int i = 0; i < dayList.size(); i += REFRESH_BATCH_SIZE) {
+            List<LocalDate> batch = dayList.subList(i, Math.min(i + REFRESH_BATCH_SIZE, dayList.size()));
+            createDayLocks(batch);
+            statisticsDayLockRepository.lockByDayIn(batch);
+            statisticsDailyBucketRepository.deleteByDayIn(batch);
+            statisticsDailyBucketRepository.insertByDayIn(batch);
+        }
+    }
+
+    // 잠금 행이 없는 날짜는 별도 트랜잭션으로 생성 (동시에 생성해서 중복되면 날짜 하나씩 다시 시도, 이미 있으면 무시)
+    private void createDayLocks(List<LocalDate> days) {
+        List<LocalDate> missingDays = new ArrayList<>(days);
+        missingDays.removeAll(statisticsDayLockRepository.findDaysIn(days));
+        if (missingDays.isEmpty()) return;
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            transactionTemplate.execute(status -> statisticsDayLockRepository.saveAll(missingDays.stream().map(StatisticsDayLock::new).collect(Collectors.toList())));
+        } catch (DataIntegrityViolationException e) {
+            for (LocalDate day : missingDays) {
+                try {
+                    transactionTemplate.execute(status -> statisticsDayLockRepository.saveAndFlush(new StatisticsDayLock(day)));
+                } catch (DataIntegrityViolationException ignored) {
+                    // 다른 트랜잭션에서 이미 생성
+                }
+            }
+        }
+    }
+}
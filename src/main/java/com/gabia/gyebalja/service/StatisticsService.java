@@ -1,6 +1,7 @@
 package com.gabia.gyebalja.service;
 
 import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.domain.UserYearSummary;
 import com.gabia.gyebalja.dto.statistics.StatisticsEducationCategoryResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsEducationHourResponseDto;
 import com.gabia.gyebalja.dto.statistics.StatisticsEducationMonthResponseDto;
@@ -36,6 +37,7 @@ public class StatisticsService {
 
     private final StatisticsRepository statisticsRepository;
     private final UserRepository userRepository;
+    private final UserYearSummaryService userYearSummaryService;
 
     /**
      * 메인 페이지 통계 Service
@@ -184,52 +186,35 @@ public class StatisticsService {
         return new StatisticsEducationTagResponseDto(tagNames, totalCount);
     }
 
-    // 통계 - 당해년도 사용자 vs 회사
+    // 통계 - 당해년도 사용자 vs 회사 (사용자 연도별 합계 PK 조회)
     public StatisticsEducationHourResponseDto getEducationStatisticsWithHour(Long userId) {
         userRepository.findById(userId).orElseThrow(() -> new NotExistUserException("존재하지 않는 사용자입니다."));
-        String currentYear = Integer.toString(LocalDate.now().getYear());
+        int currentYear = LocalDate.now().getYear();
         // 당해년도 개인 총 교육시간
-        Long userTotalHours = statisticsRepository.getEducationStatisticsWithIndividualTotalHours(userId, currentYear);
-        if (userTotalHours == null)
-            userTotalHours = 0L;
+        UserYearSummary userSummary = userYearSummaryService.getUserSummary(userId, currentYear);
+        Long userTotalHours = userSummary == null ? 0L : userSummary.getTotalHours();
         // 사용자 수
-        Long totalUsers = userRepository.count();
+        long totalUsers = userYearSummaryService.getUserCount();
 
         // 당해년도 회사 총 교육시간
-        Long companyTotalHours = statisticsRepository.getEducationStatisticsWithCompanyTotalHours(currentYear);
-        Long avgCompany = 0L;
-        try {
-            avgCompany = companyTotalHours / totalUsers;
-        } catch (ArithmeticException e) {
-            avgCompany = 0L;
-        } finally {
-            return new StatisticsEducationHourResponseDto(userTotalHours, avgCompany);
-        }
+        long companyTotalHours = userYearSummaryService.getCompanyTotalHours(currentYear);
+        Long avgCompany = totalUsers == 0 ? 0L : companyTotalHours / totalUsers;
 
+        return new StatisticsEducationHourResponseDto(userTotalHours, avgCompany);
     }
 
-    // 통계 - 당해년도 부서 내 등수
+    // 통계 - 당해년도 부서 내 등수 (사용자 연도별 합계에서 부서 내 교육시간이 더 많은 사용자 수)
     public StatisticsEducationRankResponseDto getEducationStatisticsWithRank(Long userId) {
-        String currentYear = Integer.toString(LocalDate.now().getYear());
+        int currentYear = LocalDate.now().getYear();
         // 사용자가 속한 부서 ID 조회
         User findUser = userRepository.findById(userId).orElseThrow(() -> new NotExistUserException("존재하지 않는 사용자입니다."));
         Long deptId = findUser.getDepartment().getId();
         Long totalUserOfDepartment = userRepository.countByDepartmentId(deptId);
-        // 사용자의 시간 조회
-        Long userTotalHours = statisticsRepository.getEducationStatisticsWithIndividualTotalHours(userId, currentYear);
-        ArrayList<Long> response = statisticsRepository.getEducationStatisticsWithRank(deptId, currentYear);
-
-        // 등수 처리 로직 (동점자는 같은 등수 처리)
-        int rank = 0;
-        if (userTotalHours == null) {
-            return new StatisticsEducationRankResponseDto(response.size() + 1, totalUserOfDepartment);
-        } else {
-            for (Long res : response) {
-                ++rank;
-                if (res == userTotalHours)
-                    break;
-            }
-        }
+        // 사용자의 시간 조회 (교육이 없으면 교육시간이 있는 사용자 다음 등수)
+        UserYearSummary userSummary = userYearSummaryService.getUserSummary(userId, currentYear);
+        long userTotalHours = userSummary == null ? 0L : userSummary.getTotalHours();
+        int rank = userYearSummaryService.getRankInDepartment(deptId, currentYear, userTotalHours);
+
         return new StatisticsEducationRankResponseDto(rank, totalUserOfDepartment);
     }
 }
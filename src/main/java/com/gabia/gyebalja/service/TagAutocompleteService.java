@@ -0,0 +1,84 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.common.autocomplete.AutocompleteIndex;
+import com.gabia.gyebalja.common.event.ChangedIdRecorder;
+import com.gabia.gyebalja.common.event.TagChangedEvent;
+import com.gabia.gyebalja.dto.tag.TagAutocompleteResponseDto;
+import com.gabia.gyebalja.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 태그 자동완성 (메모리 trie, 사용 횟수 순)
+ * - 태그 등록/수정/삭제, 교육-태그 관계 등록은 TagChangedEvent 로 커밋 이후 바로 반영
+ * - 교육 삭제, 일괄 등록 등으로 달라진 사용 횟수는 주기적인 전체 재생성으로 맞춤
+ *   gyebalja.tag.autocomplete.rebuild-interval-ms : 재생성 주기 (기본 300000, 애플리케이션 시작 시 한 번 생성)
+ */
+@RequiredArgsConstructor
+@Service
+public class TagAutocompleteService {
+
+    private final TagRepository tagRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ChangedIdRecorder changedTagIds = new ChangedIdRecorder();
+    private volatile AutocompleteIndex index = new AutocompleteIndex();
+
+    /** 조회 - 자동완성 (초성 검색 포함, size 최대 AutocompleteIndex.MAX_LIMIT) */
+    public List<TagAutocompleteResponseDto> autocomplete(String query, int size) {
+        return index.search(query, Math.min(size, AutocompleteIndex.MAX_LIMIT)).stream()
+                .map(e -> TagAutocompleteResponseDto.builder().id(e.getId()).name(e.getName()).usageCount(e.getScore()).build())
+                .collect(Collectors.toList());
+    }
+
+    /** 전체 재생성 - 새 인덱스를 만든 뒤 교체 (생성 중에도 기존 인덱스로 검색) */
+    @Scheduled(fixedDelayString = "${gyebalja.tag.autocomplete.rebuild-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        changedTagIds.rebuildAndReplay(() -> {
+            AutocompleteIndex newIndex = new AutocompleteIndex();
+            for (Object[] row : tagRepository.findAllUsage()) {
+                newIndex.put((Long) row[0], (String) row[1], ((Number) row[2]).longValue());
+            }
+            return newIndex;
+        }, newIndex -> index = newIndex, this::refresh, transactionManager);
+    }
+
+    /** 부분 갱신 - 변경된 태그만 다시 조회해서 반영 (조회되지 않는 태그는 삭제) */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTagChanged(TagChangedEvent event) {
+        if (event.getTagIds().isEmpty()) return;
+
+        changedTagIds.record(event.getTagIds());
+        refresh(event.getTagIds());
+    }
+
+    private void refresh(Collection<Long> tagIds) {
+        AutocompleteIndex current = index;
+        Set<Long> removedTagIds = new HashSet<>(tagIds);
+        for (Object[] row : tagRepository.findUsageByIdIn(tagIds)) {
+            current.put((Long) row[0], (String) row[1], ((Number) row[2]).longValue());
+            removedTagIds.remove(row[0]);
+        }
+        for (Long tagId : removedTagIds) {
+            current.remove(tagId);
+        }
+    }
+}
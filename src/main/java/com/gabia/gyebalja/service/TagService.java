@@ -1,11 +1,13 @@
 package com.gabia.gyebalja.service;
 
+import com.gabia.gyebalja.common.event.TagChangedEvent;
 import com.gabia.gyebalja.domain.Tag;
 import com.gabia.gyebalja.dto.tag.TagRequestDto;
 import com.gabia.gyebalja.dto.tag.TagResponseDto;
 import com.gabia.gyebalja.exception.NotExistTagException;
 import com.gabia.gyebalja.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 등록 - tag 한 건 (태그 등록) */
     @Transactional
@@ -31,6 +34,7 @@ public class TagService {
         Long tagId = tagRepository.save(Tag.builder()
                 .name(tagRequestDto.getName())
                 .build()).getId();
+        eventPublisher.publishEvent(TagChangedEvent.of(tagId));
 
         return tagId;
     }
@@ -57,6 +61,7 @@ public class TagService {
             throw new NotExistTagException("존재하지 않는 태그입니다.");
 
         tag.get().changeTagName(tagRequestDto.getName());
+        eventPublisher.publishEvent(TagChangedEvent.of(id));
 
         return id;
     }
@@ -65,6 +70,7 @@ public class TagService {
     @Transactional
     public Long deleteOneTag(Long id) {
         tagRepository.deleteById(id);
+        eventPublisher.publishEvent(TagChangedEvent.of(id));
 
         return id;
     }
@@ -0,0 +1,161 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.common.event.ChangedIdRecorder;
+import com.gabia.gyebalja.common.event.EduTagChangedEvent;
+import com.gabia.gyebalja.common.topk.SlidingTopK;
+import com.gabia.gyebalja.dto.statistics.StatisticsTrendingTagDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsTrendingTagResponseDto;
+import com.gabia.gyebalja.repository.EduTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 인기 급상승 태그 (최근 n 일 동안 교육에 가장 많이 붙은 태그, 메인 통계의 누적 태그 Top 3 는 StatisticsService)
+ * - 교육-태그 관계 등록/삭제(EduTagChangedEvent)는 커밋 이후 해당 태그의 일별 사용 횟수를 다시 조회해서 일별 Count-Min Sketch(SlidingTopK)에
+ *   이전에 반영한 횟수와의 차이만 증감 (같은 태그를 여러 번 다시 반영해도 같은 결과), 요청마다 edu_tag 전체 group by 없음
+ * - 조회 시 근사 상위 후보(size * CANDIDATE_FACTOR 개)만 edu_tag 에서 정확히 다시 세어 정렬하므로 응답의 횟수는 항상 정확한 값
+ *   (후보에서 빠진 태그만 누락될 수 있음)
+ * - 이벤트 유실, 직접 SQL 수정 등으로 어긋난 카운터는 주기적인 전체 재생성으로 맞춤
+ *
+ * gyebalja.tag.trending.rebuild-interval-ms : 재생성 주기 (기본 3600000, 애플리케이션 시작 시 한 번 생성)
+ */
+@RequiredArgsConstructor
+@Service
+public class TrendingTagService {
+
+    public static final int MAX_DAYS = 90;
+    public static final int MAX_SIZE = 20;
+    private static final int CANDIDATE_FACTOR = 4;
+    private static final int CANDIDATES_PER_DAY = 128;
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1024;
+
+    private final EduTagRepository eduTagRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ChangedIdRecorder changedTagIds = new ChangedIdRecorder();
+    private volatile Counters counters = new Counters();
+
+    /**
+     * 조회 - 인기 급상승 태그
+     * @param days 오늘 포함 최근 days 일 (1 ~ MAX_DAYS, 예 : 7, 30, 90)
+     * @param size 태그 수 (1 ~ MAX_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public StatisticsTrendingTagResponseDto getTrendingTags(int days, int size) {
+        if (days < 1 || days > MAX_DAYS || size < 1 || size > MAX_SIZE)
+            throw new IllegalArgumentException("days 는 1 ~ " + MAX_DAYS + ", size 는 1 ~ " + MAX_SIZE + " 이어야 합니다.");
+
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(days - 1);
+        List<Long> candidateIds = counters.topK.top(today, days, size * CANDIDATE_FACTOR).stream()
+                .map(SlidingTopK.Candidate::getKey)
+                .collect(Collectors.toList());
+
+        // 후보만 정확한 횟수로 다시 확인 (근사값 정렬 순서와 다를 수 있음)
+        List<StatisticsTrendingTagDto> tags = new ArrayList<>();
+        if (!candidateIds.isEmpty()) {
+            for (Object[] row : eduTagRepository.countUsageByTagIdInSince(candidateIds, from.atStartOfDay())) {
+                tags.add(new StatisticsTrendingTagDto((Long) row[0], (String) row[1], ((Number) row[2]).longValue()));
+            }
+        }
+        tags.sort(Comparator.comparingLong(StatisticsTrendingTagDto::getCount).reversed().thenComparing(StatisticsTrendingTagDto::getTagId));
+
+        return new StatisticsTrendingTagResponseDto(from, today, days, tags.size() > size ? new ArrayList<>(tags.subList(0, size)) : tags);
+    }
+
+    /** 전체 재생성 - 최근 MAX_DAYS 일의 일별 사용 횟수로 새 카운터를 만든 뒤 교체 */
+    @Scheduled(fixedDelayString = "${gyebalja.tag.trending.rebuild-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        changedTagIds.rebuildAndReplay(() -> {
+            Counters newCounters = new Counters();
+            newCounters.setAll(dailyCounts(eduTagRepository.countDailyUsageSince(windowStart()), Collections.emptyList()));
+            return newCounters;
+        }, newCounters -> counters = newCounters, this::refresh, transactionManager);
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onEduTagChanged(EduTagChangedEvent event) {
+        if (event.getTagIds().isEmpty()) return;
+
+        changedTagIds.record(event.getTagIds());
+        refresh(new HashSet<>(event.getTagIds()));
+    }
+
+    // 조회와 반영을 함께 직렬화 (먼저 조회한 이전 값이 나중에 반영되지 않도록)
+    private synchronized void refresh(Collection<Long> tagIds) {
+        counters.setAll(dailyCounts(eduTagRepository.countDailyUsageByTagIdInSince(tagIds, windowStart()), tagIds));
+    }
+
+    private static LocalDateTime windowStart() {
+        return LocalDate.now().minusDays(MAX_DAYS - 1).atStartOfDay();
+    }
+
+    // (태그 id, 날짜, 횟수) 행을 태그별 일별 횟수로 (조회되지 않는 tagIds 는 빈 횟수 - 사용하지 않게 된 태그)
+    private static Map<Long, Map<LocalDate, Integer>> dailyCounts(List<Object[]> rows, Collection<Long> tagIds) {
+        Map<Long, Map<LocalDate, Integer>> counts = new HashMap<>();
+        for (Long tagId : tagIds) {
+            counts.put(tagId, new HashMap<>());
+        }
+        for (Object[] row : rows) {
+            counts.computeIfAbsent((Long) row[0], k -> new HashMap<>()).put(toLocalDate(row[1]), ((Number) row[2]).intValue());
+        }
+        return counts;
+    }
+
+    // cast(... as date) 결과는 드라이버에 따라 java.sql.Date 또는 LocalDate
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date ? ((Date) value).toLocalDate() : (LocalDate) value;
+    }
+
+    /** 일별 카운터와 태그별로 카운터에 반영한 일별 횟수 (다시 조회한 횟수와의 차이만 증감하기 위해 보관) */
+    private static class Counters {
+        private final SlidingTopK topK = new SlidingTopK(MAX_DAYS, CANDIDATES_PER_DAY, SKETCH_DEPTH, SKETCH_WIDTH);
+        private final Map<Long, Map<LocalDate, Integer>> applied = new HashMap<>();
+
+        // 태그의 일별 횟수를 counts 로 맞춤 (기간이 지난 날짜는 빠지고, SlidingTopK 에서도 무시)
+        private synchronized void setAll(Map<Long, Map<LocalDate, Integer>> counts) {
+            for (Map.Entry<Long, Map<LocalDate, Integer>> entry : counts.entrySet()) {
+                long tagId = entry.getKey();
+                Map<LocalDate, Integer> previous = applied.getOrDefault(tagId, Collections.emptyMap());
+                for (Map.Entry<LocalDate, Integer> day : previous.entrySet()) {
+                    if (!entry.getValue().containsKey(day.getKey())) topK.add(tagId, day.getKey(), -day.getValue());
+                }
+                for (Map.Entry<LocalDate, Integer> day : entry.getValue().entrySet()) {
+                    int delta = day.getValue() - previous.getOrDefault(day.getKey(), 0);
+                    if (delta != 0) topK.add(tagId, day.getKey(), delta);
+                }
+                if (entry.getValue().isEmpty()) {
+                    applied.remove(tagId);
+                } else {
+                    applied.put(tagId, entry.getValue());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.common.autocomplete.AutocompleteIndex;
+import com.gabia.gyebalja.common.event.ChangedIdRecorder;
+import com.gabia.gyebalja.common.event.UserChangedEvent;
+import com.gabia.gyebalja.dto.user.UserSearchResponseDto;
+import com.gabia.gyebalja.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * 사용자 검색 (메모리 trie, user 테이블 조회 없음)
+ * - 이름, 영문 이름(단어별), 이메일, 부서명 접두어 검색 / 초성 검색 / 영문 대소문자 무시
+ * - 정렬 : 이름 완전 일치 > 이름 접두어 일치 > 그 외 (같은 순위는 이름순)
+ *   trie 노드마다 상위 MAX_LIMIT 건만 남기므로 이름 전용 인덱스를 따로 두고 이름 일치 결과를 먼저 채움
+ *   (영문 이름, 이메일, 부서명 일치 사용자가 많아도 이름 일치 사용자가 잘리지 않도록)
+ * - UserService 등록/수정은 UserChangedEvent 로 커밋 이후 바로 반영, 그 외 변경(부서명 등)은 주기적인 전체 재생성으로 맞춤
+ *   gyebalja.user.search.rebuild-interval-ms : 재생성 주기 (기본 600000, 애플리케이션 시작 시 한 번 생성)
+ */
+@RequiredArgsConstructor
+@Service
+public class UserSearchService {
+
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ChangedIdRecorder changedUserIds = new ChangedIdRecorder();
+    private volatile Snapshot snapshot = new Snapshot();
+
+    /** 조회 - 사용자 검색 (size 최대 AutocompleteIndex.MAX_LIMIT) */
+    public List<UserSearchResponseDto> searchUsers(String query, int size) {
+        Snapshot current = snapshot;
+        int limit = Math.min(size, AutocompleteIndex.MAX_LIMIT);
+        String name = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+
+        Map<Long, UserSearchResponseDto> found = new LinkedHashMap<>();
+        for (AutocompleteIndex source : Arrays.asList(current.nameIndex, current.index)) {
+            for (AutocompleteIndex.Entry entry : source.search(query, AutocompleteIndex.MAX_LIMIT)) {
+                UserSearchResponseDto user = current.users.get(entry.getId());
+                if (user != null) found.putIfAbsent(user.getId(), user);
+            }
+        }
+        List<UserSearchResponseDto> users = new ArrayList<>(found.values());
+        // 인덱스 정렬(이름순)을 유지한 채 이름 일치 순위만 앞으로 (stable sort)
+        users.sort((a, b) -> Integer.compare(nameRank(a, name), nameRank(b, name)));
+
+        return new ArrayList<>(users.subList(0, Math.min(limit, users.size())));
+    }
+
+    /** 전체 재생성 - 새 인덱스를 만든 뒤 교체 (생성 중에도 기존 인덱스로 검색) */
+    @Scheduled(fixedDelayString = "${gyebalja.user.search.rebuild-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        changedUserIds.rebuildAndReplay(() -> {
+            Snapshot newSnapshot = new Snapshot();
+            for (UserSearchResponseDto user : userRepository.findAllSearchDto()) {
+                newSnapshot.put(user);
+            }
+            return newSnapshot;
+        }, newSnapshot -> snapshot = newSnapshot, this::refresh, transactionManager);
+    }
+
+    /** 부분 갱신 - 변경된 사용자만 다시 조회해서 반영 */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        List<Long> userIds = Collections.singletonList(event.getUserId());
+        changedUserIds.record(userIds);
+        refresh(userIds);
+    }
+
+    // 조회되지 않는 사용자는 삭제
+    private void refresh(Collection<Long> userIds) {
+        Snapshot current = snapshot;
+        for (Long userId : userIds) {
+            Optional<UserSearchResponseDto> user = userRepository.findSearchDtoById(userId);
+            if (user.isPresent()) {
+                current.put(user.get());
+            } else {
+                current.remove(userId);
+            }
+        }
+    }
+
+    private static int nameRank(UserSearchResponseDto user, String name) {
+        String userName = user.getName() == null ? "" : user.getName().toLowerCase(Locale.ROOT);
+        if (userName.equals(name)) return 0;
+        if (userName.startsWith(name)) return 1;
+        return 2;
+    }
+
+    /** 검색 인덱스와 결과 DTO 를 함께 교체하기 위한 묶음 */
+    private static class Snapshot {
+        private final AutocompleteIndex nameIndex = new AutocompleteIndex();
+        private final AutocompleteIndex index = new AutocompleteIndex();
+        private final Map<Long, UserSearchResponseDto> users = new ConcurrentHashMap<>();
+
+        private void put(UserSearchResponseDto user) {
+            List<String> keys = new ArrayList<>();
+            keys.add(user.getName());
+            if (user.getEngName() != null) {
+                keys.add(user.getEngName());
+                for (String word : user.getEngName().trim().split("\\s+")) keys.add(word);
+            }
+            keys.add(user.getEmail());
+            if (user.getDeptName() != null) keys.add(user.getDeptName());
+            keys.removeIf(Objects::isNull);
+
+            users.put(user.getId(), user);
+            if (user.getName() != null) {
+                nameIndex.put(user.getId(), user.getName(), 0);
+            } else {
+                nameIndex.remove(user.getId());
+            }
+            index.put(user.getId(), user.getName(), 0, keys);
+        }
+
+        private void remove(Long userId) {
+            nameIndex.remove(userId);
+            index.remove(userId);
+            users.remove(userId);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.gabia.gyebalja.service;
 
+import com.gabia.gyebalja.common.event.UserChangedEvent;
 import com.gabia.gyebalja.common.exception.NotExistDataException;
 import com.gabia.gyebalja.domain.Department;
 import com.gabia.gyebalja.domain.User;
@@ -9,6 +10,7 @@ import com.gabia.gyebalja.exception.NotExistUserException;
 import com.gabia.gyebalja.repository.DepartmentRepository;
 import com.gabia.gyebalja.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /** 조회 - 사용자 한 건 */
     public UserResponseDto getOneUser(Long id) {
@@ -50,6 +53,8 @@ public class UserService {
                 .profileImg(userRequestDto.getProfileImg())
                 .department(findDept)
                 .build());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
+
         return savedUser.getId();
     }
 
@@ -71,6 +76,7 @@ public class UserService {
                 userRequestDto.getPositionName(),
                 userRequestDto.getProfileImg(),
                 findDept);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
 
         return id;
     }
@@ -0,0 +1,117 @@
+package com.gabia.gyebalja.service;
+
+import com.gabia.gyebalja.common.event.UserChangedEvent;
+import com.gabia.gyebalja.domain.UserYearSummary;
+import com.gabia.gyebalja.repository.UserRepository;
+import com.gabia.gyebalja.repository.UserYearSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 사용자별 연도 교육 합계 (UserYearSummary) 관리
+ * - 교육 등록/수정/삭제(EducationService), 일괄 등록(EducationImportService)의 트랜잭션 안에서 증감하므로 교육 테이블과 항상 같이 커밋/롤백
+ * - 회사 평균 계산용 사용자 수는 매 요청 count 하지 않고 사용자 등록/수정 커밋 이후 다시 조회해 둔 값 사용 (사용자 삭제 기능 없음)
+ * - 애플리케이션 시작 시 합계가 비어 있으면 전체 집계, 직접 SQL 수정 등으로 어긋난 값은 매일 전체 재집계로 맞춤
+ *
+ * gyebalja.statistics.user-year-summary.rebuild-cron : 전체 재집계 시각 (기본 매일 04:40)
+ */
+@RequiredArgsConstructor
+@Service
+public class UserYearSummaryService {
+
+    private final UserYearSummaryRepository userYearSummaryRepository;
+    private final UserRepository userRepository;
+
+    private volatile long userCount = -1;
+
+    /** 교육 한 건 반영 (count : 등록 1, 삭제 -1, 시간만 바뀐 경우 0) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long userId, LocalDate startDate, long hours, long count) {
+        if (userId == null || startDate == null || (hours == 0 && count == 0)) return;
+        userYearSummaryRepository.add(userId, startDate.getYear(), hours, count);
+    }
+
+    /** 교육 수정 반영 (같은 사용자, 같은 연도면 한 번만 증감) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void change(Long userId, LocalDate previousStartDate, long previousHours, LocalDate startDate, long hours) {
+        if (previousStartDate != null && startDate != null && previousStartDate.getYear() == startDate.getYear()) {
+            add(userId, startDate, hours - previousHours, 0);
+            return;
+        }
+        add(userId, previousStartDate, -previousHours, -1);
+        add(userId, startDate, hours, 1);
+    }
+
+    /** 일괄 등록 반영 - 사용자, 연도별로 합쳐서 증감 (key : [userId, year], value : [hours, count]) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(Map<UserYearSummary.Key, long[]> totals) {
+        for (Map.Entry<UserYearSummary.Key, long[]> entry : totals.entrySet()) {
+            userYearSummaryRepository.add(entry.getKey().getUserId(), entry.getKey().getYear(), entry.getValue()[0], entry.getValue()[1]);
+        }
+    }
+
+    /** 조회 - 사용자의 연도 합계 (교육이 없으면 null) */
+    @Transactional(readOnly = true)
+    public UserYearSummary getUserSummary(Long userId, int year) {
+        return userYearSummaryRepository.findById(new UserYearSummary.Key(userId, year)).orElse(null);
+    }
+
+    /** 조회 - 회사 전체 연도 교육시간 (사용자 행 합산, 교육이 없으면 0) */
+    @Transactional(readOnly = true)
+    public long getCompanyTotalHours(int year) {
+        return userYearSummaryRepository.sumTotalHoursByYear(year);
+    }
+
+    /** 조회 - 부서 내 등수 (동점자는 같은 등수) */
+    @Transactional(readOnly = true)
+    public int getRankInDepartment(Long deptId, int year, long hours) {
+        return (int) userYearSummaryRepository.countHigherInDepartment(deptId, year, hours) + 1;
+    }
+
+    /** 조회 - 전체 사용자 수 */
+    public long getUserCount() {
+        long count = userCount;
+        if (count < 0) {
+            count = userRepository.count();
+            userCount = count;
+        }
+        return count;
+    }
+
+    // 사용자 등록 이후 사용자 수 다시 조회 (커밋 직후이므로 replica 가 아닌 primary 에서 조회)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        userCount = userRepository.count();
+    }
+
+    /** 시작 시 합계가 비어 있으면 전체 집계 (기존 데이터가 있는 상태에서 처음 배포하는 경우) */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (userYearSummaryRepository.count() == 0) rebuild();
+    }
+
+    /** 전체 재집계 - 합계 전체 삭제 후 교육 테이블에서 한 번에 집계 */
+    @Scheduled(cron = "${gyebalja.statistics.user-year-summary.rebuild-cron:0 40 4 * * *}")
+    @Transactional
+    public void rebuild() {
+        userYearSummaryRepository.deleteAllSummaries();
+        userYearSummaryRepository.insertAllUserSummaries();
+        userCount = userRepository.count();
+    }
+}
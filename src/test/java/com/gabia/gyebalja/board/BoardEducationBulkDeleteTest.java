@@ -0,0 +1,180 @@
+package com.gabia.gyebalja.board;
+
+import com.gabia.gyebalja.common.sql.SqlRequestStatistics;
+import com.gabia.gyebalja.domain.Board;
+import com.gabia.gyebalja.domain.BoardImg;
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Comment;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.EduTag;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.Likes;
+import com.gabia.gyebalja.domain.Tag;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.exception.NotExistEducationException;
+import com.gabia.gyebalja.service.BoardService;
+import com.gabia.gyebalja.service.EducationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = {"spring.config.location=classpath:application-test.yml", "gyebalja.metrics.enabled=true"})
+public class BoardEducationBulkDeleteTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    BoardService boardService;
+    @Autowired
+    EducationService educationService;
+
+    private Education education;
+    private Education otherEducation;
+    private List<Board> boards = new ArrayList<>();
+    private Board otherBoard;
+
+    @BeforeEach
+    public void setUp() {
+        Department department = Department.builder().name("테스트팀").depth(0).parentDepartment(null).build();
+        em.persist(department);
+        Category category = Category.builder().name("개발").build();
+        em.persist(category);
+        Tag tag = Tag.builder().name("#bulk").build();
+        em.persist(tag);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            User user = User.builder().email("bulk" + i + "@gabia.com").name("가비아" + i).gender(GenderType.MALE).positionId(5L).positionName("직원").department(department).build();
+            em.persist(user);
+            users.add(user);
+        }
+
+        education = education("삭제 대상 교육", users.get(0), category);
+        otherEducation = education("남는 교육", users.get(0), category);
+        em.persist(EduTag.builder().education(education).tag(tag).build());
+        em.persist(EduTag.builder().education(otherEducation).tag(tag).build());
+
+        for (int i = 0; i < 3; i++) {
+            boards.add(board(education, users));
+        }
+        otherBoard = board(otherEducation, users);
+
+        em.flush();
+        em.clear();
+    }
+
+    private Education education(String title, User user, Category category) {
+        Education education = Education.builder()
+                .title(title)
+                .content("테스트 - 본문")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .totalHours(1)
+                .type(EducationType.ONLINE)
+                .place("테스트")
+                .user(user)
+                .category(category)
+                .build();
+        em.persist(education);
+        return education;
+    }
+
+    /** 게시글 한 건 + 댓글 10건 + 좋아요 10건 + 이미지 1건 */
+    private Board board(Education education, List<User> users) {
+        Board board = Board.builder().title("제목").content("본문").views(0).user(users.get(0)).education(education).build();
+        em.persist(board);
+        for (User user : users) {
+            em.persist(Comment.builder().content("댓글").user(user).board(board).build());
+            em.persist(Likes.builder().board(board).user(user).build());
+        }
+        em.persist(BoardImg.builder().board(board).imgPath("/img/test.png").build());
+        return board;
+    }
+
+    private long count(String entityName, String where, Long id) {
+        return em.createQuery("select count(x) from " + entityName + " x where " + where, Long.class).setParameter("id", id).getSingleResult();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SqlRequestStatistics.end();
+    }
+
+    @Test
+    @DisplayName("boardService.deleteOneBoard() - 좋아요, 댓글, 이미지, 게시글 순서로 delete 4번")
+    public void deleteOneBoardTest() {
+        //given
+        Long boardId = boards.get(0).getId();
+
+        //when
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        boardService.deleteOneBoard(boardId);
+        int statementCount = statistics.getStatementCount();
+
+        //then
+        assertThat(statementCount).isEqualTo(4);
+        assertThat(em.find(Board.class, boardId)).isNull();
+        assertThat(count("Comment", "x.board.id = :id", boardId)).isZero();
+        assertThat(count("Likes", "x.board.id = :id", boardId)).isZero();
+        assertThat(count("BoardImg", "x.board.id = :id", boardId)).isZero();
+        assertThat(count("Comment", "x.board.id = :id", boards.get(1).getId())).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("educationService.deleteOneEducation() - 시작일/사용자/시간 조회 1번 (일별 통계 버킷, 연도별 합계), 게시글 id 조회 1번 (전문 검색 인덱스), 교육을 참조하는 게시글(좋아요, 댓글, 이미지)과 관계테이블까지 delete 6번, 연도별 합계 차감 1번")
+    public void deleteOneEducationTest() {
+        //given
+        Long educationId = education.getId();
+
+        //when
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        educationService.deleteOneEducation(educationId);
+        int statementCount = statistics.getStatementCount();
+
+        //then
+        assertThat(statementCount).isEqualTo(9);
+        assertThat(em.find(Education.class, educationId)).isNull();
+        assertThat(count("Board", "x.education.id = :id", educationId)).isZero();
+        assertThat(count("EduTag", "x.education.id = :id", educationId)).isZero();
+        for (Board board : boards) {
+            assertThat(count("Comment", "x.board.id = :id", board.getId())).isZero();
+            assertThat(count("Likes", "x.board.id = :id", board.getId())).isZero();
+            assertThat(count("BoardImg", "x.board.id = :id", board.getId())).isZero();
+        }
+
+        // 다른 교육의 게시글은 유지
+        assertThat(em.find(Education.class, otherEducation.getId())).isNotNull();
+        assertThat(count("Comment", "x.board.id = :id", otherBoard.getId())).isEqualTo(10L);
+        assertThat(count("Likes", "x.board.id = :id", otherBoard.getId())).isEqualTo(10L);
+        assertThat(count("EduTag", "x.education.id = :id", otherEducation.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글/교육 삭제")
+    public void deleteNotExistTest() {
+        assertThatThrownBy(() -> boardService.deleteOneBoard(-1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> educationService.deleteOneEducation(-1L)).isInstanceOf(NotExistEducationException.class);
+    }
+}
@@ -0,0 +1,224 @@
+package com.gabia.gyebalja.board;
+
+import com.gabia.gyebalja.common.sql.SqlRequestStatistics;
+import com.gabia.gyebalja.domain.Board;
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Comment;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.board.BoardAllResponseDto;
+import com.gabia.gyebalja.dto.board.BoardDetailResponseDto;
+import com.gabia.gyebalja.dto.board.BoardSliceResponseDto;
+import com.gabia.gyebalja.dto.comment.CommentResponseDto;
+import com.gabia.gyebalja.dto.comment.CommentSliceResponseDto;
+import com.gabia.gyebalja.service.BoardCountService;
+import com.gabia.gyebalja.service.BoardService;
+import com.gabia.gyebalja.service.CommentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = {"spring.config.location=classpath:application-test.yml", "gyebalja.metrics.enabled=true"})
+public class BoardFetchPlanTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    ApplicationContext applicationContext;
+    @Autowired
+    BoardService boardService;
+    @Autowired
+    CommentService commentService;
+    @Autowired
+    BoardCountService boardCountService;
+
+    private List<Board> boards = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        Department department = Department.builder().name("테스트팀").depth(0).parentDepartment(null).build();
+        em.persist(department);
+        Category category = Category.builder().name("개발").build();
+        em.persist(category);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User user = User.builder()
+                    .email("fetch" + i + "@gabia.com")
+                    .name("가비아" + i)
+                    .gender(GenderType.MALE)
+                    .positionId(5L)
+                    .positionName("직원")
+                    .department(department)
+                    .build();
+            em.persist(user);
+            users.add(user);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            User user = users.get(i % users.size());
+            Education education = Education.builder()
+                    .title("테스트 - 교육" + i)
+                    .content("테스트 - 본문")
+                    .startDate(LocalDate.now())
+                    .endDate(LocalDate.now())
+                    .totalHours(1)
+                    .type(EducationType.ONLINE)
+                    .place("테스트")
+                    .user(user)
+                    .category(category)
+                    .build();
+            em.persist(education);
+
+            Board board = Board.builder().title("제목" + i).content("본문" + i).views(0).user(user).education(education).build();
+            em.persist(board);
+            boards.add(board);
+        }
+
+        for (User user : users) {
+            em.persist(Comment.builder().content(user.getName() + " 댓글").user(user).board(boards.get(0)).build());
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SqlRequestStatistics.end();
+    }
+
+    @Test
+    @DisplayName("open-in-view 기본 OFF")
+    public void openInViewDisabledTest() {
+        assertThat(applicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("boardService.getAllBoard() - 작성자/교육 지연 로딩 없이 조회 (목록 + count)")
+    public void getAllBoardFetchPlanTest() {
+        //when
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        Page<BoardAllResponseDto> page = boardService.getAllBoard(PageRequest.of(0, 5, Sort.Direction.DESC, "id"));
+
+        //then
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).allMatch(dto -> dto.getUserName() != null && dto.getEducationTitle() != null);
+        assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("boardService.getOneBoard() - 댓글 첫 페이지를 작성자 이름까지 한 번에 조회 (게시글 + 댓글 + 조회수 update + 좋아요 수)")
+    public void getOneBoardFetchPlanTest() {
+        //when
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        BoardDetailResponseDto boardDetailResponseDto = boardService.getOneBoard(boards.get(0).getId());
+
+        //then
+        assertThat(boardDetailResponseDto.getCommentList()).hasSize(5);
+        assertThat(boardDetailResponseDto.getCommentList()).allMatch(dto -> dto.getUserName() != null);
+        assertThat(boardDetailResponseDto.isHasNextComment()).isFalse();
+        assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("commentService.getAllComment() - 댓글 작성자 함께 조회")
+    public void getAllCommentFetchPlanTest() {
+        //when
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        List<CommentResponseDto> comments = commentService.getAllComment(boards.get(0).getId());
+
+        //then
+        assertThat(comments).hasSize(5);
+        assertThat(statistics.getStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("boardService.getSliceBoard() - count 쿼리 없이 size + 1 건으로 다음 페이지 여부 판단")
+    public void getSliceBoardTest() {
+        //when
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        BoardSliceResponseDto firstSlice = boardService.getSliceBoard(PageRequest.of(0, 4, Sort.Direction.DESC, "id"), false);
+        int firstStatementCount = statistics.getStatementCount();
+        BoardSliceResponseDto lastSlice = boardService.getSliceBoard(PageRequest.of(2, 4, Sort.Direction.DESC, "id"), false);
+
+        //then
+        assertThat(firstSlice.getContent()).hasSize(4);
+        assertThat(firstSlice.isHasNext()).isTrue();
+        assertThat(firstSlice.getContent().get(0).getId()).isEqualTo(boards.get(9).getId());
+        assertThat(firstSlice.getApproximateTotalCount()).isNull();
+        assertThat(firstStatementCount).isEqualTo(1);
+        assertThat(lastSlice.getContent()).hasSize(2);
+        assertThat(lastSlice.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("boardCountService - 요청된 이후에만 백그라운드 갱신, 목록에는 캐시된 근사값 포함")
+    public void approximateTotalCountTest() {
+        //given
+        boardService.getSliceBoard(PageRequest.of(0, 4), true);
+
+        //when
+        boardCountService.refresh();
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        BoardSliceResponseDto slice = boardService.getSliceBoard(PageRequest.of(0, 4), true);
+
+        //then
+        assertThat(slice.getApproximateTotalCount()).isGreaterThanOrEqualTo(10L);
+        assertThat(statistics.getStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글 상세는 댓글 첫 페이지만, 나머지는 commentService.getCommentSlice() cursor 페이징")
+    public void commentPagingTest() {
+        //given
+        Board board = em.find(Board.class, boards.get(1).getId());
+        for (int i = 0; i < 35; i++) {
+            em.persist(Comment.builder().content("댓글" + i).user(board.getUser()).board(board).build());
+        }
+        em.flush();
+        em.clear();
+
+        //when
+        BoardDetailResponseDto boardDetailResponseDto = boardService.getOneBoard(board.getId());
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        CommentSliceResponseDto nextSlice = commentService.getCommentSlice(board.getId(), boardDetailResponseDto.getNextCommentCursor(), CommentService.COMMENT_PAGE_SIZE);
+
+        //then
+        assertThat(boardDetailResponseDto.getCommentList()).hasSize(CommentService.COMMENT_PAGE_SIZE);
+        assertThat(boardDetailResponseDto.isHasNextComment()).isTrue();
+        assertThat(boardDetailResponseDto.getCommentList().get(0).getContent()).isEqualTo("댓글0");
+        assertThat(nextSlice.getContent()).hasSize(5);
+        assertThat(nextSlice.getContent().get(0).getContent()).isEqualTo("댓글30");
+        assertThat(nextSlice.isHasNext()).isFalse();
+        assertThat(nextSlice.getNextCursor()).isNull();
+        assertThat(statistics.getStatementCount()).isEqualTo(1);
+    }
+}
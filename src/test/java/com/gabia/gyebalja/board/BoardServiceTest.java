@@ -168,7 +168,8 @@ public class BoardServiceTest {
         Board board = boardRepository.findById(saveId).orElseThrow(() -> new IllegalArgumentException("해당 데이터가 없습니다."));
         for (int i = 0; i < totalNumberOfData; i++) {
             commentRepository.save(Comment.builder().content("테스트 - 댓글").user(user).board(board).build());
-            likesRepository.save(Likes.builder().board(board).user(user).build());
+            User liker = userRepository.save(User.builder().email("liker" + i + "@gabia.com").name("좋아요" + i).gender(GenderType.MALE).positionId(5L).positionName("직원").department(department).build());
+            likesRepository.save(Likes.builder().board(board).user(liker).build()); // (user_id, board_id) unique - 사용자마다 한 번
         }
         em.flush();
         em.clear();
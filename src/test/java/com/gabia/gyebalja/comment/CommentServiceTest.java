@@ -9,6 +9,7 @@ import com.gabia.gyebalja.domain.GenderType;
 import com.gabia.gyebalja.domain.User;
 import com.gabia.gyebalja.dto.comment.CommentRequestDto;
 import com.gabia.gyebalja.dto.comment.CommentResponseDto;
+import com.gabia.gyebalja.dto.comment.CommentSliceResponseDto;
 import com.gabia.gyebalja.repository.BoardRepository;
 import com.gabia.gyebalja.repository.CategoryRepository;
 import com.gabia.gyebalja.repository.CommentRepository;
@@ -26,6 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -207,8 +210,8 @@ public class CommentServiceTest {
         for (int i = 0; i < totalNumberOfData; i++) {
             commentService.postOneComment(commentRequestDto);
         }
-        em.clear();
         em.flush();
+        em.clear();
 
         // when
         List<CommentResponseDto> commentResponseDtos = commentService.getAllComment(board.getId());
@@ -217,4 +220,40 @@ public class CommentServiceTest {
         assertThat(commentResponseDtos.size()).isEqualTo(totalNumberOfData);
         assertThat(commentResponseDtos.get(targetIndex).getContent()).isEqualTo(content);
     }
+
+    @Test
+    @DisplayName("commentService.getCommentSlice() 테스트 (id 순서와 작성일시 순서가 다른 경우 작성일시, id 순 cursor 페이징)")
+    public void getCommentSlice() {
+        // given - id 가 큰 댓글일수록 먼저 작성된 것으로 변경 (pooled id 할당), 마지막 두 댓글은 작성일시 동일
+        int totalNumberOfData = 7;
+        List<Long> commentIds = new ArrayList<>();
+        for (int i = 0; i < totalNumberOfData; i++) {
+            commentIds.add(commentService.postOneComment(CommentRequestDto.builder().content("댓글" + i).userId(user.getId()).boardId(board.getId()).build()));
+        }
+        em.flush();
+        LocalDateTime base = LocalDateTime.of(2020, 3, 1, 10, 0, 0);
+        for (int i = 0; i < totalNumberOfData; i++) {
+            em.createNativeQuery("update comment set created_date = ? where id = ?")
+                    .setParameter(1, base.minusMinutes(Math.max(i, 1)))
+                    .setParameter(2, commentIds.get(i))
+                    .executeUpdate();
+        }
+        em.clear();
+
+        // when
+        List<String> contents = new ArrayList<>();
+        String cursor = null;
+        int pageCount = 0;
+        do {
+            CommentSliceResponseDto slice = commentService.getCommentSlice(board.getId(), cursor, 2);
+            slice.getContent().forEach(comment -> contents.add(comment.getContent()));
+            cursor = slice.getNextCursor();
+            pageCount++;
+        } while (cursor != null);
+
+        // then
+        assertThat(pageCount).isEqualTo(4);
+        assertThat(contents).containsExactly("댓글6", "댓글5", "댓글4", "댓글3", "댓글2", "댓글0", "댓글1");
+        assertThat(commentService.getAllComment(board.getId())).extracting("content").containsExactlyElementsOf(contents);
+    }
 }
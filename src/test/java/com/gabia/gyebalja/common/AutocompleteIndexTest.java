@@ -0,0 +1,123 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.autocomplete.AutocompleteIndex;
+import com.gabia.gyebalja.common.autocomplete.HangulChosung;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+public class AutocompleteIndexTest {
+
+    private static List<String> names(List<AutocompleteIndex.Entry> entries) {
+        return entries.stream().map(AutocompleteIndex.Entry::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("초성 변환 테스트")
+    public void chosungTest() {
+        assertThat(HangulChosung.toChosung("자바")).isEqualTo("ㅈㅂ");
+        assertThat(HangulChosung.toChosung("스프링boot2")).isEqualTo("ㅅㅍㄹboot2");
+        assertThat(HangulChosung.containsChosung("자ㅂ")).isTrue();
+        assertThat(HangulChosung.containsChosung("자바")).isFalse();
+    }
+
+    @Test
+    @DisplayName("접두어/초성 검색, 사용 횟수 순 정렬")
+    public void searchTest() {
+        // given
+        AutocompleteIndex index = new AutocompleteIndex();
+        index.put(1L, "#자바", 10);
+        index.put(2L, "#자바스크립트", 30);
+        index.put(3L, "#장고", 5);
+        index.put(4L, "#Java", 7);
+        index.put(5L, "#스프링", 1);
+
+        // when, then
+        assertThat(names(index.search("자", 10))).containsExactly("#자바스크립트", "#자바");
+        assertThat(names(index.search("ㅈ", 10))).containsExactly("#자바스크립트", "#자바", "#장고");
+        assertThat(names(index.search("ㅈㅂ", 10))).containsExactly("#자바스크립트", "#자바");
+        assertThat(names(index.search("자ㅂ", 10))).containsExactly("#자바스크립트", "#자바");
+        assertThat(names(index.search("ㅈ", 2))).containsExactly("#자바스크립트", "#자바");
+        assertThat(names(index.search("#ja", 10))).containsExactly("#Java");
+        assertThat(names(index.search("JAV", 10))).containsExactly("#Java");
+        assertThat(index.search("파이썬", 10)).isEmpty();
+        assertThat(index.search(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 해당 경로의 순위 갱신")
+    public void updateTest() {
+        // given
+        AutocompleteIndex index = new AutocompleteIndex();
+        index.put(1L, "#자바", 10);
+        index.put(2L, "#자바스크립트", 30);
+
+        // when - 사용 횟수 변경, 이름 변경, 삭제
+        index.put(1L, "#자바", 50);
+        List<AutocompleteIndex.Entry> byUsage = index.search("ㅈㅂ", 10);
+        index.put(2L, "#타입스크립트", 30);
+        List<AutocompleteIndex.Entry> renamed = index.search("ㅌ", 10);
+        List<AutocompleteIndex.Entry> afterRename = index.search("자", 10);
+        index.remove(1L);
+
+        // then
+        assertThat(names(byUsage)).containsExactly("#자바", "#자바스크립트");
+        assertThat(names(renamed)).containsExactly("#타입스크립트");
+        assertThat(names(afterRename)).containsExactly("#자바");
+        assertThat(index.search("자", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 키로 색인 - 어느 키로 찾아도 한 번만 조회")
+    public void multiKeyTest() {
+        // given
+        AutocompleteIndex index = new AutocompleteIndex();
+        index.put(1L, "홍길동", 0, Arrays.asList("홍길동", "Gildong Hong", "Gildong", "Hong", "gildong@gabia.com", "개발팀"));
+        index.put(2L, "강감찬", 0, Arrays.asList("강감찬", "Kang", "kang@gabia.com", "개발팀"));
+
+        // when, then
+        assertThat(names(index.search("gil", 10))).containsExactly("홍길동");
+        assertThat(names(index.search("HONG", 10))).containsExactly("홍길동");
+        assertThat(names(index.search("ㄱㅂ", 10))).containsExactly("강감찬", "홍길동");
+        assertThat(names(index.search("ㅎㄱ", 10))).containsExactly("홍길동");
+        assertThat(names(index.search("g", 10))).containsExactly("홍길동");
+
+        index.put(1L, "홍길동", 0, Arrays.asList("홍길동", "기획팀"));
+        assertThat(names(index.search("개발", 10))).containsExactly("강감찬");
+        assertThat(index.search("gil", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하위 항목이 많아도 상위 MAX_LIMIT 건만 유지")
+    public void topLimitTest() {
+        // given
+        AutocompleteIndex index = new AutocompleteIndex();
+        for (int i = 0; i < 10000; i++) {
+            index.put(i, "#tag" + i, i);
+        }
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 100000; i++) {
+            index.search("tag" + (i % 100), 10);
+        }
+        long averageNanos = (System.nanoTime() - start) / 100000;
+        List<AutocompleteIndex.Entry> top = index.search("t", 100);
+
+        // then
+        assertThat(top).hasSize(AutocompleteIndex.MAX_LIMIT);
+        assertThat(top.get(0).getName()).isEqualTo("#tag9999");
+        assertThat(averageNanos).isLessThan(1_000_000L);
+    }
+}
@@ -0,0 +1,107 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.event.ChangedIdRecorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class ChangedIdRecorderTest {
+
+    @Test
+    @DisplayName("start ~ stop 사이의 id 만 기록, 재생성이 겹치면 마지막 stop 까지 기록")
+    public void recordTest() {
+        // given
+        ChangedIdRecorder recorder = new ChangedIdRecorder();
+
+        // when - 재생성 중이 아니면 기록하지 않음
+        recorder.record(Collections.singletonList(1L));
+
+        // then
+        assertThat(recorder.stop()).isEmpty();
+
+        // when - 재생성 두 번이 겹친 경우
+        recorder.start();
+        recorder.record(Arrays.asList(2L, 3L));
+        recorder.start();
+        recorder.record(Collections.singletonList(4L));
+
+        // then
+        assertThat(recorder.stop()).containsExactlyInAnyOrder(2L, 3L, 4L);
+        recorder.record(Collections.singletonList(5L));
+        assertThat(recorder.stop()).containsExactlyInAnyOrder(2L, 3L, 4L, 5L);
+
+        recorder.record(Collections.singletonList(6L));
+        assertThat(recorder.stop()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rebuildAndReplay - 교체 후 재생성 중 기록된 id 를 새 트랜잭션에서 다시 반영, 생성 실패 시 기록 종료")
+    public void rebuildAndReplayTest() {
+        // given
+        ChangedIdRecorder recorder = new ChangedIdRecorder();
+        AtomicReference<String> index = new AtomicReference<>("old");
+        List<String> events = new ArrayList<>();
+        Set<Long> replayed = new HashSet<>();
+        PlatformTransactionManager transactionManager = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                events.add("begin " + definition.getPropagationBehavior() + " " + definition.isReadOnly());
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                events.add("commit");
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                events.add("rollback");
+            }
+        };
+
+        // when - 생성 중 부분 갱신 (기록)
+        String rebuilt = recorder.rebuildAndReplay(() -> {
+            recorder.record(Arrays.asList(1L, 2L));
+            return "new";
+        }, index::set, ids -> {
+            events.add("replay " + index.get());
+            replayed.addAll(ids);
+        }, transactionManager);
+
+        // then
+        assertThat(rebuilt).isEqualTo("new");
+        assertThat(replayed).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(events).containsExactly("begin " + TransactionDefinition.PROPAGATION_REQUIRES_NEW + " false", "replay new", "commit");
+
+        // when - 생성 실패
+        assertThatThrownBy(() -> recorder.rebuildAndReplay(() -> {
+            throw new IllegalStateException("생성 실패");
+        }, index::set, replayed::addAll, transactionManager)).isInstanceOf(IllegalStateException.class);
+
+        // then - 기존 인덱스 유지, 기록 종료
+        assertThat(index.get()).isEqualTo("new");
+        recorder.record(Collections.singletonList(3L));
+        assertThat(recorder.stop()).isEmpty();
+    }
+}
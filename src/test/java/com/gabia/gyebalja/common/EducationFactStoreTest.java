@@ -0,0 +1,153 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.columnar.EducationFactStore;
+import com.gabia.gyebalja.common.columnar.FactDimension;
+import com.gabia.gyebalja.common.columnar.FactFilter;
+import com.gabia.gyebalja.common.columnar.FactGroup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class EducationFactStoreTest {
+
+    private EducationFactStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new EducationFactStore();
+        // 교육 id, 사용자, 부서, 카테고리, 시작일, 시간, 태그
+        store.append(1L, 10L, 100L, 1000L, LocalDate.of(2019, 12, 1), 4, Arrays.asList(7L, 8L));
+        store.append(2L, 10L, 100L, 1000L, LocalDate.of(2020, 1, 10), 8, Collections.singletonList(7L));
+        store.append(3L, 11L, 100L, 2000L, LocalDate.of(2020, 1, 20), 2, Collections.emptyList());
+        store.append(4L, 12L, 200L, 1000L, LocalDate.of(2020, 3, 5), 16, Arrays.asList(8L, 9L));
+        store.append(5L, 12L, null, null, null, 1, Collections.emptyList());
+    }
+
+    private static List<Long> keys(List<FactGroup> groups) {
+        return groups.stream().map(FactGroup::getKey).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("합계 / group by (연도, 월, 부서, 태그)")
+    public void groupByTest() {
+        // when
+        FactGroup total = store.total(FactFilter.ALL);
+        List<FactGroup> byYear = store.groupBy(FactFilter.ALL, FactDimension.YEAR);
+        List<FactGroup> byMonth = store.groupBy(FactFilter.year(2020).build(), FactDimension.MONTH);
+        List<FactGroup> byDepartment = store.groupBy(FactFilter.ALL, FactDimension.DEPARTMENT);
+        List<FactGroup> byTag = store.groupBy(FactFilter.ALL, FactDimension.TAG);
+
+        // then
+        assertThat(total.getCount()).isEqualTo(5);
+        assertThat(total.getHours()).isEqualTo(31);
+        assertThat(keys(byYear)).containsExactly(2019L, 2020L);
+        assertThat(byYear.get(1).getHours()).isEqualTo(26);
+        assertThat(keys(byMonth)).containsExactly(1L, 3L);
+        assertThat(byMonth.get(0).getCount()).isEqualTo(2);
+        assertThat(keys(byDepartment)).containsExactly(100L, 200L);
+        assertThat(byDepartment.get(0).getHours()).isEqualTo(14);
+        assertThat(keys(byTag)).containsExactly(7L, 8L, 9L);
+        assertThat(byTag.get(1).getHours()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("조건 (사용자, 카테고리, 태그, 기간) / 상위 k 개")
+    public void filterAndTopTest() {
+        // when
+        FactGroup byUser = store.total(FactFilter.builder().userId(10L).build());
+        FactGroup byTag = store.total(FactFilter.builder().tagId(8L).categoryId(1000L).build());
+        FactGroup unknownUser = store.total(FactFilter.builder().userId(99L).build());
+        FactGroup byPeriod = store.total(FactFilter.builder().fromDate(LocalDate.of(2020, 1, 10)).toDate(LocalDate.of(2020, 1, 20)).build());
+        List<FactGroup> topUsersByHours = store.top(FactFilter.ALL, FactDimension.USER, 2, true);
+        List<FactGroup> topUsersByCount = store.top(FactFilter.ALL, FactDimension.USER, 1, false);
+
+        // then
+        assertThat(byUser.getCount()).isEqualTo(2);
+        assertThat(byUser.getHours()).isEqualTo(12);
+        assertThat(byTag.getCount()).isEqualTo(2);
+        assertThat(unknownUser.getCount()).isEqualTo(0);
+        assertThat(byPeriod.getCount()).isEqualTo(1);
+        assertThat(keys(topUsersByHours)).containsExactly(12L, 10L);
+        assertThat(keys(topUsersByCount)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("수정 (이전 행 삭제 표시 후 추가) / 삭제")
+    public void updateTest() {
+        // when
+        store.append(2L, 11L, 200L, 2000L, LocalDate.of(2020, 2, 1), 3, Collections.singletonList(9L));
+        store.remove(1L);
+        store.remove(42L);
+
+        // then
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.total(FactFilter.builder().userId(10L).build()).getCount()).isEqualTo(0);
+        assertThat(keys(store.groupBy(FactFilter.ALL, FactDimension.TAG))).containsExactly(8L, 9L);
+        assertThat(store.total(FactFilter.ALL).getHours()).isEqualTo(22);
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일 저장 / 복원 - 삭제 표시된 행 제외, 복원 후 수정")
+    public void snapshotTest(@TempDir Path tempDir) throws Exception {
+        // given
+        store.append(3L, 11L, 100L, 2000L, LocalDate.of(2020, 2, 1), 6, Collections.singletonList(9L));
+        store.remove(5L);
+        LocalDateTime watermark = LocalDateTime.of(2020, 3, 1, 12, 30);
+        Path path = tempDir.resolve("facts.snap");
+
+        // when
+        store.writeSnapshot(path, watermark);
+        EducationFactStore.Snapshot snapshot = EducationFactStore.readSnapshot(path);
+        EducationFactStore restored = snapshot.getStore();
+        restored.append(4L, 12L, 200L, 1000L, LocalDate.of(2020, 3, 5), 10, Collections.singletonList(8L));
+
+        // then
+        assertThat(snapshot.getWatermark()).isEqualTo(watermark);
+        assertThat(restored.size()).isEqualTo(4);
+        assertThat(restored.educationIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(restored.total(FactFilter.ALL).getHours()).isEqualTo(28);
+        assertThat(keys(restored.groupBy(FactFilter.ALL, FactDimension.YEAR))).containsExactly(2019L, 2020L);
+        assertThat(keys(restored.groupBy(FactFilter.ALL, FactDimension.TAG))).containsExactly(7L, 8L, 9L);
+        assertThat(restored.total(FactFilter.builder().tagId(9L).build()).getHours()).isEqualTo(6);
+        assertThat(restored.total(FactFilter.builder().userId(11L).build()).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대량 행 집계 - 행마다 객체 생성 없이 한 번 훑음")
+    public void largeScanTest() {
+        // given
+        EducationFactStore large = new EducationFactStore();
+        for (int i = 0; i < 200000; i++) {
+            large.append(i, (long) (i % 500), (long) (i % 20), (long) (i % 8), LocalDate.of(2015 + i % 6, 1 + i % 12, 1), 1 + i % 8,
+                    Collections.singletonList((long) (i % 50)));
+        }
+
+        // when
+        large.groupBy(FactFilter.ALL, FactDimension.DEPARTMENT); // warm up
+        long start = System.nanoTime();
+        List<FactGroup> byDepartment = large.groupBy(FactFilter.year(2020).build(), FactDimension.DEPARTMENT);
+        List<FactGroup> topTags = large.top(FactFilter.builder().categoryId(3L).build(), FactDimension.TAG, 5, true);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(byDepartment.stream().mapToLong(FactGroup::getCount).sum()).isEqualTo(200000 / 6);
+        assertThat(topTags).hasSize(5);
+        assertThat(elapsedMillis).isLessThan(1000L);
+    }
+}
@@ -0,0 +1,87 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.search.BigramTokenizer;
+import com.gabia.gyebalja.common.search.FullTextIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class FullTextIndexTest {
+
+    private static List<Long> ids(FullTextIndex.SearchResult result) {
+        return result.getHits().stream().map(FullTextIndex.Hit::getId).collect(Collectors.toList());
+    }
+
+    private static List<String> tokens(String text) {
+        return BigramTokenizer.tokenize(text);
+    }
+
+    @Test
+    @DisplayName("토크나이저 - 한글 2-gram, 영문 단어, HTML 제거")
+    public void tokenizeTest() {
+        assertThat(tokens("스프링부트를 배웠다")).containsExactly("스프", "프링", "링부", "부트", "트를", "배웠", "웠다");
+        assertThat(tokens("<p>Spring&nbsp;Boot 2.2</p> 짱")).containsExactly("spring", "boot", "2", "2", "짱");
+        assertThat(tokens("JPA와 QueryDSL")).containsExactly("jpa", "와", "querydsl");
+        assertThat(tokens(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("BM25 - 출현 횟수가 많고 문서가 짧을수록, 드문 토큰일수록 높은 점수")
+    public void searchRankingTest() {
+        // given
+        FullTextIndex index = new FullTextIndex();
+        index.put(1L, tokens("스프링 입문 교육 후기"));
+        index.put(2L, tokens("스프링 스프링 스프링 심화"));
+        index.put(3L, tokens("도커 입문 교육 후기 그리고 아주 길고 긴 본문 내용"));
+        index.put(4L, tokens("자바 교육"));
+
+        // when
+        FullTextIndex.SearchResult spring = index.search(tokens("스프링"), 0, 10);
+        FullTextIndex.SearchResult springOrDocker = index.search(tokens("스프링 도커"), 0, 10);
+        FullTextIndex.SearchResult paged = index.search(tokens("교육"), 1, 1);
+
+        // then
+        assertThat(ids(spring)).containsExactly(2L, 1L);
+        assertThat(springOrDocker.getTotalCount()).isEqualTo(3);
+        assertThat(paged.getTotalCount()).isEqualTo(3);
+        assertThat(paged.getHits()).hasSize(1);
+        assertThat(ids(index.search(tokens("파이썬"), 0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정/삭제 후 검색, 파일 저장/복원")
+    public void updateAndPersistTest() throws Exception {
+        // given
+        FullTextIndex index = new FullTextIndex();
+        index.put(1L, tokens("스프링 입문"));
+        index.put(2L, tokens("도커 입문"));
+
+        // when
+        index.put(1L, tokens("쿠버네티스 입문"));
+        index.remove(2L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        FullTextIndex restored = FullTextIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // then
+        assertThat(ids(index.search(tokens("스프링"), 0, 10))).isEmpty();
+        assertThat(ids(index.search(tokens("도커"), 0, 10))).isEmpty();
+        assertThat(restored.size()).isEqualTo(1);
+        assertThat(ids(restored.search(tokens("쿠버네티스"), 0, 10))).containsExactly(1L);
+        assertThat(restored.search(tokens("입문"), 0, 10).getHits().get(0).getScore())
+                .isEqualTo(index.search(tokens("입문"), 0, 10).getHits().get(0).getScore());
+    }
+}
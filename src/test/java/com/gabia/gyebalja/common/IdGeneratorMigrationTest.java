@@ -0,0 +1,64 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.id.IdGeneratorMigration;
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.IdGenerators;
+import com.gabia.gyebalja.repository.CategoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class IdGeneratorMigrationTest {
+
+    @Autowired
+    IdGeneratorMigration idGeneratorMigration;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    CategoryRepository categoryRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("IdGeneratorMigration 테스트 (기존 max(id) 이후부터 id 할당)")
+    public void migrateTest() {
+        //given - IDENTITY 시절에 저장된 데이터 (id 직접 지정)
+        Category category = categoryRepository.save(Category.builder().name("마이그레이션").build());
+        long legacyId = 1_000_000L;
+        jdbcTemplate.update("insert into education (id, title, type, total_hours, category_id) values (?, ?, ?, ?, ?)",
+                legacyId, "legacy", "ONLINE", 0, category.getId());
+
+        try {
+            //when
+            idGeneratorMigration.migrate();
+            Long nextId = jdbcTemplate.queryForObject("select " + IdGenerators.VALUE_COLUMN + " from " + IdGenerators.TABLE
+                    + " where " + IdGenerators.SEGMENT_COLUMN + " = 'education'", Long.class);
+
+            //then
+            assertThat(nextId).isGreaterThanOrEqualTo(legacyId + IdGenerators.ALLOCATION_SIZE);
+
+            // 다시 실행해도 값이 줄어들지 않음
+            idGeneratorMigration.migrate();
+            assertThat(jdbcTemplate.queryForObject("select " + IdGenerators.VALUE_COLUMN + " from " + IdGenerators.TABLE
+                    + " where " + IdGenerators.SEGMENT_COLUMN + " = 'education'", Long.class)).isEqualTo(nextId);
+        } finally {
+            new TransactionTemplate(transactionManager).execute(status -> {
+                jdbcTemplate.update("delete from education where id = ?", legacyId);
+                categoryRepository.deleteById(category.getId());
+                return null;
+            });
+        }
+    }
+}
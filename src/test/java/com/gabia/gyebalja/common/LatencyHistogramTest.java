@@ -0,0 +1,53 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.metrics.LatencyHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("LatencyHistogram 백분위 계산 테스트 (상대 오차 12.5% 이내)")
+    public void percentileTest() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10000; micros++) {
+            histogram.record(micros);
+        }
+
+        // when
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+
+        // then
+        assertThat(histogram.getCount()).isEqualTo(10000);
+        assertThat(histogram.getMax()).isEqualTo(10000);
+        assertThat(histogram.getMean()).isEqualTo(5000.5);
+        assertThat(p50).isBetween(5000L, 5625L);
+        assertThat(p99).isBetween(9900L, 10000L);
+    }
+
+    @Test
+    @DisplayName("LatencyHistogram 빈 히스토그램, 작은 값 테스트")
+    public void smallValueTest() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        long emptyPercentile = histogram.getPercentile(99);
+        histogram.record(3);
+        histogram.record(-1);
+
+        // then
+        assertThat(emptyPercentile).isEqualTo(0);
+        assertThat(histogram.getPercentile(100)).isEqualTo(3);
+        assertThat(histogram.getPercentile(50)).isEqualTo(0);
+    }
+}
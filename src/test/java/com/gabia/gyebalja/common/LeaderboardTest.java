@@ -0,0 +1,96 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.rank.Leaderboard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class LeaderboardTest {
+
+    private static List<Long> userIds(List<Leaderboard.Entry> entries) {
+        return entries.stream().map(Leaderboard.Entry::getUserId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("시간 -> 건수 내림차순, 같으면 사용자 id 오름차순 / 페이지 / 내 순위")
+    public void orderTest() {
+        // given
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.add(1L, 10, 1);
+        leaderboard.add(2L, 10, 2);
+        leaderboard.add(3L, 20, 1);
+        leaderboard.add(4L, 10, 1);
+
+        // then
+        assertThat(userIds(leaderboard.page(0, 10))).containsExactly(3L, 2L, 1L, 4L);
+        assertThat(userIds(leaderboard.page(2, 1))).containsExactly(1L);
+        assertThat(leaderboard.page(4, 10)).isEmpty();
+        assertThat(leaderboard.rankOf(4L)).isEqualTo(4);
+        assertThat(leaderboard.rankOf(99L)).isEqualTo(0);
+        assertThat(leaderboard.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("증감 반영 - 순위 이동, 건수 0 이면 제외")
+    public void deltaTest() {
+        // given
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.add(1L, 10, 1);
+        leaderboard.add(2L, 5, 1);
+        leaderboard.add(3L, 1, 1);
+
+        // when
+        leaderboard.add(3L, 8, 1);
+        leaderboard.add(1L, -10, -1);
+
+        // then
+        assertThat(userIds(leaderboard.page(0, 10))).containsExactly(3L, 2L);
+        assertThat(leaderboard.get(3L).getHours()).isEqualTo(9);
+        assertThat(leaderboard.get(3L).getCount()).isEqualTo(2);
+        assertThat(leaderboard.get(1L)).isNull();
+        assertThat(leaderboard.rankOf(2L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무작위 증감 후에도 정렬 유지")
+    public void randomDeltaTest() {
+        // given
+        Leaderboard leaderboard = new Leaderboard();
+        Random random = new Random(42);
+        long[] hours = new long[500];
+        long[] counts = new long[500];
+
+        // when
+        for (int i = 0; i < 20000; i++) {
+            int user = random.nextInt(500);
+            int delta = counts[user] > 0 && random.nextInt(3) == 0 ? -1 : 1;
+            int hour = delta > 0 ? random.nextInt(8) + 1 : -(int) (hours[user] / counts[user]);
+            leaderboard.add(user, hour, delta);
+            hours[user] += hour;
+            counts[user] += delta;
+            if (counts[user] == 0) hours[user] = 0;
+        }
+
+        // then
+        List<Leaderboard.Entry> entries = leaderboard.page(0, 500);
+        for (int i = 1; i < entries.size(); i++) {
+            Leaderboard.Entry before = entries.get(i - 1);
+            Leaderboard.Entry after = entries.get(i);
+            assertThat(before.getHours() > after.getHours() || (before.getHours() == after.getHours() && before.getCount() >= after.getCount())).isTrue();
+            assertThat(leaderboard.rankOf(after.getUserId())).isEqualTo(i + 1);
+        }
+        for (Leaderboard.Entry entry : entries) {
+            assertThat(entry.getCount()).isEqualTo(counts[(int) entry.getUserId()]);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.datasource.ReadWriteRoutingTransactionManager;
+import com.gabia.gyebalja.common.datasource.ReplicaLagMonitor;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@SpringBootTest(properties = {
+        "spring.config.location=classpath:application-test.yml",
+        "spring.datasource.url=jdbc:h2:mem:config_primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.url=jdbc:h2:mem:config_replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.username=sa"
+})
+public class ReadWriteDataSourceConfigurationTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+    }
+
+    @Test
+    @DisplayName("spring.datasource.replica.url 설정 시 readOnly 트랜잭션은 replica 로 라우팅")
+    public void routingTest() {
+        assertThat(replicaLagMonitor.isAvailable()).isTrue();
+        assertThat(currentDatabase(true)).isEqualToIgnoringCase("config_replica");
+        assertThat(currentDatabase(false)).isEqualToIgnoringCase("config_primary");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 시작(doBegin) 중에 커넥션을 얻어도 readOnly 트랜잭션은 replica 로 라우팅")
+    public void routingOnBeginTest() {
+        assertThat(transactionManager).isInstanceOf(ReadWriteRoutingTransactionManager.class);
+
+        //given - 트랜잭션 시작 중 실제 커넥션을 얻는 JpaDialect
+        AtomicReference<String> beginDatabase = new AtomicReference<>();
+        ReadWriteRoutingTransactionManager beginConnectionTransactionManager = new ReadWriteRoutingTransactionManager();
+        beginConnectionTransactionManager.setEntityManagerFactory(entityManagerFactory);
+        beginConnectionTransactionManager.afterPropertiesSet();
+        beginConnectionTransactionManager.setJpaDialect(new HibernateJpaDialect() {
+            @Override
+            public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition) throws SQLException {
+                Object transactionData = super.beginTransaction(entityManager, definition);
+                entityManager.unwrap(Session.class).doWork(connection -> {
+                    try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery("select database()")) {
+                        rs.next();
+                        beginDatabase.set(rs.getString(1));
+                    }
+                });
+                return transactionData;
+            }
+        });
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(beginConnectionTransactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        //when
+        String database = transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+
+        //then
+        assertThat(beginDatabase.get()).isEqualToIgnoringCase("config_replica");
+        assertThat(database).isEqualToIgnoringCase("config_replica");
+    }
+}
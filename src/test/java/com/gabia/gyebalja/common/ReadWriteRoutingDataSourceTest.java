@@ -0,0 +1,107 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.datasource.ReadWriteRoutingDataSource;
+import com.gabia.gyebalja.common.datasource.ReplicaLagMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate replicaJdbcTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    /** 두 개의 H2 (primary, replica) 에 서로 다른 값을 저장해 어느 쪽에서 읽었는지 확인 */
+    @BeforeEach
+    public void setUp() {
+        DataSource primary = h2("rw_primary", "primary");
+        DataSource replica = h2("rw_replica", "replica");
+        replicaJdbcTemplate = new JdbcTemplate(replica);
+        replicaJdbcTemplate.execute("create table if not exists replica_lag (seconds bigint)");
+        replicaJdbcTemplate.execute("delete from replica_lag");
+        replicaJdbcTemplate.update("insert into replica_lag values (0)");
+
+        replicaLagMonitor = new ReplicaLagMonitor(replicaJdbcTemplate, "select seconds from replica_lag", 5);
+        DataSource routingDataSource = ReadWriteRoutingDataSource.create(primary, replica, replicaLagMonitor);
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+        transactionManager = new DataSourceTransactionManager(routingDataSource);
+    }
+
+    private DataSource h2(String name, String marker) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists marker (name varchar(20))");
+        template.execute("delete from marker");
+        template.update("insert into marker values (?)", marker);
+        return dataSource;
+    }
+
+    private String readMarker(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from marker", String.class));
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 없는 호출은 primary 사용")
+    public void routingTest() {
+        // when
+        replicaLagMonitor.check();
+
+        // then
+        assertThat(replicaLagMonitor.isAvailable()).isTrue();
+        assertThat(readMarker(true)).isEqualTo("replica");
+        assertThat(readMarker(false)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("select name from marker", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 허용치를 넘으면 readOnly 트랜잭션도 primary 사용, 회복되면 다시 replica 사용")
+    public void lagFallbackTest() {
+        // given
+        replicaJdbcTemplate.update("update replica_lag set seconds = 30");
+
+        // when
+        replicaLagMonitor.check();
+
+        // then
+        assertThat(replicaLagMonitor.isAvailable()).isFalse();
+        assertThat(replicaLagMonitor.getLastLagSeconds()).isEqualTo(30L);
+        assertThat(readMarker(true)).isEqualTo("primary");
+
+        // when - 회복
+        replicaJdbcTemplate.update("update replica_lag set seconds = 1");
+        replicaLagMonitor.check();
+
+        // then
+        assertThat(readMarker(true)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica 조회 실패 시 primary 사용")
+    public void replicaFailureTest() {
+        // given
+        ReplicaLagMonitor brokenMonitor = new ReplicaLagMonitor(replicaJdbcTemplate, "select seconds from not_exist_table", 5);
+
+        // when
+        brokenMonitor.check();
+
+        // then
+        assertThat(brokenMonitor.isAvailable()).isFalse();
+    }
+}
@@ -0,0 +1,118 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.bitmap.RoaringBitmap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class RoaringBitmapTest {
+
+    private static int[] toArray(BitSet bitSet) {
+        return bitSet.stream().toArray();
+    }
+
+    /** 범위 안에서 density 비율로 값을 채운 비트맵 (배열/비트맵 컨테이너가 섞이도록 범위마다 밀도를 다르게 사용) */
+    private static void fill(Random random, RoaringBitmap bitmap, BitSet expected, int from, int to, double density) {
+        for (int x = from; x < to; x++) {
+            if (random.nextDouble() < density) {
+                bitmap.add(x);
+                expected.set(x);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("add / remove / contains")
+    public void addRemoveTest() {
+        // given
+        RoaringBitmap bitmap = RoaringBitmap.of(1, 3, 70000, 3);
+
+        // when
+        bitmap.remove(1);
+        bitmap.remove(5);
+
+        // then
+        assertThat(bitmap.toArray()).containsExactly(3, 70000);
+        assertThat(bitmap.contains(70000)).isTrue();
+        assertThat(bitmap.contains(1)).isFalse();
+        assertThat(bitmap.getCardinality()).isEqualTo(2);
+        assertThatThrownBy(() -> bitmap.add(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("배열 <-> 비트맵 컨테이너 전환")
+    public void containerConversionTest() {
+        // given
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int x = 0; x < 10000; x++) {
+            bitmap.add(x * 2);
+        }
+
+        // when - 5000 개 중 절반 이상 제거 (4096 이하로 내려가면 배열 컨테이너)
+        for (int x = 0; x < 6000; x++) {
+            bitmap.remove(x * 2);
+        }
+
+        // then
+        assertThat(bitmap.getCardinality()).isEqualTo(4000);
+        assertThat(bitmap.contains(12000)).isTrue();
+        assertThat(bitmap.contains(11998)).isFalse();
+        assertThat(bitmap.toArray()[0]).isEqualTo(12000);
+    }
+
+    @Test
+    @DisplayName("and / or / andNot - BitSet 결과와 비교")
+    public void setOperationTest() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            // given
+            RoaringBitmap a = new RoaringBitmap();
+            RoaringBitmap b = new RoaringBitmap();
+            BitSet expectedA = new BitSet();
+            BitSet expectedB = new BitSet();
+            for (int chunk = 0; chunk < 4; chunk++) {
+                int from = chunk * 65536;
+                fill(random, a, expectedA, from, from + 65536, random.nextBoolean() ? 0.01 : 0.3);
+                fill(random, b, expectedB, from, from + 65536, random.nextBoolean() ? 0.01 : 0.3);
+            }
+
+            // when
+            BitSet and = (BitSet) expectedA.clone();
+            and.and(expectedB);
+            BitSet or = (BitSet) expectedA.clone();
+            or.or(expectedB);
+            BitSet andNot = (BitSet) expectedA.clone();
+            andNot.andNot(expectedB);
+
+            // then
+            assertThat(RoaringBitmap.and(a, b).toArray()).isEqualTo(toArray(and));
+            assertThat(RoaringBitmap.or(a, b).toArray()).isEqualTo(toArray(or));
+            assertThat(RoaringBitmap.andNot(a, b).toArray()).isEqualTo(toArray(andNot));
+            assertThat(RoaringBitmap.or(a, b).getCardinality()).isEqualTo(or.cardinality());
+            assertThat(a.toArray()).isEqualTo(toArray(expectedA)); // 입력은 바뀌지 않음
+        }
+    }
+
+    @Test
+    @DisplayName("pageDescending - 컨테이너 경계를 넘는 페이지")
+    public void pageDescendingTest() {
+        // given
+        RoaringBitmap bitmap = RoaringBitmap.of(1, 2, 3, 65536, 65537, 200000);
+
+        // when, then
+        assertThat(bitmap.pageDescending(0, 2)).containsExactly(200000, 65537);
+        assertThat(bitmap.pageDescending(2, 2)).containsExactly(65536, 3);
+        assertThat(bitmap.pageDescending(4, 10)).containsExactly(2, 1);
+        assertThat(bitmap.pageDescending(6, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,97 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.topk.CountMinSketch;
+import com.gabia.gyebalja.common.topk.SlidingTopK;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class SlidingTopKTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 3, 31);
+
+    private static List<Long> keys(List<SlidingTopK.Candidate> candidates) {
+        return candidates.stream().map(SlidingTopK.Candidate::getKey).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("CountMinSketch - 추정값은 실제 값 이상 (감소 포함)")
+    public void countMinSketchTest() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        long[] actual = new long[1000];
+        Random random = new Random(7);
+
+        // when
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(actual.length);
+            sketch.add(key, 1);
+            actual[key]++;
+        }
+        for (int key = 0; key < actual.length; key += 2) {
+            sketch.add(key, (int) -actual[key]);
+            actual[key] = 0;
+        }
+
+        // then
+        for (int key = 0; key < actual.length; key++) {
+            assertThat(sketch.estimate(key)).isGreaterThanOrEqualTo(actual[key]);
+        }
+    }
+
+    @Test
+    @DisplayName("기간 조회 - 기간 안 버킷 후보만 합산, 많이 나온 key 가 긴 꼬리 속에서도 후보로 남음")
+    public void windowTest() {
+        // given
+        SlidingTopK topK = new SlidingTopK(90, 8, 4, 256);
+        Random random = new Random(11);
+        for (int day = 0; day < 30; day++) {
+            LocalDate date = TODAY.minusDays(day);
+            for (int i = 0; i < 200; i++) {
+                topK.add(1000 + random.nextInt(500), date, 1); // 긴 꼬리
+            }
+            topK.add(1L, date, 50);                             // 매일 많이 나옴
+            if (day < 7) topK.add(2L, date, 100);               // 최근 7 일만
+            if (day >= 20) topK.add(3L, date, 300);             // 20 일 이전만
+        }
+
+        // then
+        assertThat(keys(topK.top(TODAY, 7, 2))).containsExactly(2L, 1L);
+        assertThat(keys(topK.top(TODAY, 30, 3))).containsExactly(3L, 1L, 2L);
+        assertThat(topK.top(TODAY, 7, 1).get(0).getEstimate()).isGreaterThanOrEqualTo(700);
+    }
+
+    @Test
+    @DisplayName("감소 반영, 버킷 재사용 - maxDays 이전 날짜 증감은 무시")
+    public void slidingTest() {
+        // given
+        SlidingTopK topK = new SlidingTopK(7, 4, 4, 64);
+        topK.add(1L, TODAY.minusDays(6), 5);
+        topK.add(2L, TODAY, 3);
+
+        // when
+        topK.add(2L, TODAY, -3); // 모두 삭제
+
+        // then
+        assertThat(keys(topK.top(TODAY, 7, 10))).containsExactly(1L);
+
+        // when
+        topK.add(3L, TODAY.plusDays(1), 4);  // TODAY - 6 버킷을 내일 날짜로 재사용
+        topK.add(1L, TODAY.minusDays(6), 5); // 이미 지나간 날짜
+
+        // then
+        assertThat(keys(topK.top(TODAY.plusDays(1), 7, 10))).containsExactly(3L);
+        assertThat(topK.top(TODAY, 7, 10)).isEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package com.gabia.gyebalja.common;
+
+import com.gabia.gyebalja.common.exception.CommonExceptionHandler;
+import com.gabia.gyebalja.common.exception.NotExistDataException;
+import com.gabia.gyebalja.exception.NotExistEducationException;
+import com.gabia.gyebalja.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class StacklessExceptionTest {
+
+    @RestController
+    static class ThrowingController {
+        @GetMapping("/education")
+        public void education() {
+            throw new NotExistEducationException("존재하지 않는 교육입니다.");
+        }
+
+        @GetMapping("/data")
+        public void data() {
+            throw new NotExistDataException("존재하지 않는 데이터입니다.");
+        }
+
+        @GetMapping("/unauthorized")
+        public void unauthorized() {
+            throw new UnauthorizedException();
+        }
+    }
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ThrowingController())
+                .setControllerAdvice(new CommonExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("StacklessException 스택 트레이스 미수집 테스트")
+    public void noStackTraceTest() {
+        // given
+        NotExistEducationException exception = new NotExistEducationException("존재하지 않는 교육입니다.");
+
+        // then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getMessage()).isEqualTo("존재하지 않는 교육입니다.");
+        assertThat(new UnauthorizedException().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("CommonExceptionHandler StatusCode 변환 테스트")
+    public void statusCodeTest() throws Exception {
+        mockMvc.perform(get("/education"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(StatusCode.NOT_FOUND.getCode()));
+
+        mockMvc.perform(get("/data"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(StatusCode.BAD_REQUEST.getCode()));
+
+        mockMvc.perform(get("/unauthorized"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value(StatusCode.UNAUTHORIZED.getCode()));
+    }
+}
@@ -0,0 +1,96 @@
+package com.gabia.gyebalja.common.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+public class SqlTracerTest {
+
+    /** 기록 여부와 상관없이 전달된 측정값을 보관하는 SqlTracer */
+    static class RecordingSqlTracer extends SqlTracer {
+        final List<String> sqls = new ArrayList<>();
+        final List<Integer> bindCounts = new ArrayList<>();
+        final List<Integer> batchCounts = new ArrayList<>();
+
+        RecordingSqlTracer() {
+            super(SqlTraceMode.ALL, 1, 0);
+        }
+
+        @Override
+        public void record(String sql, int bindCount, int batchCount, long elapsedNanos) {
+            sqls.add(sql);
+            bindCounts.add(bindCount);
+            batchCounts.add(batchCount);
+        }
+    }
+
+    @Test
+    @DisplayName("TracingDataSource - 실행된 SQL, 바인딩 파라미터 수, 배치 건수 측정 테스트")
+    public void tracingDataSource() throws Exception {
+        //given
+        RecordingSqlTracer tracer = new RecordingSqlTracer();
+        TracingDataSource dataSource = new TracingDataSource(new DriverManagerDataSource("jdbc:h2:mem:sqltrace;DB_CLOSE_DELAY=-1", "sa", ""), tracer);
+
+        //when
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table trace_test (id int, name varchar(20))");
+            }
+            try (PreparedStatement ps = connection.prepareStatement("insert into trace_test (id, name) values (?, ?)")) {
+                for (int i = 0; i < 3; i++) {
+                    ps.setInt(1, i);
+                    ps.setString(2, "name" + i);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+
+        //then
+        assertThat(tracer.sqls).containsExactly("create table trace_test (id int, name varchar(20))", "insert into trace_test (id, name) values (?, ?)");
+        assertThat(tracer.bindCounts).containsExactly(0, 2);
+        assertThat(tracer.batchCounts).containsExactly(0, 3);
+    }
+
+    @Test
+    @DisplayName("SqlTracer - 모드 별 기록 여부 테스트 (OFF, SAMPLED, SLOW)")
+    public void traceMode() throws Exception {
+        //given
+        SqlTracer off = new SqlTracer(SqlTraceMode.of("off"), 1, 0);
+        SqlTracer sampled = new SqlTracer(SqlTraceMode.of("sampled"), 10, 0);
+        SqlTracer slow = new SqlTracer(SqlTraceMode.of("slow"), 1, 100);
+
+        //then
+        assertThat(off.isEnabled()).isFalse();
+        assertThat(off.shouldEmit(Long.MAX_VALUE)).isFalse();
+        assertThat(SqlTraceMode.of(null)).isEqualTo(SqlTraceMode.OFF);
+
+        // SAMPLED - 10 번에 한 번 (10 번째, 20 번째)
+        assertThat(sampled.getMode()).isEqualTo(SqlTraceMode.SAMPLED);
+        List<Integer> emitted = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            if (sampled.shouldEmit(0)) emitted.add(i);
+        }
+        assertThat(emitted).containsExactly(10, 20);
+
+        // SLOW - 100ms 이상만
+        assertThat(slow.getMode()).isEqualTo(SqlTraceMode.SLOW);
+        assertThat(slow.shouldEmit(TimeUnit.MILLISECONDS.toNanos(99))).isFalse();
+        assertThat(slow.shouldEmit(TimeUnit.MILLISECONDS.toNanos(100))).isTrue();
+        assertThat(slow.shouldEmit(TimeUnit.MILLISECONDS.toNanos(250))).isTrue();
+    }
+}
@@ -0,0 +1,122 @@
+package com.gabia.gyebalja.department;
+
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.rank.RankResponseDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsDepartmentRollupResponseDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsGranularity;
+import com.gabia.gyebalja.dto.statistics.StatisticsRangeResponseDto;
+import com.gabia.gyebalja.repository.DepartmentClosureRepository;
+import com.gabia.gyebalja.service.DepartmentHierarchyService;
+import com.gabia.gyebalja.service.RankService;
+import com.gabia.gyebalja.service.StatisticsBucketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class DepartmentHierarchyServiceTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    DepartmentHierarchyService departmentHierarchyService;
+    @Autowired
+    DepartmentClosureRepository departmentClosureRepository;
+    @Autowired
+    RankService rankService;
+    @Autowired
+    StatisticsBucketService statisticsBucketService;
+
+    private Department division;
+    private Department teamA;
+    private Department teamB;
+    private Department partA1;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    public void setUp() {
+        // 본부 - A 팀 - A1 파트, 본부 - B 팀
+        division = Department.builder().name("테스트본부").depth(0).parentDepartment(null).build();
+        em.persist(division);
+        teamA = Department.builder().name("A팀").depth(1).parentDepartment(division).build();
+        em.persist(teamA);
+        teamB = Department.builder().name("B팀").depth(1).parentDepartment(division).build();
+        em.persist(teamB);
+        partA1 = Department.builder().name("A1파트").depth(2).parentDepartment(teamA).build();
+        em.persist(partA1);
+        Category category = Category.builder().name("개발").build();
+        em.persist(category);
+
+        // 사용자별 교육 시간 : 본부장 1, A팀 2, A1파트 4, B팀 8
+        Department[] departments = {division, teamA, partA1, teamB};
+        for (int i = 0; i < departments.length; i++) {
+            User user = User.builder().email("tree" + i + "@gabia.com").name("트리" + i).gender(GenderType.MALE).positionId(5L).positionName("직원").department(departments[i]).build();
+            em.persist(user);
+            em.persist(Education.builder().title("교육").content("내용").startDate(today).endDate(today)
+                    .totalHours(1 << i).type(EducationType.ONLINE).place("가비아").user(user).category(category).build());
+        }
+        em.flush();
+        em.clear();
+
+        departmentHierarchyService.rebuild();
+    }
+
+    @Test
+    @DisplayName("DepartmentHierarchyService.rebuild() 테스트 - 자기 자신 포함 하위 부서 전체")
+    public void rebuildTest() throws Exception {
+        //when
+        List<Long> divisionTree = departmentClosureRepository.findDescendantIds(division.getId());
+        List<Long> teamATree = departmentClosureRepository.findDescendantIds(teamA.getId());
+        List<Long> partTree = departmentClosureRepository.findDescendantIds(partA1.getId());
+
+        //then
+        assertThat(divisionTree).containsExactlyInAnyOrder(division.getId(), teamA.getId(), teamB.getId(), partA1.getId());
+        assertThat(teamATree).containsExactlyInAnyOrder(teamA.getId(), partA1.getId());
+        assertThat(partTree).containsExactly(partA1.getId());
+    }
+
+    @Test
+    @DisplayName("하위 부서 포함 랭킹/기간 통계/부서 트리 통계 테스트")
+    public void rollupTest() throws Exception {
+        //given
+        statisticsBucketService.rebuild();
+
+        //when
+        List<RankResponseDto> flatRank = rankService.getRankByDeptId(division.getId());
+        List<RankResponseDto> treeRank = rankService.getRankByDeptId(division.getId(), true);
+        StatisticsRangeResponseDto range = statisticsBucketService.getRangeStatistics(today, today, StatisticsGranularity.DAY, null, teamA.getId(), true, 1);
+        StatisticsDepartmentRollupResponseDto rollup = statisticsBucketService.getDepartmentRollup(division.getId(), today, today);
+
+        //then
+        assertThat(flatRank).extracting(rank -> rank.getUser().getName()).containsExactly("트리0");
+        assertThat(treeRank).extracting(rank -> rank.getUser().getName()).containsExactly("트리3", "트리2", "트리1", "트리0");
+        assertThat(treeRank).extracting(RankResponseDto::getTotalHour).containsExactly(8, 4, 2, 1);
+        assertThat(range.getTotalHours()).isEqualTo(6);
+        assertThat(rollup.getDepartment().getHours()).isEqualTo(15);
+        assertThat(rollup.getDepartment().getCount()).isEqualTo(4);
+        assertThat(rollup.getChildren()).extracting("departmentName").containsExactly("A팀", "B팀");
+        assertThat(rollup.getChildren()).extracting("hours").containsExactly(6L, 8L);
+    }
+}
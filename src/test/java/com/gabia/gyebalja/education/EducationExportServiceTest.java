@@ -0,0 +1,128 @@
+package com.gabia.gyebalja.education;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.education.EducationExportDto;
+import com.gabia.gyebalja.dto.education.EducationExportFormat;
+import com.gabia.gyebalja.repository.CategoryRepository;
+import com.gabia.gyebalja.repository.DepartmentRepository;
+import com.gabia.gyebalja.repository.EducationRepository;
+import com.gabia.gyebalja.repository.UserRepository;
+import com.gabia.gyebalja.service.EducationExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class EducationExportServiceTest {
+
+    @Autowired
+    EducationExportService educationExportService;
+    @Autowired
+    EducationRepository educationRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    CategoryRepository categoryRepository;
+    @Autowired
+    DepartmentRepository departmentRepository;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private Category category;
+    private Department department;
+
+    @BeforeEach
+    public void setUp() {
+        category = categoryRepository.save(Category.builder().name("개발자").build());
+        department = departmentRepository.save(Department.builder().name("테스트팀").depth(2).parentDepartment(null).build());
+        User user = userRepository.save(User.builder()
+                .email("test@gabia.com")
+                .name("User1")
+                .gender(GenderType.MALE)
+                .phone("000-000-0000")
+                .tel("111-111-1111")
+                .positionId(123L)
+                .positionName("팀원")
+                .department(department)
+                .profileImg("src/img")
+                .build());
+
+        educationRepository.save(education("Spring, JPA \"기초\"", LocalDate.of(2020, 3, 1), user));
+        educationRepository.save(education("=HTML", LocalDate.of(2020, 12, 31), user));
+        educationRepository.save(education("CSS", LocalDate.of(2021, 1, 1), user));
+    }
+
+    private Education education(String title, LocalDate startDate, User user) {
+        return Education.builder()
+                .title(title)
+                .content("내용테스트")
+                .startDate(startDate)
+                .endDate(startDate)
+                .totalHours(3)
+                .type(EducationType.ONLINE)
+                .place("가비아 4층")
+                .user(user)
+                .category(category)
+                .build();
+    }
+
+    @Test
+    @DisplayName("EducationExportService.exportEducations() 테스트 (CSV, 연도/카테고리 필터)")
+    public void exportEducationsCsv() throws Exception {
+        //given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        long count = educationExportService.exportEducations(EducationExportFormat.CSV, 2020, null, category.getId(), outputStream);
+        String[] lines = new String(outputStream.toByteArray(), StandardCharsets.UTF_8).split("\n");
+
+        //then
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("\uFEFF" + EducationExportDto.CSV_HEADER);
+        assertThat(lines[1]).contains("\"Spring, JPA \"\"기초\"\"\"", "2020-03-01", "User1", "테스트팀", "개발자");
+        assertThat(lines[2]).contains(",'=HTML,");
+    }
+
+    @Test
+    @DisplayName("EducationExportService.exportEducations() 테스트 (JSON Lines, 부서 필터)")
+    public void exportEducationsJsonLines() throws Exception {
+        //given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        long count = educationExportService.exportEducations(EducationExportFormat.JSONL, null, department.getId(), null, outputStream);
+        String[] lines = new String(outputStream.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        JsonNode last = objectMapper.readTree(lines[2]);
+
+        //then
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(last.get("title").asText()).isEqualTo("CSS");
+        assertThat(last.get("startDate").asText()).isEqualTo("2021-01-01");
+        assertThat(last.get("deptId").asLong()).isEqualTo(department.getId());
+        assertThat(last.has("csvRow")).isFalse();
+    }
+}
@@ -0,0 +1,207 @@
+package com.gabia.gyebalja.education;
+
+import com.gabia.gyebalja.common.event.EduTagChangedEvent;
+import com.gabia.gyebalja.common.event.EducationChangedEvent;
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.education.EducationImportResponseDto;
+import com.gabia.gyebalja.repository.CategoryRepository;
+import com.gabia.gyebalja.repository.DepartmentRepository;
+import com.gabia.gyebalja.repository.EducationRepository;
+import com.gabia.gyebalja.repository.TagRepository;
+import com.gabia.gyebalja.repository.UserRepository;
+import com.gabia.gyebalja.service.EducationImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+/**
+ * chunk 마다 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 실행하고 종료 후 직접 삭제
+ */
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class EducationImportServiceTest {
+
+    private static final String HEADER = "title,content,startDate,endDate,totalHours,type,place,userId,categoryId,hashTag\n";
+
+    @Autowired
+    EducationImportService educationImportService;
+    @Autowired
+    EducationRepository educationRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    CategoryRepository categoryRepository;
+    @Autowired
+    DepartmentRepository departmentRepository;
+    @Autowired
+    TagRepository tagRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    private User user;
+    private Category category;
+    private Department department;
+
+    @BeforeEach
+    public void setUp() {
+        category = categoryRepository.save(Category.builder().name("개발자").build());
+        department = departmentRepository.save(Department.builder().name("테스트팀").depth(2).parentDepartment(null).build());
+        user = userRepository.save(User.builder()
+                .email("test@gabia.com")
+                .name("User1")
+                .gender(GenderType.MALE)
+                .phone("000-000-0000")
+                .tel("111-111-1111")
+                .positionId(123L)
+                .positionName("팀원")
+                .department(department)
+                .profileImg("src/img")
+                .build());
+    }
+
+    // 저장된 교육을 한 번에 삭제하고 교육 서비스와 같은 이벤트를 발행해서 통계, 검색 인덱스도 함께 정리 (태그는 다른 테스트와 이름이 겹칠 수 있으므로 남겨둠)
+    @AfterEach
+    public void cleanUp() {
+        new TransactionTemplate(transactionManager).execute(status -> {
+            List<Long> educationIds = jdbcTemplate.queryForList("select id from education where user_id = ?", Long.class, user.getId());
+            List<LocalDate> startDates = jdbcTemplate.query("select distinct start_date from education where user_id = ?", (rs, i) -> rs.getDate(1).toLocalDate(), user.getId());
+            List<Long> tagIds = jdbcTemplate.queryForList("select distinct et.tag_id from edu_tag et join education e on e.id = et.edu_id where e.user_id = ?", Long.class, user.getId());
+            jdbcTemplate.update("delete from edu_tag where edu_id in (select id from education where user_id = ?)", user.getId());
+            jdbcTemplate.update("delete from education where user_id = ?", user.getId());
+            jdbcTemplate.update("delete from user_year_summary where user_id = ?", user.getId());
+            if (!educationIds.isEmpty()) eventPublisher.publishEvent(new EducationChangedEvent(educationIds, startDates));
+            if (!tagIds.isEmpty()) eventPublisher.publishEvent(new EduTagChangedEvent(tagIds));
+            return null;
+        });
+        userRepository.delete(user);
+        categoryRepository.delete(category);
+        departmentRepository.delete(department);
+    }
+
+    private List<Education> importedEducations() {
+        return educationRepository.findAll().stream()
+                .filter(e -> e.getUser() != null && e.getUser().getId().equals(user.getId()))
+                .collect(Collectors.toList());
+    }
+
+    private String row(String title, String hashTag) {
+        return title + ",내용,2020-01-01,2020-01-02,2,ONLINE,가비아," + user.getId() + "," + category.getId() + "," + hashTag + "\n";
+    }
+
+    @Test
+    @DisplayName("EducationImportService.importEducations() 테스트 (검증 실패 행 제외 후 저장)")
+    public void importEducations() throws Exception {
+        //given
+        String csv = HEADER
+                + "\"Spring, JPA\",\"여러 줄\n내용\",2020-03-01,2020-03-02,8,ONLINE,가비아 4층," + user.getId() + "," + category.getId() + ",#Spring #JPA #Spring\n"
+                + "HTML,,2020-04-01,,3,offline,,"+ user.getId() + "," + category.getId() + ",\n"
+                + ",내용,2020-04-01,,3,ONLINE,," + user.getId() + "," + category.getId() + ",\n"
+                + "CSS,,2020/04/01,,3,ONLINE,," + user.getId() + "," + category.getId() + ",\n"
+                + "JS,,2020-04-01,,3,ONLINE,,999999," + category.getId() + ",\n"
+                + "Java,,2020-04-01,,4294967298,ONLINE,," + user.getId() + "," + category.getId() + ",\n";
+
+        //when
+        EducationImportResponseDto response = educationImportService.importEducations(new StringReader(csv));
+        List<Education> educations = importedEducations();
+
+        //then
+        assertThat(response.getTotalCount()).isEqualTo(6);
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailCount()).isEqualTo(4);
+        assertThat(response.getErrors()).extracting("line").containsExactly(5, 6, 7, 8);
+        assertThat(educations).hasSize(2);
+
+        Education first = educationRepository.findEducationDetail(educations.get(0).getId()).get();
+        assertThat(first.getTitle()).isEqualTo("Spring, JPA");
+        assertThat(first.getContent()).isEqualTo("여러 줄\n내용");
+        assertThat(first.getEduTags()).extracting(eduTag -> eduTag.getTag().getName()).containsExactlyInAnyOrder("#spring", "#jpa");
+        assertThat(tagRepository.findHashTagByName("#spring")).isPresent();
+    }
+
+    @Test
+    @DisplayName("EducationImportService.importEducations() 테스트 (chunk 단위 대량 저장)")
+    public void importEducationsBulk() throws Exception {
+        //given
+        int rowCount = 5000;
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < rowCount; i++) {
+            csv.append(row("교육" + i, "#bulk" + i % 10));
+        }
+
+        //when
+        EducationImportResponseDto response = educationImportService.importEducations(new StringReader(csv.toString()));
+
+        //then
+        assertThat(response.getSuccessCount()).isEqualTo(rowCount);
+        assertThat(response.getFailCount()).isEqualTo(0);
+        assertThat(importedEducations()).hasSize(rowCount);
+        assertThat(tagRepository.findHashTagByName("#bulk9")).isPresent();
+    }
+
+    @Test
+    @DisplayName("EducationImportService.importEducations() 테스트 (저장 실패 chunk 만 롤백, 앞뒤 chunk 는 커밋)")
+    public void importEducationsChunkFailure() throws Exception {
+        //given - 두 번째 chunk(1001 ~ 2000 번째 행)에 tag.name 컬럼 길이를 넘는 태그 (DB 제약 위반)
+        int rowCount = 2500;
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < rowCount; i++) {
+            csv.append(row("교육" + i, i == 1500 ? "#" + String.join("", Collections.nCopies(300, "a")) : "#chunk"));
+        }
+
+        //when
+        EducationImportResponseDto response = educationImportService.importEducations(new StringReader(csv.toString()));
+
+        //then - 헤더가 1번 줄이므로 i 번째 행은 i + 2 번 줄
+        assertThat(response.getSuccessCount()).isEqualTo(1500);
+        assertThat(response.getFailCount()).isEqualTo(1000);
+        assertThat(response.getErrors()).extracting("line").containsExactlyElementsOf(
+                IntStream.rangeClosed(1002, 2001).boxed().collect(Collectors.toList()));
+        assertThat(importedEducations()).extracting(Education::getTitle).hasSize(1500)
+                .contains("교육0", "교육999", "교육2000", "교육2499").doesNotContain("교육1000", "교육1999");
+    }
+
+    @Test
+    @DisplayName("EducationImportService.importEducations() 테스트 (닫히지 않은 따옴표는 행 에러로 응답, 앞의 행은 저장)")
+    public void importEducationsUnclosedQuote() throws Exception {
+        //given
+        String csv = HEADER + row("교육0", "") + row("교육1", "") + "\"닫히지 않은 제목,내용,2020-01-01\n" + row("교육2", "");
+
+        //when
+        EducationImportResponseDto response = educationImportService.importEducations(new StringReader(csv));
+
+        //then
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailCount()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting("line").containsExactly(4);
+        assertThat(response.getErrors().get(0).getMessage()).contains("닫히지 않은 따옴표");
+        assertThat(importedEducations()).extracting(Education::getTitle).containsExactlyInAnyOrder("교육0", "교육1");
+    }
+}
@@ -0,0 +1,118 @@
+package com.gabia.gyebalja.education;
+
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.EduTag;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.Tag;
+import com.gabia.gyebalja.dto.education.EducationAllResponseDto;
+import com.gabia.gyebalja.dto.education.EducationSearchResponseDto;
+import com.gabia.gyebalja.service.EducationSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class EducationSearchServiceTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    EducationSearchService educationSearchService;
+
+    private Category develop;
+    private Category design;
+    private Tag java;
+    private Tag spring;
+    private Tag docker;
+
+    @BeforeEach
+    public void setUp() {
+        develop = Category.builder().name("개발").build();
+        design = Category.builder().name("디자인").build();
+        em.persist(develop);
+        em.persist(design);
+        java = Tag.builder().name("#검색자바").build();
+        spring = Tag.builder().name("#검색스프링").build();
+        docker = Tag.builder().name("#검색도커").build();
+        em.persist(java);
+        em.persist(spring);
+        em.persist(docker);
+
+        createEducation("자바", develop, 2019, java);
+        createEducation("자바 스프링", develop, 2020, java, spring);
+        createEducation("스프링 도커", develop, 2020, spring, docker);
+        createEducation("자바 스프링 도커", design, 2020, java, spring, docker);
+        em.flush();
+        em.clear();
+
+        educationSearchService.rebuild();
+    }
+
+    private void createEducation(String title, Category category, int year, Tag... tags) {
+        Education education = Education.builder().title(title).content("내용").startDate(LocalDate.of(year, 3, 1)).endDate(LocalDate.of(year, 3, 2))
+                .totalHours(8).type(EducationType.ONLINE).place("가비아").category(category).build();
+        em.persist(education);
+        for (Tag tag : tags) {
+            em.persist(EduTag.builder().education(education).tag(tag).build());
+        }
+    }
+
+    private static List<String> titles(EducationSearchResponseDto response) {
+        return response.getContent().stream().map(EducationAllResponseDto::getTitle).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("EducationSearchService.searchEducations() 테스트 - AND / OR / NOT (최신순)")
+    public void searchByTagsTest() throws Exception {
+        //when
+        EducationSearchResponseDto and = educationSearchService.searchEducations(Arrays.asList(java.getId(), spring.getId()), null, null, null, null, 0, 10);
+        EducationSearchResponseDto or = educationSearchService.searchEducations(null, Arrays.asList(java.getId(), docker.getId()), null, null, null, 0, 10);
+        EducationSearchResponseDto not = educationSearchService.searchEducations(Collections.singletonList(spring.getId()), null, Collections.singletonList(docker.getId()), null, null, 0, 10);
+
+        //then
+        assertThat(titles(and)).containsExactly("자바 스프링 도커", "자바 스프링");
+        assertThat(and.getTotalCount()).isEqualTo(2);
+        assertThat(titles(or)).containsExactly("자바 스프링 도커", "스프링 도커", "자바 스프링", "자바");
+        assertThat(titles(not)).containsExactly("자바 스프링");
+    }
+
+    @Test
+    @DisplayName("EducationSearchService.searchEducations() 테스트 - 카테고리 / 연도 / 페이징")
+    public void searchWithFilterTest() throws Exception {
+        //when
+        EducationSearchResponseDto byCategory = educationSearchService.searchEducations(Collections.singletonList(java.getId()), null, null, develop.getId(), null, 0, 10);
+        EducationSearchResponseDto byYear = educationSearchService.searchEducations(Collections.singletonList(java.getId()), null, null, null, 2019, 0, 10);
+        EducationSearchResponseDto secondPage = educationSearchService.searchEducations(null, Collections.singletonList(spring.getId()), null, null, 2020, 1, 2);
+
+        //then
+        assertThat(titles(byCategory)).containsExactly("자바 스프링", "자바");
+        assertThat(titles(byYear)).containsExactly("자바");
+        assertThat(titles(secondPage)).containsExactly("자바 스프링");
+        assertThat(secondPage.getTotalCount()).isEqualTo(3);
+        assertThat(byCategory.getContent().get(0).getCategory().getName()).isEqualTo("개발");
+        assertThatThrownBy(() -> educationSearchService.searchEducations(null, null, null, null, null, 0, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -158,6 +158,7 @@ public class EducationServiceTest {
                 .build();
 
         educationRepository.save(education);
+        em.flush();
         em.clear();
 
         //when
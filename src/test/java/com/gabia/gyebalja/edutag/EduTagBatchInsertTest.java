@@ -0,0 +1,86 @@
+package com.gabia.gyebalja.edutag;
+
+import com.gabia.gyebalja.common.sql.SqlRequestStatistics;
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.EduTag;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.Tag;
+import com.gabia.gyebalja.repository.CategoryRepository;
+import com.gabia.gyebalja.repository.EduTagRepository;
+import com.gabia.gyebalja.repository.EducationRepository;
+import com.gabia.gyebalja.repository.TagRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = {"spring.config.location=classpath:application-test.yml", "gyebalja.metrics.enabled=true"})
+public class EduTagBatchInsertTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    EduTagRepository eduTagRepository;
+    @Autowired
+    TagRepository tagRepository;
+    @Autowired
+    EducationRepository educationRepository;
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @AfterEach
+    public void tearDown() {
+        SqlRequestStatistics.end();
+    }
+
+    @Test
+    @DisplayName("EduTag 저장 테스트 (pooled id, batch insert)")
+    public void batchInsertTest() throws Exception {
+        //given
+        Category category = categoryRepository.save(Category.builder().name("개발자").build());
+        Education education = educationRepository.save(Education.builder()
+                .title("test")
+                .content("내용테스트")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .totalHours(3)
+                .type(EducationType.ONLINE)
+                .place("가비아 4층")
+                .category(category)
+                .build());
+
+        List<EduTag> eduTags = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Tag tag = tagRepository.save(Tag.builder().name("#batch" + i).build());
+            eduTags.add(EduTag.builder().education(education).tag(tag).build());
+        }
+        em.flush();
+
+        //when
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        eduTagRepository.saveAll(eduTags);
+        em.flush();
+
+        //then - 40건의 insert 가 batch 로 전송 (id 할당 조회/갱신 포함)
+        assertThat(eduTags).allMatch(eduTag -> eduTag.getId() != null);
+        assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(5);
+    }
+}
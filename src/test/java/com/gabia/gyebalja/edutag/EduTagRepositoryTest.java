@@ -109,6 +109,7 @@ public class EduTagRepositoryTest {
 
         //when
         eduTagRepository.save(eduTag);
+        em.flush();
         em.clear();
 
         EduTag findEduTag = eduTagRepository.findById(eduTag.getId()).get();
@@ -172,6 +173,7 @@ public class EduTagRepositoryTest {
                 .build();
         eduTagRepository.save(eduTag);
 
+        em.flush();
         em.clear();
 
         //when
@@ -236,6 +238,7 @@ public class EduTagRepositoryTest {
                 .build();
         eduTagRepository.save(eduTag);
 
+        em.flush();
         em.clear();
 
         //when
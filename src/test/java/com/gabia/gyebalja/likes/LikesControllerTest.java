@@ -14,6 +14,7 @@ import com.gabia.gyebalja.repository.BoardRepository;
 import com.gabia.gyebalja.repository.CategoryRepository;
 import com.gabia.gyebalja.repository.DepartmentRepository;
 import com.gabia.gyebalja.repository.EducationRepository;
+import com.gabia.gyebalja.repository.LikesRepository;
 import com.gabia.gyebalja.repository.UserRepository;
 import com.gabia.gyebalja.service.LikesService;
 import org.junit.jupiter.api.AfterEach;
@@ -31,6 +32,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -47,6 +49,7 @@ public class LikesControllerTest {
     @Autowired private UserRepository userRepository;
     @Autowired private CategoryRepository categoryRepository;
     @Autowired private EducationRepository educationRepository;
+    @Autowired private LikesRepository likesRepository;
 
     @Autowired
     private LikesService likesService;
@@ -74,11 +77,12 @@ public class LikesControllerTest {
 
     @AfterEach
     public void cleanUp() {
+        this.likesRepository.deleteAll();
         this.boardRepository.deleteAll();
-        this.departmentRepository.deleteAll();
-        this.userRepository.deleteAll();
-        this.categoryRepository.deleteAll();
         this.educationRepository.deleteAll();
+        this.categoryRepository.deleteAll();
+        this.userRepository.deleteAll();
+        this.departmentRepository.deleteAll();
     }
 
     @Autowired
@@ -190,4 +194,29 @@ public class LikesControllerTest {
         assertThat(responseEntity.getBody().getCode()).isEqualTo(StatusCode.OK.getCode());
         assertThat(responseEntity.getBody().getMessage()).isEqualTo(StatusCode.OK.getMessage());
     }
+
+    /** 등록/취소 - likes 한 개 (멱등) */
+    @Test
+    @DisplayName("LikesController.putOneLikes() 테스트 (좋아요 여부, 좋아요 수)")
+    public void putOneLikes(){
+        // given
+        String url = "http://localhost:" + port + "/api/v1/likes/users/" + user.getId() + "/boards/" + board.getId();
+        HttpEntity requestEntity = new HttpEntity(new HttpHeaders());
+
+        // when
+        ResponseEntity<CommonJsonFormat> likedEntity = restTemplate.exchange(url + "?likes=true", HttpMethod.PUT, requestEntity, CommonJsonFormat.class);
+        ResponseEntity<CommonJsonFormat> canceledEntity = restTemplate.exchange(url + "?likes=false", HttpMethod.PUT, requestEntity, CommonJsonFormat.class);
+
+        // then
+        assertThat(likedEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(likedEntity.getBody().getCode()).isEqualTo(StatusCode.OK.getCode());
+        LinkedHashMap liked = (LinkedHashMap) likedEntity.getBody().getResponse();
+        assertThat(liked.get("liked")).isEqualTo(true);
+        assertThat(liked.get("likeCount")).isEqualTo(1);
+
+        assertThat(canceledEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        LinkedHashMap canceled = (LinkedHashMap) canceledEntity.getBody().getResponse();
+        assertThat(canceled.get("liked")).isEqualTo(false);
+        assertThat(canceled.get("likeCount")).isEqualTo(0);
+    }
 }
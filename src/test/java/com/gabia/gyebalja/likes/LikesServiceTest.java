@@ -1,5 +1,6 @@
 package com.gabia.gyebalja.likes;
 
+import com.gabia.gyebalja.common.sql.SqlRequestStatistics;
 import com.gabia.gyebalja.domain.Board;
 import com.gabia.gyebalja.domain.Category;
 import com.gabia.gyebalja.domain.Department;
@@ -8,6 +9,8 @@ import com.gabia.gyebalja.domain.EducationType;
 import com.gabia.gyebalja.domain.GenderType;
 import com.gabia.gyebalja.domain.Likes;
 import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.likes.LikedBoardsResponseDto;
+import com.gabia.gyebalja.dto.likes.LikesCountResponseDto;
 import com.gabia.gyebalja.dto.likes.LikesRequestDto;
 import com.gabia.gyebalja.dto.likes.LikesResponseDto;
 import com.gabia.gyebalja.repository.BoardRepository;
@@ -17,6 +20,7 @@ import com.gabia.gyebalja.repository.EducationRepository;
 import com.gabia.gyebalja.repository.LikesRepository;
 import com.gabia.gyebalja.repository.UserRepository;
 import com.gabia.gyebalja.service.LikesService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,10 +30,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Author : 이현재
@@ -37,7 +45,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 
 @Transactional
-@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+@SpringBootTest(properties = {"spring.config.location=classpath:application-test.yml", "gyebalja.metrics.enabled=true"})
 public class LikesServiceTest {
 
     @Autowired private BoardRepository boardRepository;
@@ -68,6 +76,11 @@ public class LikesServiceTest {
         boardRepository.save(this.board);
     }
 
+    @AfterEach
+    public void tearDown(){
+        SqlRequestStatistics.end();
+    }
+
     @Autowired
     public LikesServiceTest(){
         // Department
@@ -164,4 +177,102 @@ public class LikesServiceTest {
         assertThat(deleteId).isEqualTo(user.getId());
         assertThat(likesRepository.findById(deleteId)).isEqualTo(Optional.empty());
     }
+
+    @Test
+    @DisplayName("likesService.getLikedBoards() 테스트 (여러 개) - 좋아요 한 게시글만 IN 쿼리 한 번으로 조회")
+    public void getLikedBoardsTest(){
+        // given
+        List<Long> boardIds = new ArrayList<>();
+        List<Long> likedBoardIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Board saveBoard = boardRepository.save(Board.builder().title("테스트 - 게시글 " + i).content("테스트 - 게시글 본문").views(0).user(user).education(education).build());
+            boardIds.add(saveBoard.getId());
+            if (i % 3 == 0) {
+                likesService.postOneLikes(LikesRequestDto.builder().userId(user.getId()).boardId(saveBoard.getId()).build());
+                likedBoardIds.add(saveBoard.getId());
+            }
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        LikedBoardsResponseDto likedBoardsResponseDto = likesService.getLikedBoards(user.getId(), boardIds);
+
+        // then
+        assertThat(likedBoardsResponseDto.getLikedBoardIds()).containsExactlyInAnyOrderElementsOf(likedBoardIds);
+        assertThat(statistics.getStatementCount()).isEqualTo(1);
+        assertThat(likesService.getLikedBoards(user.getId(), new ArrayList<>()).getLikedBoardIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("likesService.getLikedBoards() 테스트 (여러 개) - 최대 개수 초과")
+    public void getLikedBoardsLimitTest(){
+        // given
+        List<Long> boardIds = new ArrayList<>();
+        for (long i = 1; i <= LikesService.MAX_BOARD_IDS + 1; i++) boardIds.add(i);
+
+        // when, then
+        assertThatThrownBy(() -> likesService.getLikedBoards(user.getId(), boardIds)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("likes (user_id, board_id) unique 제약 테스트")
+    public void uniqueLikesTest(){
+        // given
+        likesRepository.save(Likes.builder().board(board).user(user).build());
+        em.flush();
+
+        // when, then
+        likesRepository.save(Likes.builder().board(board).user(user).build());
+        assertThatThrownBy(() -> em.flush()).isInstanceOf(PersistenceException.class);
+    }
+
+    @Test
+    @DisplayName("likesService.putOneLikes() 테스트 (멱등) - 중복 요청은 한 번만 반영, 좋아요 수 반환")
+    public void putOneLikesTest(){
+        // given
+        User otherUser = userRepository.save(User.builder().email("other@gabia.com").name("가비아2").gender(GenderType.MALE).positionId(5L).positionName("직원").department(department).build());
+        em.flush();
+        em.clear();
+
+        // when
+        LikesCountResponseDto first = likesService.putOneLikes(user.getId(), board.getId(), true);
+        LikesCountResponseDto duplicate = likesService.putOneLikes(user.getId(), board.getId(), true);
+        LikesCountResponseDto other = likesService.putOneLikes(otherUser.getId(), board.getId(), true);
+
+        // then
+        assertThat(first.isLiked()).isTrue();
+        assertThat(first.getLikeCount()).isEqualTo(1);
+        assertThat(duplicate.getLikeCount()).isEqualTo(1);
+        assertThat(other.getLikeCount()).isEqualTo(2);
+        assertThat(likesService.getOneLikes(user.getId(), board.getId()).isLikes()).isTrue();
+
+        // when - 취소 (중복 취소 포함)
+        LikesCountResponseDto cancel = likesService.putOneLikes(user.getId(), board.getId(), false);
+        LikesCountResponseDto duplicateCancel = likesService.putOneLikes(user.getId(), board.getId(), false);
+
+        // then
+        assertThat(cancel.isLiked()).isFalse();
+        assertThat(cancel.getLikeCount()).isEqualTo(1);
+        assertThat(duplicateCancel.getLikeCount()).isEqualTo(1);
+        assertThat(likesService.getOneLikes(user.getId(), board.getId()).isLikes()).isFalse();
+    }
+
+    @Test
+    @DisplayName("likesService.putOneLikes() 테스트 - user/board 조회 없이 insert + count")
+    public void putOneLikesStatementCountTest(){
+        // given
+        likesService.putOneLikes(user.getId(), board.getId(), true); // pooled id 블록 할당
+        likesService.putOneLikes(user.getId(), board.getId(), false);
+        em.flush();
+        em.clear();
+
+        // when
+        SqlRequestStatistics statistics = SqlRequestStatistics.begin();
+        likesService.putOneLikes(user.getId(), board.getId(), true);
+
+        // then - insert (중복 무시) + count
+        assertThat(statistics.getStatementCount()).isEqualTo(2);
+    }
 }
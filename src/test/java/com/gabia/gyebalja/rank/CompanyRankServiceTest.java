@@ -0,0 +1,110 @@
+package com.gabia.gyebalja.rank;
+
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.rank.RankPageResponseDto;
+import com.gabia.gyebalja.dto.rank.RankResponseDto;
+import com.gabia.gyebalja.service.CompanyRankService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class CompanyRankServiceTest {
+
+    private static final int YEAR = 2001; // 다른 테스트 데이터와 겹치지 않는 연도
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    CompanyRankService companyRankService;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        Department teamA = Department.builder().name("순위A팀").depth(0).parentDepartment(null).build();
+        em.persist(teamA);
+        Department teamB = Department.builder().name("순위B팀").depth(0).parentDepartment(null).build();
+        em.persist(teamB);
+        Category category = Category.builder().name("순위테스트").build();
+        em.persist(category);
+
+        // 사용자 i 는 (i + 1) 건, 건당 3 시간 (부서가 달라도 회사 전체로 순위), 마지막 사용자는 교육 없음
+        for (int i = 0; i < 4; i++) {
+            User user = User.builder().email("company" + i + "@gabia.com").name("회사" + i).gender(GenderType.MALE).positionId(5L).positionName("직원")
+                    .department(i % 2 == 0 ? teamA : teamB).build();
+            em.persist(user);
+            users.add(user);
+            for (int j = 0; i < 3 && j <= i; j++) {
+                em.persist(Education.builder().title("교육").content("내용").startDate(LocalDate.of(YEAR, 1 + j, 1)).endDate(LocalDate.of(YEAR, 1 + j, 1))
+                        .totalHours(3).type(EducationType.ONLINE).place("가비아").user(user).category(category).build());
+            }
+        }
+        // 다른 연도 교육은 제외
+        em.persist(Education.builder().title("교육").content("내용").startDate(LocalDate.of(YEAR + 1, 1, 1)).endDate(LocalDate.of(YEAR + 1, 1, 1))
+                .totalHours(100).type(EducationType.ONLINE).place("가비아").user(users.get(0)).category(category).build());
+        em.flush();
+        em.clear();
+
+        companyRankService.reconcile();
+    }
+
+    @Test
+    @DisplayName("CompanyRankService.getCompanyRanks() 테스트 - 회사 전체 순위 페이지")
+    public void getCompanyRanksTest() throws Exception {
+        //when
+        RankPageResponseDto firstPage = companyRankService.getCompanyRanks(YEAR, 0, 2);
+        RankPageResponseDto secondPage = companyRankService.getCompanyRanks(YEAR, 1, 2);
+
+        //then
+        assertThat(firstPage.getTotalCount()).isEqualTo(3);
+        assertThat(firstPage.getRanks()).extracting(rank -> rank.getUser().getName()).containsExactly("회사2", "회사1");
+        assertThat(firstPage.getRanks()).extracting(RankResponseDto::getTotalHour).containsExactly(9, 6);
+        assertThat(firstPage.getRanks().get(1).getUser().getDepartment().getName()).isEqualTo("순위B팀");
+        assertThat(secondPage.getRanks()).extracting(RankResponseDto::getRank).containsExactly(3);
+        assertThat(companyRankService.getCompanyRanks(YEAR, Integer.MAX_VALUE, 100).getRanks()).isEmpty();
+        assertThat(companyRankService.getCompanyRanks(1900, 0, 2).getTotalCount()).isEqualTo(0);
+        assertThatThrownBy(() -> companyRankService.getCompanyRanks(YEAR, 0, 1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("CompanyRankService.getMyCompanyRank() 테스트 - 내 순위, 교육이 없으면 마지막 다음 순위")
+    public void getMyCompanyRankTest() throws Exception {
+        //when
+        RankResponseDto second = companyRankService.getMyCompanyRank(users.get(1).getId(), YEAR);
+        RankResponseDto none = companyRankService.getMyCompanyRank(users.get(3).getId(), YEAR);
+        RankResponseDto nextYear = companyRankService.getMyCompanyRank(users.get(0).getId(), YEAR + 1);
+
+        //then
+        assertThat(second.getRank()).isEqualTo(2);
+        assertThat(second.getTotalCount()).isEqualTo(2);
+        assertThat(none.getRank()).isEqualTo(4);
+        assertThat(none.getTotalHour()).isEqualTo(0);
+        assertThat(nextYear.getRank()).isEqualTo(1);
+        assertThat(nextYear.getTotalHour()).isEqualTo(100);
+    }
+}
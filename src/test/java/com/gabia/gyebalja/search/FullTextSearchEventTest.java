@@ -0,0 +1,105 @@
+package com.gabia.gyebalja.search;
+
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.board.BoardAllResponseDto;
+import com.gabia.gyebalja.dto.board.BoardRequestDto;
+import com.gabia.gyebalja.dto.education.EducationRequestDto;
+import com.gabia.gyebalja.repository.CategoryRepository;
+import com.gabia.gyebalja.repository.DepartmentRepository;
+import com.gabia.gyebalja.repository.UserRepository;
+import com.gabia.gyebalja.service.BoardService;
+import com.gabia.gyebalja.service.EducationService;
+import com.gabia.gyebalja.service.FullTextSearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 전문 검색 - 커밋 이후 이벤트 반영 (이벤트는 커밋 이후에만 발행되므로 테스트 트랜잭션 없이 실행하고 종료 후 직접 삭제)
+ */
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class FullTextSearchEventTest {
+
+    @Autowired
+    FullTextSearchService fullTextSearchService;
+
+    @Autowired
+    EducationService educationService;
+
+    @Autowired
+    BoardService boardService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    DepartmentRepository departmentRepository;
+
+    private Department department;
+    private Category category;
+    private User user;
+    private Long educationId;
+
+    @BeforeEach
+    public void setUp() {
+        department = departmentRepository.save(Department.builder().name("검색이벤트팀").depth(0).parentDepartment(null).build());
+        category = categoryRepository.save(Category.builder().name("검색이벤트").build());
+        user = userRepository.save(User.builder().email("search-event@gabia.com").name("검색이벤트").gender(GenderType.MALE).positionId(5L).positionName("직원").department(department).build());
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        if (educationId != null) educationService.deleteOneEducation(educationId);
+        userRepository.delete(user);
+        categoryRepository.delete(category);
+        departmentRepository.delete(department);
+    }
+
+    @Test
+    @DisplayName("FullTextSearchService.onBoardChanged() - 교육 삭제로 함께 삭제된 게시글도 커밋 이후 인덱스에서 제거")
+    public void onBoardChangedByEducationDeleteTest() throws Exception {
+        //given
+        educationId = educationService.postOneEducation(EducationRequestDto.builder()
+                .title("검색이벤트 교육").content("내용").startDate(LocalDate.now()).endDate(LocalDate.now()).totalHours(1)
+                .type(EducationType.ONLINE).place("가비아").categoryId(category.getId()).userId(user.getId()).hashTag("").build());
+        for (int i = 0; i < 3; i++) {
+            boardService.postOneBoard(BoardRequestDto.builder().title("교육삭제색인 후기 " + i).content("내용").userId(user.getId()).educationId(educationId).build());
+        }
+        assertThat(boardTitles()).containsExactlyInAnyOrder("교육삭제색인 후기 0", "교육삭제색인 후기 1", "교육삭제색인 후기 2");
+        long indexedCount = fullTextSearchService.searchBoards("교육삭제색인", 0, 1).getTotalCount();
+
+        //when
+        educationService.deleteOneEducation(educationId);
+        educationId = null;
+
+        //then - 조회 시 걸러지는 것이 아니라 인덱스에서 제거됨
+        assertThat(boardTitles()).isEmpty();
+        assertThat(fullTextSearchService.searchBoards("교육삭제색인", 0, 1).getTotalCount()).isEqualTo(indexedCount - 3);
+    }
+
+    private List<String> boardTitles() {
+        return fullTextSearchService.searchBoards("교육삭제색인", 0, FullTextSearchService.MAX_PAGE_SIZE).getContent().stream()
+                .map(BoardAllResponseDto::getTitle).filter(title -> title.startsWith("교육삭제색인")).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,114 @@
+package com.gabia.gyebalja.search;
+
+import com.gabia.gyebalja.domain.Board;
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.board.BoardAllResponseDto;
+import com.gabia.gyebalja.dto.education.EducationAllResponseDto;
+import com.gabia.gyebalja.dto.search.SearchResponseDto;
+import com.gabia.gyebalja.service.FullTextSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class FullTextSearchServiceTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    FullTextSearchService fullTextSearchService;
+
+    private User user;
+    private Education education;
+
+    @BeforeEach
+    public void setUp() {
+        Department department = Department.builder().name("테스트팀").depth(0).parentDepartment(null).build();
+        em.persist(department);
+        Category category = Category.builder().name("개발").build();
+        em.persist(category);
+        user = User.builder().email("search@gabia.com").name("가비아").gender(GenderType.MALE).positionId(5L).positionName("직원").department(department).build();
+        em.persist(user);
+        education = Education.builder().title("쿠버네티스운영 실습").content("<p>클러스터 구성과 배포</p>").startDate(LocalDate.now()).endDate(LocalDate.now())
+                .totalHours(8).type(EducationType.ONLINE).place("가비아").user(user).category(category).build();
+        em.persist(education);
+        em.persist(Board.builder().title("쿠버네티스운영 후기").content("클러스터 운영 경험 공유").views(0).user(user).education(education).build());
+        em.persist(Board.builder().title("교육 후기").content("쿠버네티스운영 교육에서 배운 점").views(0).user(user).education(education).build());
+        em.flush();
+        em.clear();
+
+        fullTextSearchService.rebuild();
+    }
+
+    private static List<String> boardTitles(SearchResponseDto<BoardAllResponseDto> response) {
+        return response.getContent().stream().map(BoardAllResponseDto::getTitle).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("FullTextSearchService.searchBoards()/searchEducations() 테스트 - 제목 일치가 본문 일치보다 먼저")
+    public void searchTest() throws Exception {
+        //when
+        SearchResponseDto<BoardAllResponseDto> boards = fullTextSearchService.searchBoards("쿠버네티스운영", 0, 10);
+        SearchResponseDto<EducationAllResponseDto> educations = fullTextSearchService.searchEducations("클러스터", 0, 10);
+
+        //then
+        assertThat(boardTitles(boards)).containsExactly("쿠버네티스운영 후기", "교육 후기");
+        assertThat(boards.getTotalCount()).isEqualTo(2);
+        assertThat(boards.getContent().get(0).getUserName()).isEqualTo("가비아");
+        assertThat(educations.getContent()).extracting(EducationAllResponseDto::getTitle).contains("쿠버네티스운영 실습");
+        assertThatThrownBy(() -> fullTextSearchService.searchBoards("쿠버네티스", 0, 1000)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(fullTextSearchService.searchBoards("쿠버네티스운영", Integer.MAX_VALUE, 100).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("FullTextSearchService.initialize() 테스트 - 파일 복원 후 저장 이후 수정된 문서만 다시 색인")
+    public void snapshotTest(@TempDir Path tempDir) throws Exception {
+        // 다른 테스트/실행과 인덱스 파일을 공유하지 않도록 테스트 전용 경로 사용
+        Object indexDir = ReflectionTestUtils.getField(fullTextSearchService, "indexDir");
+        ReflectionTestUtils.setField(fullTextSearchService, "indexDir", tempDir.toString());
+        try {
+            //given
+            fullTextSearchService.saveSnapshots();
+            em.persist(Board.builder().title("쿠버네티스운영 추가 후기").content("저장 이후 작성").views(0).user(em.find(User.class, user.getId()))
+                    .education(em.find(Education.class, education.getId())).build());
+            em.flush();
+
+            //when
+            fullTextSearchService.initialize();
+            SearchResponseDto<BoardAllResponseDto> boards = fullTextSearchService.searchBoards("쿠버네티스운영", 0, 10);
+
+            //then
+            assertThat(tempDir.resolve("board.idx")).exists();
+            assertThat(boardTitles(boards)).contains("쿠버네티스운영 후기", "교육 후기", "쿠버네티스운영 추가 후기");
+        } finally {
+            ReflectionTestUtils.setField(fullTextSearchService, "indexDir", indexDir);
+        }
+    }
+}
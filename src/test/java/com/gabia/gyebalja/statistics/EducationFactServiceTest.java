@@ -0,0 +1,116 @@
+package com.gabia.gyebalja.statistics;
+
+import com.gabia.gyebalja.common.columnar.FactDimension;
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.EduTag;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.Tag;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.statistics.StatisticsFactResponseDto;
+import com.gabia.gyebalja.service.EducationFactService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class EducationFactServiceTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    EducationFactService educationFactService;
+
+    private Department department;
+    private Category category;
+    private Tag tag;
+
+    @BeforeEach
+    public void setUp() {
+        department = Department.builder().name("팩트테스트팀").depth(0).parentDepartment(null).build();
+        em.persist(department);
+        category = Category.builder().name("팩트테스트").build();
+        em.persist(category);
+        tag = Tag.builder().name("#팩트테스트").build();
+        em.persist(tag);
+
+        for (int i = 0; i < 3; i++) {
+            User user = User.builder().email("fact" + i + "@gabia.com").name("팩트" + i).gender(GenderType.MALE).positionId(5L).positionName("직원").department(department).build();
+            em.persist(user);
+            for (int j = 0; j <= i; j++) {
+                Education education = Education.builder().title("교육").content("내용").startDate(LocalDate.of(2019, 1 + j, 1)).endDate(LocalDate.of(2019, 1 + j, 2))
+                        .totalHours(2).type(EducationType.ONLINE).place("가비아").user(user).category(category).build();
+                em.persist(education);
+                if (j == 0) em.persist(EduTag.builder().education(education).tag(tag).build());
+            }
+        }
+        em.flush();
+        em.clear();
+
+        educationFactService.rebuild();
+    }
+
+    @Test
+    @DisplayName("EducationFactService.getFacts() 테스트 - 부서 조건, 사용자 상위 n, 이름 조회")
+    public void getFactsTest() throws Exception {
+        //when
+        StatisticsFactResponseDto byUser = educationFactService.getFacts(FactDimension.USER, 2019, null, department.getId(), null, null, 2, "hours");
+        StatisticsFactResponseDto byMonth = educationFactService.getFacts(FactDimension.MONTH, 2019, null, department.getId(), null, null, null, "hours");
+        StatisticsFactResponseDto byTag = educationFactService.getFacts(FactDimension.TAG, null, null, null, category.getId(), null, null, "count");
+        StatisticsFactResponseDto total = educationFactService.getFacts(null, null, null, department.getId(), null, null, null, "count");
+
+        //then
+        assertThat(byUser.getTotalCount()).isEqualTo(6);
+        assertThat(byUser.getTotalHours()).isEqualTo(12);
+        assertThat(byUser.getGroups()).extracting("name").containsExactly("팩트2", "팩트1");
+        assertThat(byMonth.getGroups()).extracting("key").containsExactly(1L, 2L, 3L);
+        assertThat(byMonth.getGroups()).extracting("count").containsExactly(3L, 2L, 1L);
+        assertThat(byTag.getGroups()).extracting("name").containsExactly("#팩트테스트");
+        assertThat(byTag.getGroups().get(0).getCount()).isEqualTo(3);
+        assertThat(total.getGroups()).isEmpty();
+        assertThat(total.getTotalCount()).isEqualTo(6);
+        assertThatThrownBy(() -> educationFactService.getFacts(FactDimension.USER, null, null, null, null, null, 0, "hours"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("EducationFactService.initialize() 테스트 - 스냅샷 복원 후 저장 이후 추가/삭제된 교육만 반영")
+    public void snapshotTest() throws Exception {
+        //given
+        educationFactService.saveSnapshot();
+        User user = em.createQuery("select u from User u where u.email = 'fact0@gabia.com'", User.class).getSingleResult();
+        em.persist(Education.builder().title("교육").content("내용").startDate(LocalDate.of(2019, 5, 1)).endDate(LocalDate.of(2019, 5, 2))
+                .totalHours(5).type(EducationType.ONLINE).place("가비아").user(user).category(em.find(Category.class, category.getId())).build());
+        em.remove(em.createQuery("select e from Education e where e.user.email = 'fact2@gabia.com' and e.startDate = :startDate", Education.class)
+                .setParameter("startDate", LocalDate.of(2019, 3, 1)).getSingleResult());
+        em.flush();
+
+        //when
+        educationFactService.initialize();
+        StatisticsFactResponseDto byMonth = educationFactService.getFacts(FactDimension.MONTH, 2019, null, department.getId(), null, null, null, "hours");
+
+        //then
+        assertThat(byMonth.getTotalCount()).isEqualTo(6);
+        assertThat(byMonth.getTotalHours()).isEqualTo(15);
+        assertThat(byMonth.getGroups()).extracting("key").containsExactly(1L, 2L, 5L);
+    }
+}
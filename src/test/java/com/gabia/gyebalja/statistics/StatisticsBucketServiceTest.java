@@ -0,0 +1,131 @@
+package com.gabia.gyebalja.statistics;
+
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.statistics.StatisticsGranularity;
+import com.gabia.gyebalja.dto.statistics.StatisticsRangeResponseDto;
+import com.gabia.gyebalja.repository.StatisticsDayLockRepository;
+import com.gabia.gyebalja.service.StatisticsBucketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class StatisticsBucketServiceTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    StatisticsBucketService statisticsBucketService;
+
+    @Autowired
+    StatisticsDayLockRepository statisticsDayLockRepository;
+
+    private Department department;
+    private Category category;
+    private Education movedEducation;
+
+    @BeforeEach
+    public void setUp() {
+        department = Department.builder().name("버킷테스트팀").depth(0).parentDepartment(null).build();
+        em.persist(department);
+        category = Category.builder().name("버킷테스트").build();
+        em.persist(category);
+        User user = User.builder().email("bucket@gabia.com").name("버킷").gender(GenderType.MALE).positionId(5L).positionName("직원").department(department).build();
+        em.persist(user);
+
+        // 2019-03-29, 2019-04-01, 2019-04-01, 2019-06-30, 2019-07-15 (교육 시간 1, 2, 3, 4, 5)
+        LocalDate[] startDates = {LocalDate.of(2019, 3, 29), LocalDate.of(2019, 4, 1), LocalDate.of(2019, 4, 1), LocalDate.of(2019, 6, 30), LocalDate.of(2019, 7, 15)};
+        for (int i = 0; i < startDates.length; i++) {
+            Education education = Education.builder().title("교육").content("내용").startDate(startDates[i]).endDate(startDates[i])
+                    .totalHours(i + 1).type(EducationType.ONLINE).place("가비아").user(user).category(category).build();
+            em.persist(education);
+            if (i == 4) movedEducation = education;
+        }
+        em.flush();
+        em.clear();
+
+        statisticsBucketService.rebuild();
+    }
+
+    @Test
+    @DisplayName("StatisticsBucketService.getRangeStatistics() 테스트 - 월/분기(회계연도 4월 시작)/주 구간, 빈 구간 포함")
+    public void getRangeStatisticsTest() throws Exception {
+        //when
+        StatisticsRangeResponseDto byMonth = statisticsBucketService.getRangeStatistics(LocalDate.of(2019, 3, 15), LocalDate.of(2019, 7, 10),
+                StatisticsGranularity.MONTH, category.getId(), null, false, 1);
+        StatisticsRangeResponseDto byFiscalQuarter = statisticsBucketService.getRangeStatistics(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 12, 31),
+                StatisticsGranularity.QUARTER, category.getId(), department.getId(), false, 4);
+        StatisticsRangeResponseDto byWeek = statisticsBucketService.getRangeStatistics(LocalDate.of(2019, 3, 28), LocalDate.of(2019, 4, 3),
+                StatisticsGranularity.WEEK, category.getId(), null, false, 1);
+
+        //then
+        assertThat(byMonth.getTotalCount()).isEqualTo(4);
+        assertThat(byMonth.getTotalHours()).isEqualTo(10);
+        assertThat(byMonth.getPeriods()).extracting("startDate").containsExactly(LocalDate.of(2019, 3, 15), LocalDate.of(2019, 4, 1),
+                LocalDate.of(2019, 5, 1), LocalDate.of(2019, 6, 1), LocalDate.of(2019, 7, 1));
+        assertThat(byMonth.getPeriods()).extracting("count").containsExactly(1L, 2L, 0L, 1L, 0L);
+        assertThat(byMonth.getPeriods().get(4).getEndDate()).isEqualTo(LocalDate.of(2019, 7, 10));
+
+        assertThat(byFiscalQuarter.getPeriods()).extracting("startDate").containsExactly(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 4, 1),
+                LocalDate.of(2019, 7, 1), LocalDate.of(2019, 10, 1));
+        assertThat(byFiscalQuarter.getPeriods()).extracting("hours").containsExactly(1L, 9L, 5L, 0L);
+
+        assertThat(byWeek.getPeriods()).extracting("startDate").containsExactly(LocalDate.of(2019, 3, 28), LocalDate.of(2019, 4, 1));
+        assertThat(byWeek.getPeriods()).extracting("count").containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("StatisticsBucketService.refresh() 테스트 - 시작일 변경 시 이전/현재 날짜 재집계")
+    public void refreshTest() throws Exception {
+        //given
+        LocalDate previousStartDate = movedEducation.getStartDate();
+        LocalDate newStartDate = LocalDate.of(2019, 5, 20);
+        em.createQuery("update Education e set e.startDate = :startDate where e.id = :id")
+                .setParameter("startDate", newStartDate).setParameter("id", movedEducation.getId()).executeUpdate();
+
+        //when
+        statisticsBucketService.refresh(Arrays.asList(previousStartDate, newStartDate));
+        statisticsBucketService.refresh(Arrays.asList(newStartDate, previousStartDate));
+        StatisticsRangeResponseDto byMonth = statisticsBucketService.getRangeStatistics(LocalDate.of(2019, 5, 1), LocalDate.of(2019, 7, 31),
+                StatisticsGranularity.MONTH, category.getId(), null, false, 1);
+
+        //then
+        assertThat(byMonth.getPeriods()).extracting("hours").containsExactly(5L, 4L, 0L);
+        assertThat(byMonth.getTotalCount()).isEqualTo(2);
+        assertThat(statisticsDayLockRepository.findDaysIn(Arrays.asList(previousStartDate, newStartDate))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("StatisticsBucketService.getRangeStatistics() 테스트 - 잘못된 기간")
+    public void invalidRangeTest() throws Exception {
+        assertThatThrownBy(() -> statisticsBucketService.getRangeStatistics(LocalDate.of(2019, 2, 1), LocalDate.of(2019, 1, 1), StatisticsGranularity.DAY, null, null, false, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> statisticsBucketService.getRangeStatistics(LocalDate.of(2000, 1, 1), LocalDate.of(2019, 1, 1), StatisticsGranularity.DAY, null, null, false, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> statisticsBucketService.getRangeStatistics(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 2, 1), StatisticsGranularity.YEAR, null, null, false, 13))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -25,6 +25,7 @@ import com.gabia.gyebalja.repository.StatisticsRepository;
 import com.gabia.gyebalja.repository.TagRepository;
 import com.gabia.gyebalja.repository.UserRepository;
 import com.gabia.gyebalja.service.StatisticsService;
+import com.gabia.gyebalja.service.UserYearSummaryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,9 @@ public class StatisticsServiceTest {
     @Autowired
     private StatisticsService statisticsService;
 
+    @Autowired
+    private UserYearSummaryService userYearSummaryService;
+
     private Department department;
     private User user;
     private Category category;
@@ -329,7 +333,6 @@ public class StatisticsServiceTest {
     public void getEducationStatisticsWithHour() throws Exception {
         //given
         LocalDate currentDate = LocalDate.now();
-        String currentYear = Integer.toString(currentDate.getYear());
         int hours = 10;
         int totalNumberOfData = 5;
         Education education;
@@ -348,16 +351,18 @@ public class StatisticsServiceTest {
             this.educationRepository.save(education);
             this.eduTagRepository.save(EduTag.builder().education(education).tag(this.tag).build());
         }
+        userYearSummaryService.rebuild(); //교육을 repository 로 직접 저장했으므로 사용자 연도별 합계 재집계
 
         //when
         long totalUsers = userRepository.count();
-        Long totalHours = statisticsRepository.getEducationStatisticsWithCompanyTotalHours(currentYear);
-        Long userTotalHours = statisticsRepository.getEducationStatisticsWithIndividualTotalHours(this.user.getId(), currentYear);
+        long totalHours = userYearSummaryService.getCompanyTotalHours(currentDate.getYear());
+        long userTotalHours = userYearSummaryService.getUserSummary(this.user.getId(), currentDate.getYear()).getTotalHours();
 
         StatisticsEducationHourResponseDto statisticsEducationHourResponseDto = statisticsService.getEducationStatisticsWithHour(this.user.getId());
 
         //then
         assertThat(statisticsEducationHourResponseDto.getAverageCompHour()).isEqualTo(totalHours/totalUsers);
+        assertThat(userTotalHours).isEqualTo(hours * totalNumberOfData);
         assertThat(statisticsEducationHourResponseDto.getIndividualHour()).isEqualTo(userTotalHours);
     }
 
@@ -384,6 +389,7 @@ public class StatisticsServiceTest {
                     .build();
             this.educationRepository.save(education);
             this.eduTagRepository.save(EduTag.builder().education(education).tag(this.tag).build());
+            userYearSummaryService.rebuild();
 
             //when
             StatisticsEducationRankResponseDto statisticsEducationRankResponseDto = statisticsService.getEducationStatisticsWithRank(this.user.getId());
@@ -0,0 +1,126 @@
+package com.gabia.gyebalja.statistics;
+
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.education.EducationRequestDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsTrendingTagDto;
+import com.gabia.gyebalja.repository.CategoryRepository;
+import com.gabia.gyebalja.repository.DepartmentRepository;
+import com.gabia.gyebalja.repository.TagRepository;
+import com.gabia.gyebalja.repository.UserRepository;
+import com.gabia.gyebalja.service.EducationService;
+import com.gabia.gyebalja.service.TrendingTagService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+/**
+ * 인기 급상승 태그 - 커밋 이후 이벤트 반영 (이벤트는 커밋 이후에만 발행되므로 테스트 트랜잭션 없이 실행하고 종료 후 직접 삭제)
+ */
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class TrendingTagEventTest {
+
+    @Autowired
+    TrendingTagService trendingTagService;
+
+    @Autowired
+    EducationService educationService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    DepartmentRepository departmentRepository;
+
+    @Autowired
+    TagRepository tagRepository;
+
+    private Department department;
+    private Category category;
+    private User user;
+    private final List<Long> educationIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        department = departmentRepository.save(Department.builder().name("트렌드이벤트팀").depth(0).parentDepartment(null).build());
+        category = categoryRepository.save(Category.builder().name("트렌드이벤트").build());
+        user = userRepository.save(User.builder().email("trend-event@gabia.com").name("트렌드이벤트").gender(GenderType.MALE).positionId(5L).positionName("직원").department(department).build());
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        for (Long educationId : educationIds) {
+            educationService.deleteOneEducation(educationId);
+        }
+        tagRepository.deleteAll(tagRepository.findByNameIn(Arrays.asList("#급상승e")));
+        userRepository.delete(user);
+        categoryRepository.delete(category);
+        departmentRepository.delete(department);
+    }
+
+    @Test
+    @DisplayName("TrendingTagService.onEduTagChanged() - 교육 등록/수정/삭제 커밋 이후 다시 조회한 횟수로 반영")
+    public void onEduTagChangedTest() throws Exception {
+        //given - 재생성 이후 등록
+        trendingTagService.rebuild();
+        for (int i = 0; i < 40; i++) {
+            educationIds.add(educationService.postOneEducation(request("#급상승e")));
+        }
+
+        //then
+        assertThat(count("#급상승e")).contains(40L);
+
+        //when - 10 건은 태그 제거, 5 건은 교육 삭제
+        for (int i = 0; i < 10; i++) {
+            educationService.putOneEducation(educationIds.get(i), request(""));
+        }
+        for (int i = 0; i < 5; i++) {
+            educationService.deleteOneEducation(educationIds.remove(educationIds.size() - 1));
+        }
+
+        //then
+        assertThat(count("#급상승e")).contains(25L);
+    }
+
+    private Optional<Long> count(String name) {
+        return trendingTagService.getTrendingTags(7, TrendingTagService.MAX_SIZE).getTags().stream()
+                .filter(t -> t.getName().equals(name)).map(StatisticsTrendingTagDto::getCount).findFirst();
+    }
+
+    private EducationRequestDto request(String hashTag) {
+        return EducationRequestDto.builder()
+                .title("트렌드 이벤트 교육")
+                .content("내용")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .totalHours(1)
+                .type(EducationType.ONLINE)
+                .place("가비아")
+                .categoryId(category.getId())
+                .userId(user.getId())
+                .hashTag(hashTag)
+                .build();
+    }
+}
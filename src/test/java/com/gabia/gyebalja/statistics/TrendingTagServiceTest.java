@@ -0,0 +1,152 @@
+package com.gabia.gyebalja.statistics;
+
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.education.EducationRequestDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsTrendingTagDto;
+import com.gabia.gyebalja.dto.statistics.StatisticsTrendingTagResponseDto;
+import com.gabia.gyebalja.service.EducationService;
+import com.gabia.gyebalja.service.TrendingTagService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class TrendingTagServiceTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    TrendingTagService trendingTagService;
+
+    @Autowired
+    EducationService educationService;
+
+    private Category category;
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        Department department = Department.builder().name("트렌드테스트팀").depth(0).parentDepartment(null).build();
+        em.persist(department);
+        category = Category.builder().name("트렌드테스트").build();
+        em.persist(category);
+        user = User.builder().email("trend@gabia.com").name("트렌드").gender(GenderType.MALE).positionId(5L).positionName("직원").department(department).build();
+        em.persist(user);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("TrendingTagService.getTrendingTags() - 재생성 후 후보 태그를 정확한 횟수로 정렬, 수정/삭제로 빠진 관계 제외")
+    public void getTrendingTagsTest() throws Exception {
+        //given - 급상승a 30 건, 급상승b 20 건 (그중 5 건은 수정으로 태그 제거, 5 건은 교육 삭제)
+        List<Long> educationIdsWithB = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            educationService.postOneEducation(request("#급상승a"));
+        }
+        for (int i = 0; i < 20; i++) {
+            educationIdsWithB.add(educationService.postOneEducation(request("#급상승b")));
+        }
+        for (int i = 0; i < 5; i++) {
+            educationService.putOneEducation(educationIdsWithB.get(i), request(""));
+            educationService.deleteOneEducation(educationIdsWithB.get(5 + i));
+        }
+        em.flush();
+        em.clear();
+
+        //when
+        trendingTagService.rebuild();
+        StatisticsTrendingTagResponseDto response = trendingTagService.getTrendingTags(7, TrendingTagService.MAX_SIZE);
+
+        //then
+        assertThat(response.getTo()).isEqualTo(LocalDate.now());
+        assertThat(response.getFrom()).isEqualTo(LocalDate.now().minusDays(6));
+        StatisticsTrendingTagDto tagA = find(response, "#급상승a").get();
+        StatisticsTrendingTagDto tagB = find(response, "#급상승b").get();
+        assertThat(tagA.getCount()).isEqualTo(30);
+        assertThat(tagB.getCount()).isEqualTo(10);
+        assertThat(response.getTags().indexOf(tagA)).isLessThan(response.getTags().indexOf(tagB));
+        for (int i = 1; i < response.getTags().size(); i++) {
+            assertThat(response.getTags().get(i - 1).getCount()).isGreaterThanOrEqualTo(response.getTags().get(i).getCount());
+        }
+    }
+
+    @Test
+    @DisplayName("TrendingTagService.getTrendingTags() - 교육 수정 시 그대로 남는 태그는 오늘 사용한 것으로 집계하지 않음")
+    public void keepEduTagOnPutTest() throws Exception {
+        //given - 30 일 전에 등록한 #유지d 교육 20 건에 #추가d 태그 추가
+        List<Long> educationIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            educationIds.add(educationService.postOneEducation(request("#유지d")));
+        }
+        em.flush();
+        em.createQuery("update EduTag et set et.createdDate = :createdDate where et.education.id in :educationIds")
+                .setParameter("createdDate", LocalDate.now().minusDays(30).atStartOfDay())
+                .setParameter("educationIds", educationIds)
+                .executeUpdate();
+        em.clear();
+        for (Long educationId : educationIds) {
+            educationService.putOneEducation(educationId, request("#유지d #추가d"));
+        }
+        em.flush();
+        em.clear();
+
+        //when
+        trendingTagService.rebuild();
+        StatisticsTrendingTagResponseDto response = trendingTagService.getTrendingTags(7, TrendingTagService.MAX_SIZE);
+
+        //then
+        assertThat(find(response, "#유지d")).isEmpty();
+        assertThat(find(response, "#추가d").get().getCount()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("TrendingTagService.getTrendingTags() - days, size 범위 검증")
+    public void validateTest() throws Exception {
+        assertThatThrownBy(() -> trendingTagService.getTrendingTags(0, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trendingTagService.getTrendingTags(TrendingTagService.MAX_DAYS + 1, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trendingTagService.getTrendingTags(7, TrendingTagService.MAX_SIZE + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Optional<StatisticsTrendingTagDto> find(StatisticsTrendingTagResponseDto response, String name) {
+        return response.getTags().stream().filter(t -> t.getName().equals(name)).findFirst();
+    }
+
+    private EducationRequestDto request(String hashTag) {
+        return EducationRequestDto.builder()
+                .title("트렌드 교육")
+                .content("내용")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .totalHours(1)
+                .type(EducationType.ONLINE)
+                .place("가비아")
+                .categoryId(category.getId())
+                .userId(user.getId())
+                .hashTag(hashTag)
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.gabia.gyebalja.statistics;
+
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.domain.UserYearSummary;
+import com.gabia.gyebalja.dto.education.EducationRequestDto;
+import com.gabia.gyebalja.service.EducationService;
+import com.gabia.gyebalja.service.UserYearSummaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 이현재
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class UserYearSummaryServiceTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    UserYearSummaryService userYearSummaryService;
+
+    @Autowired
+    EducationService educationService;
+
+    private Department department;
+    private Category category;
+    private User user;
+    private User colleague;
+
+    @BeforeEach
+    public void setUp() {
+        department = Department.builder().name("합계테스트팀").depth(0).parentDepartment(null).build();
+        em.persist(department);
+        category = Category.builder().name("합계테스트").build();
+        em.persist(category);
+        user = User.builder().email("summary@gabia.com").name("합계").gender(GenderType.MALE).positionId(5L).positionName("직원").department(department).build();
+        em.persist(user);
+        colleague = User.builder().email("summary2@gabia.com").name("동료").gender(GenderType.FEMALE).positionId(5L).positionName("직원").department(department).build();
+        em.persist(colleague);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("UserYearSummaryService - 교육 등록/수정/삭제가 같은 트랜잭션에서 사용자, 회사 연도 합계에 반영")
+    public void maintainedByEducationServiceTest() throws Exception {
+        //given
+        long companyHours2002 = companyHours(2002);
+        long companyHours2003 = companyHours(2003);
+
+        //when
+        Long first = educationService.postOneEducation(request(user, LocalDate.of(2002, 3, 1), 4));
+        Long second = educationService.postOneEducation(request(user, LocalDate.of(2002, 5, 1), 6));
+        educationService.putOneEducation(second, request(user, LocalDate.of(2002, 5, 1), 9)); // 같은 연도 시간만 변경
+        educationService.putOneEducation(first, request(user, LocalDate.of(2003, 1, 2), 4));   // 연도 변경
+        educationService.postOneEducation(request(colleague, LocalDate.of(2002, 7, 1), 20));
+        Long deleted = educationService.postOneEducation(request(colleague, LocalDate.of(2002, 8, 1), 5));
+        educationService.deleteOneEducation(deleted);
+
+        //then
+        UserYearSummary user2002 = userYearSummaryService.getUserSummary(user.getId(), 2002);
+        UserYearSummary user2003 = userYearSummaryService.getUserSummary(user.getId(), 2003);
+        UserYearSummary colleague2002 = userYearSummaryService.getUserSummary(colleague.getId(), 2002);
+        assertThat(user2002.getTotalHours()).isEqualTo(9);
+        assertThat(user2002.getEducationCount()).isEqualTo(1);
+        assertThat(user2003.getTotalHours()).isEqualTo(4);
+        assertThat(user2003.getEducationCount()).isEqualTo(1);
+        assertThat(colleague2002.getTotalHours()).isEqualTo(20);
+        assertThat(colleague2002.getEducationCount()).isEqualTo(1);
+        assertThat(companyHours(2002)).isEqualTo(companyHours2002 + 29);
+        assertThat(companyHours(2003)).isEqualTo(companyHours2003 + 4);
+
+        // 동료가 더 많으므로 부서 내 2등, 동료는 1등
+        assertThat(userYearSummaryService.getRankInDepartment(department.getId(), 2002, user2002.getTotalHours())).isEqualTo(2);
+        assertThat(userYearSummaryService.getRankInDepartment(department.getId(), 2002, colleague2002.getTotalHours())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("UserYearSummaryService.rebuild() - 교육 테이블에서 다시 집계한 값이 증감으로 유지한 값과 같음")
+    public void rebuildTest() throws Exception {
+        //given
+        Long first = educationService.postOneEducation(request(user, LocalDate.of(2002, 3, 1), 4));
+        educationService.postOneEducation(request(colleague, LocalDate.of(2002, 7, 1), 20));
+        educationService.putOneEducation(first, request(user, LocalDate.of(2002, 3, 1), 7));
+        em.flush();
+        long maintainedCompanyHours = companyHours(2002);
+        em.clear();
+
+        //when
+        userYearSummaryService.rebuild();
+
+        //then
+        assertThat(userYearSummaryService.getUserSummary(user.getId(), 2002).getTotalHours()).isEqualTo(7);
+        assertThat(userYearSummaryService.getUserSummary(colleague.getId(), 2002).getTotalHours()).isEqualTo(20);
+        assertThat(companyHours(2002)).isEqualTo(maintainedCompanyHours);
+    }
+
+    private long companyHours(int year) {
+        em.flush();
+        em.clear();
+        return userYearSummaryService.getCompanyTotalHours(year);
+    }
+
+    private EducationRequestDto request(User user, LocalDate startDate, int totalHours) {
+        return EducationRequestDto.builder()
+                .title("합계 교육")
+                .content("내용")
+                .startDate(startDate)
+                .endDate(startDate)
+                .totalHours(totalHours)
+                .type(EducationType.ONLINE)
+                .place("가비아")
+                .categoryId(category.getId())
+                .userId(user.getId())
+                .hashTag("")
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.gabia.gyebalja.tag;
+
+import com.gabia.gyebalja.domain.Category;
+import com.gabia.gyebalja.domain.EduTag;
+import com.gabia.gyebalja.domain.Education;
+import com.gabia.gyebalja.domain.EducationType;
+import com.gabia.gyebalja.domain.Tag;
+import com.gabia.gyebalja.dto.tag.TagAutocompleteResponseDto;
+import com.gabia.gyebalja.service.TagAutocompleteService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class TagAutocompleteServiceTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    TagAutocompleteService tagAutocompleteService;
+
+    @Test
+    @DisplayName("TagAutocompleteService.autocomplete() 테스트 - 초성 검색, 교육-태그 사용 횟수 순")
+    public void autocompleteTest() throws Exception {
+        //given
+        Category category = Category.builder().name("개발자").build();
+        em.persist(category);
+        Tag java = Tag.builder().name("#자동완성자바").build();
+        Tag javascript = Tag.builder().name("#자동완성자바스크립트").build();
+        em.persist(java);
+        em.persist(javascript);
+        for (int i = 0; i < 3; i++) {
+            Education education = Education.builder().title("교육" + i).content("내용").startDate(LocalDate.now()).endDate(LocalDate.now())
+                    .totalHours(1).type(EducationType.ONLINE).place("가비아").category(category).build();
+            em.persist(education);
+            em.persist(EduTag.builder().education(education).tag(javascript).build());
+            if (i == 0) em.persist(EduTag.builder().education(education).tag(java).build());
+        }
+        em.flush();
+
+        //when
+        tagAutocompleteService.rebuild();
+        List<TagAutocompleteResponseDto> result = tagAutocompleteService.autocomplete("ㅈㄷㅇㅅㅈㅂ", 10);
+
+        //then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getName()).isEqualTo("#자동완성자바스크립트");
+        assertThat(result.get(0).getUsageCount()).isEqualTo(3L);
+        assertThat(result.get(1).getId()).isEqualTo(java.getId());
+        assertThat(result.get(1).getUsageCount()).isEqualTo(1L);
+    }
+}
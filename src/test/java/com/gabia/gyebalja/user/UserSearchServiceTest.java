@@ -0,0 +1,108 @@
+package com.gabia.gyebalja.user;
+
+import com.gabia.gyebalja.domain.Department;
+import com.gabia.gyebalja.domain.GenderType;
+import com.gabia.gyebalja.domain.User;
+import com.gabia.gyebalja.dto.user.UserSearchResponseDto;
+import com.gabia.gyebalja.service.UserSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Author : 정태균
+ * Part : All
+ */
+
+@Transactional
+@SpringBootTest(properties = "spring.config.location=classpath:application-test.yml")
+public class UserSearchServiceTest {
+
+    @PersistenceContext
+    EntityManager em;
+
+    @Autowired
+    UserSearchService userSearchService;
+
+    @BeforeEach
+    public void setUp() {
+        Department department = Department.builder().name("검색테스트팀").depth(0).parentDepartment(null).build();
+        em.persist(department);
+        em.persist(createUser("검색홍길동", "Searchgildong Hong", "searchgildong@gabia.com", department));
+        em.persist(createUser("검색홍", "Searchhong Kim", "searchhong@gabia.com", department));
+        em.persist(createUser("검색강감찬", "Searchkang Gamchan", "searchkang@gabia.com", department));
+        em.flush();
+
+        userSearchService.rebuild();
+    }
+
+    private static User createUser(String name, String engName, String email, Department department) {
+        return User.builder()
+                .email(email)
+                .name(name)
+                .engName(engName)
+                .gender(GenderType.MALE)
+                .phone("010-2345-5678")
+                .tel("02-2345-5678")
+                .positionId(5L)
+                .positionName("직원")
+                .department(department)
+                .profileImg(null)
+                .build();
+    }
+
+    private static List<String> names(List<UserSearchResponseDto> users) {
+        return users.stream().map(UserSearchResponseDto::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("UserSearchService.searchUsers() 테스트 - 이름/초성/영문/이메일/부서명")
+    public void searchUsersTest() throws Exception {
+        //when
+        List<UserSearchResponseDto> byName = userSearchService.searchUsers("검색홍", 10);
+        List<UserSearchResponseDto> byChosung = userSearchService.searchUsers("ㄱㅅㄱ", 10);
+        List<UserSearchResponseDto> byEngName = userSearchService.searchUsers("GAMCHAN", 10);
+        List<UserSearchResponseDto> byEmail = userSearchService.searchUsers("searchgildong@", 10);
+        List<UserSearchResponseDto> byDept = userSearchService.searchUsers("검색테스트", 2);
+
+        //then
+        assertThat(names(byName)).containsExactly("검색홍", "검색홍길동");
+        assertThat(names(byChosung)).containsExactly("검색강감찬");
+        assertThat(names(byEngName)).containsExactly("검색강감찬");
+        assertThat(byEmail).hasSize(1);
+        assertThat(byEmail.get(0).getDeptName()).isEqualTo("검색테스트팀");
+        assertThat(byDept).hasSize(2);
+        assertThat(userSearchService.searchUsers("없는사용자", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("UserSearchService.searchUsers() 테스트 - 부서명 일치 사용자가 MAX_LIMIT 건을 넘어도 이름 일치 사용자 우선")
+    public void searchUsersNameFirstTest() throws Exception {
+        //given - 이름순으로 앞서는 '가나...' 사용자 25명이 부서명 '다라검색팀' 으로 '다라' 에 일치, 이름이 '다라' 로 시작하는 사용자는 한 명
+        Department department = Department.builder().name("다라검색팀").depth(0).parentDepartment(null).build();
+        em.persist(department);
+        for (int i = 0; i < 25; i++) {
+            em.persist(createUser("가나" + (char) ('가' + i), null, "ganada" + i + "@gabia.com", department));
+        }
+        em.persist(createUser("다라마", null, "darama@gabia.com", department));
+        em.flush();
+        userSearchService.rebuild();
+
+        //when
+        List<UserSearchResponseDto> users = userSearchService.searchUsers("다라", 5);
+
+        //then
+        assertThat(users).hasSize(5);
+        assertThat(users.get(0).getName()).isEqualTo("다라마");
+    }
+}